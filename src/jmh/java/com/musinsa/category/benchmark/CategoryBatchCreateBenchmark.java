@@ -0,0 +1,87 @@
+package com.musinsa.category.benchmark;
+
+import com.musinsa.category.MusinsaCategoryApiApplication;
+import com.musinsa.category.dto.CategoryBatchRequest;
+import com.musinsa.category.dto.CategoryBatchResponse;
+import com.musinsa.category.service.CategoryService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 카테고리 트리 일괄 생성 (CategoryService.createCategoryTree) 응답 시간
+ * - test 프로필의 H2 메모리 DB 로 애플리케이션 컨텍스트를 띄우고 서비스를 직접 호출 (JSON 역직렬화 제외)
+ * - 루트 10개 x 자식 33개 x 손자 29개 = 9,910개, 호출마다 이름 접두어를 바꿔 루트 이름 충돌을 피함
+ * - 한 번 호출이 수 초 단위라 SingleShotTime 으로 호출 1번씩 측정
+ *
+ * 실행: ./mvnw -Pjmh test-compile exec:exec -Djmh.args="CategoryBatchCreateBenchmark"
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g", "-Dlogback.configurationFile=logback-benchmark.xml"})
+@State(Scope.Benchmark)
+public class CategoryBatchCreateBenchmark {
+
+    private static final int ROOT_COUNT = 10;
+    private static final int CHILD_COUNT = 33;
+    private static final int GRAND_CHILD_COUNT = 29;
+
+    private ConfigurableApplicationContext context;
+    private CategoryService categoryService;
+    private CategoryBatchRequest request;
+    private int invocation;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(MusinsaCategoryApiApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:batch-create-benchmark;DB_CLOSE_DELAY=-1",
+                        "spring.jpa.show-sql=false",
+                        "spring.jpa.properties.hibernate.show_sql=false",
+                        "logging.level.com.musinsa.category=WARN",
+                        "logging.level.org.springframework.test=WARN",
+                        "logging.level.org.hibernate.SQL=WARN")
+                .run();
+        categoryService = context.getBean(CategoryService.class);
+    }
+
+    @Setup(Level.Invocation)
+    public void prepareRequest() {
+        request = tree("벤치" + (++invocation) + "-");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public CategoryBatchResponse createCategoryTree() {
+        return categoryService.createCategoryTree(request, "benchmark");
+    }
+
+    private static CategoryBatchRequest tree(String prefix) {
+        List<CategoryBatchRequest.Node> roots = new ArrayList<>(ROOT_COUNT);
+        for (int i = 1; i <= ROOT_COUNT; i++) {
+            List<CategoryBatchRequest.Node> children = new ArrayList<>(CHILD_COUNT);
+            for (int j = 1; j <= CHILD_COUNT; j++) {
+                List<CategoryBatchRequest.Node> grandChildren = new ArrayList<>(GRAND_CHILD_COUNT);
+                for (int k = 1; k <= GRAND_CHILD_COUNT; k++) {
+                    grandChildren.add(CategoryBatchRequest.Node.builder().name(prefix + "손자" + i + "-" + j + "-" + k).build());
+                }
+                children.add(CategoryBatchRequest.Node.builder().name(prefix + "자식" + i + "-" + j).children(grandChildren).build());
+            }
+            roots.add(CategoryBatchRequest.Node.builder().name(prefix + "루트" + i).children(children).build());
+        }
+        return CategoryBatchRequest.builder().categories(roots).build();
+    }
+}
@@ -0,0 +1,171 @@
+package com.musinsa.category.benchmark;
+
+import com.musinsa.category.entity.Category;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * path LIKE 방식과 클로저 테이블 방식 비교 (H2 메모리 DB, 실제 스키마와 같은 인덱스)
+ * - subtree*: 깊이 1 카테고리의 하위 트리 전체 조회
+ * - ancestors*: 가장 깊은 카테고리의 조상 목록 조회
+ * - cycleCheck*: 이동 시 새 부모가 하위 카테고리인지 검사
+ *
+ * 실행: ./mvnw -Pjmh test-compile exec:exec -Djmh.args="CategoryClosureBenchmark"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g", "-Dlogback.configurationFile=logback-benchmark.xml"})
+@State(Scope.Benchmark)
+public class CategoryClosureBenchmark {
+
+    @Param({"100000"})
+    private int nodeCount;
+
+    private Connection connection;
+    private PreparedStatement subtreeByPath;
+    private PreparedStatement subtreeByClosure;
+    private PreparedStatement ancestorsByPath;
+    private PreparedStatement ancestorsByClosure;
+    private PreparedStatement pathsById;
+    private PreparedStatement cycleByClosure;
+
+    private Category subtreeRoot;
+    private Category deepest;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        List<Category> categories = SyntheticCategoryTree.entities(nodeCount);
+        connection = DriverManager.getConnection("jdbc:h2:mem:closure-benchmark;DB_CLOSE_DELAY=-1", "sa", "");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE categories (id BIGINT PRIMARY KEY, parent_id BIGINT, path VARCHAR(1000), " +
+                    "depth INT, display_order INT, is_active BOOLEAN)");
+            statement.execute("CREATE INDEX idx_categories_path ON categories (path)");
+            statement.execute("CREATE INDEX idx_categories_parent ON categories (parent_id)");
+            statement.execute("CREATE TABLE category_closure (ancestor_id BIGINT, descendant_id BIGINT, distance INT NOT NULL, " +
+                    "PRIMARY KEY (ancestor_id, descendant_id))");
+            statement.execute("CREATE INDEX idx_category_closure_descendant ON category_closure (descendant_id, distance)");
+        }
+        insertCategories(categories);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("INSERT INTO category_closure (ancestor_id, descendant_id, distance) " +
+                    "WITH RECURSIVE tree (ancestor_id, descendant_id, distance) AS (" +
+                    "SELECT id, id, 0 FROM categories UNION ALL " +
+                    "SELECT t.ancestor_id, c.id, t.distance + 1 FROM tree t JOIN categories c ON c.parent_id = t.descendant_id) " +
+                    "SELECT ancestor_id, descendant_id, distance FROM tree");
+        }
+
+        subtreeRoot = categories.stream().filter(category -> category.getDepth() == 1).findFirst().orElseThrow();
+        deepest = categories.get(categories.size() - 1);
+
+        subtreeByPath = connection.prepareStatement("SELECT c.id FROM categories c " +
+                "WHERE c.is_active = true AND c.path LIKE ? ORDER BY c.depth, c.display_order");
+        subtreeByClosure = connection.prepareStatement("SELECT c.id FROM category_closure cc " +
+                "JOIN categories c ON c.id = cc.descendant_id " +
+                "WHERE cc.ancestor_id = ? AND cc.distance > 0 AND c.is_active = true ORDER BY c.depth, c.display_order");
+        ancestorsByPath = connection.prepareStatement("SELECT c.id FROM categories c " +
+                "WHERE ? LIKE CONCAT(c.path, '/%') ORDER BY c.depth");
+        ancestorsByClosure = connection.prepareStatement("SELECT c.id FROM category_closure cc " +
+                "JOIN categories c ON c.id = cc.ancestor_id " +
+                "WHERE cc.descendant_id = ? AND cc.distance > 0 ORDER BY cc.distance DESC");
+        pathsById = connection.prepareStatement("SELECT path FROM categories WHERE id = ?");
+        cycleByClosure = connection.prepareStatement("SELECT 1 FROM category_closure " +
+                "WHERE ancestor_id = ? AND descendant_id = ?");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public List<Long> subtreeByPath() throws SQLException {
+        subtreeByPath.setString(1, subtreeRoot.getPath() + "/%");
+        return ids(subtreeByPath);
+    }
+
+    @Benchmark
+    public List<Long> subtreeByClosure() throws SQLException {
+        subtreeByClosure.setLong(1, subtreeRoot.getId());
+        return ids(subtreeByClosure);
+    }
+
+    @Benchmark
+    public List<Long> ancestorsByPath() throws SQLException {
+        ancestorsByPath.setString(1, deepest.getPath());
+        return ids(ancestorsByPath);
+    }
+
+    @Benchmark
+    public List<Long> ancestorsByClosure() throws SQLException {
+        ancestorsByClosure.setLong(1, deepest.getId());
+        return ids(ancestorsByClosure);
+    }
+
+    @Benchmark
+    public boolean cycleCheckByPath() throws SQLException {
+        // 기존 Category.isDescendantOf 와 같이 두 path 를 읽어 접두어 비교
+        String ancestorPath = path(subtreeRoot.getId());
+        String candidatePath = path(deepest.getId());
+        return candidatePath.startsWith(ancestorPath + "/");
+    }
+
+    @Benchmark
+    public boolean cycleCheckByClosure() throws SQLException {
+        cycleByClosure.setLong(1, subtreeRoot.getId());
+        cycleByClosure.setLong(2, deepest.getId());
+        try (ResultSet resultSet = cycleByClosure.executeQuery()) {
+            return resultSet.next();
+        }
+    }
+
+    private void insertCategories(List<Category> categories) throws SQLException {
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO categories " +
+                "(id, parent_id, path, depth, display_order, is_active) VALUES (?, ?, ?, ?, ?, ?)")) {
+            int batched = 0;
+            for (Category category : categories) {
+                insert.setLong(1, category.getId());
+                if (category.getParent() == null) {
+                    insert.setNull(2, Types.BIGINT);
+                } else {
+                    insert.setLong(2, category.getParent().getId());
+                }
+                insert.setString(3, category.getPath());
+                insert.setInt(4, category.getDepth());
+                insert.setInt(5, category.getDisplayOrder());
+                insert.setBoolean(6, true);
+                insert.addBatch();
+                if (++batched % 1000 == 0) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+    }
+
+    private String path(Long id) throws SQLException {
+        pathsById.setLong(1, id);
+        try (ResultSet resultSet = pathsById.executeQuery()) {
+            resultSet.next();
+            return resultSet.getString(1);
+        }
+    }
+
+    private static List<Long> ids(PreparedStatement statement) throws SQLException {
+        List<Long> ids = new ArrayList<>();
+        try (ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                ids.add(resultSet.getLong(1));
+            }
+        }
+        return ids;
+    }
+}
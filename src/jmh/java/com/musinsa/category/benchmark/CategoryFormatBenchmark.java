@@ -0,0 +1,91 @@
+package com.musinsa.category.benchmark;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.musinsa.category.cache.CategorySnapshot;
+import com.musinsa.category.cache.CategorySnapshotHolder;
+import com.musinsa.category.common.ApiResponse;
+import com.musinsa.category.enums.Gender;
+import com.musinsa.category.enums.ResponseFormat;
+import com.musinsa.category.service.CategoryService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 전체 트리 응답의 형식별(JSON/CBOR/Smile) 인코딩/디코딩 비용
+ * - encode: ApiResponse 로 감싼 트리 직렬화 (서버 쪽 비용, 캐시 미적중 시)
+ * - decode: 응답 바이트를 JsonNode 로 파싱 (호출하는 내부 서비스 쪽 비용)
+ * - 형식별 응답 크기는 Setup 에서 출력
+ *
+ * 실행: ./mvnw -Pjmh test-compile exec:exec -Djmh.args="CategoryFormatBenchmark -prof gc"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g", "-Dlogback.configurationFile=logback-benchmark.xml"})
+@State(Scope.Benchmark)
+public class CategoryFormatBenchmark {
+
+    @Param({"10000", "100000"})
+    private int nodeCount;
+
+    @Param({"JSON", "CBOR", "SMILE"})
+    private ResponseFormat format;
+
+    private ObjectMapper objectMapper;
+    private Object response;
+    private byte[] payload;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        CategorySnapshot snapshot = CategorySnapshot.of(1L,
+                SyntheticCategoryTree.nodes(SyntheticCategoryTree.entities(nodeCount)));
+        CategorySnapshotHolder snapshotHolder = new CategorySnapshotHolder(null, null) {
+            @Override
+            public CategorySnapshot current() {
+                return snapshot;
+            }
+        };
+        CategoryService categoryService = new CategoryService(null, null, null, snapshotHolder, null, null, event -> { }, null, null, null,
+                new SimpleMeterRegistry());
+        response = ApiResponse.success(categoryService.getCategoryTree(null, Gender.A));
+
+        // 애플리케이션과 같은 설정 (날짜는 ISO 문자열)
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .factory(factory(format))
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        payload = objectMapper.writeValueAsBytes(response);
+        System.out.println();
+        System.out.println("# payload size - format: " + format + ", nodeCount: " + nodeCount + ", bytes: " + payload.length);
+    }
+
+    @Benchmark
+    public byte[] encode() throws Exception {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public JsonNode decode() throws Exception {
+        return objectMapper.readTree(payload);
+    }
+
+    private static JsonFactory factory(ResponseFormat format) {
+        switch (format) {
+            case CBOR:
+                return new CBORFactory();
+            case SMILE:
+                return new SmileFactory();
+            default:
+                return new JsonFactory();
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.musinsa.category.benchmark;
+
+import com.musinsa.category.cache.CategoryNode;
+import com.musinsa.category.cache.CategorySnapshot;
+import com.musinsa.category.cache.CategorySnapshotHolder;
+import com.musinsa.category.enums.Gender;
+import com.musinsa.category.event.CategorySnapshotRefreshedEvent;
+import com.musinsa.category.search.CategoryAutocompleteIndex;
+import com.musinsa.category.search.CategorySearchIndex;
+import com.musinsa.category.search.Suggestion;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 카테고리 이름 검색 벤치마크
+ * - linearScan: 예전 name LIKE %keyword% 와 같은 전체 순회 (비교 기준)
+ * - searchSelective: 후보가 적은 검색어 (3-gram 교집합으로 바로 좁혀짐)
+ * - searchCommonWord: 전체의 약 5% 가 매칭되는 흔한 단어 (매칭 수에 비례, 상위 20개만 정렬)
+ * - searchChosung: 초성 두 단어 (ㅂㅍ ㄴㅌ -> 반팔 니트), 정렬 맵 접두어 범위 조회
+ * - autocomplete*: 압축 트라이 접두어 조회 (노드별로 미리 계산한 상위 10개 반환)
+ *
+ * 실행: ./mvnw -Pjmh test-compile exec:exec -Djmh.args="CategorySearchBenchmark -prof gc"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g", "-Dlogback.configurationFile=logback-benchmark.xml"})
+@State(Scope.Benchmark)
+public class CategorySearchBenchmark {
+
+    private static final int LIMIT = 20;
+
+    @Param({"10000", "100000", "1000000"})
+    private int nodeCount;
+
+    private CategorySnapshot snapshot;
+    private CategorySearchIndex searchIndex;
+    private CategoryAutocompleteIndex autocompleteIndex;
+    private String selectiveKeyword;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<CategoryNode> nodes = SyntheticCategoryTree.nodes(SyntheticCategoryTree.entities(nodeCount));
+        snapshot = CategorySnapshot.of(1L, nodes);
+        CategorySnapshotHolder snapshotHolder = new CategorySnapshotHolder(null, null) {
+            @Override
+            public CategorySnapshot current() {
+                return snapshot;
+            }
+        };
+        searchIndex = new CategorySearchIndex(null, snapshotHolder);
+        searchIndex.rebuild();
+        autocompleteIndex = new CategoryAutocompleteIndex(snapshotHolder);
+        autocompleteIndex.onSnapshotRefreshed(new CategorySnapshotRefreshedEvent(snapshot, null));
+        // 마지막 노드 이름 그대로 (단어 2개 + ID) 검색
+        selectiveKeyword = nodes.get(nodes.size() - 1).getName();
+    }
+
+    @Benchmark
+    public List<CategoryNode> linearScan() {
+        List<CategoryNode> matches = new ArrayList<>();
+        for (CategoryNode node : snapshot.getOrdered()) {
+            if (node.getName().contains("티셔츠")) {
+                matches.add(node);
+            }
+        }
+        return matches;
+    }
+
+    @Benchmark
+    public List<CategoryNode> searchSelective() {
+        return searchIndex.search(selectiveKeyword, snapshot, 0, LIMIT);
+    }
+
+    @Benchmark
+    public List<CategoryNode> searchChosung() {
+        return searchIndex.searchChosung("ㅂㅍㄴㅌ", snapshot, 0, LIMIT);
+    }
+
+    @Benchmark
+    public List<CategoryNode> searchCommonWord() {
+        return searchIndex.search("티셔츠", snapshot, 0, LIMIT);
+    }
+
+    @Benchmark
+    public List<Suggestion> autocompleteName() {
+        return autocompleteIndex.suggest("반팔", Gender.A, 10);
+    }
+
+    @Benchmark
+    public List<Suggestion> autocompleteFilteredByGender() {
+        return autocompleteIndex.suggest("반팔", Gender.F, 10);
+    }
+}
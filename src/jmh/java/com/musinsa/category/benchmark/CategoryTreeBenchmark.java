@@ -0,0 +1,97 @@
+package com.musinsa.category.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.musinsa.category.cache.CategoryNode;
+import com.musinsa.category.cache.CategorySnapshot;
+import com.musinsa.category.cache.CategorySnapshotHolder;
+import com.musinsa.category.common.ApiResponse;
+import com.musinsa.category.dto.CategoryResponse;
+import com.musinsa.category.entity.Category;
+import com.musinsa.category.enums.Gender;
+import com.musinsa.category.service.CategoryService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CategoryService 조회 hot path 벤치마크
+ * - snapshotBuild: 커밋 후 스냅샷 생성 (형제/평면 정렬 포함, 예전 요청마다의 sortCategoryByDisplayOrder 비용이 여기로 옮겨짐)
+ * - treeAssembly*: getCategoryTree 트리 구성 (스냅샷 -> CategoryResponse 트리)
+ * - mapEntities / mapNodes: CategoryResponse.from 매핑 비용
+ * - serializeTree: 완성된 트리의 JSON 직렬화 (Spring Boot 기본 ObjectMapper 설정)
+ *
+ * 실행: ./mvnw -Pjmh test-compile exec:exec -Djmh.args="CategoryTreeBenchmark -prof gc"
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g", "-Dlogback.configurationFile=logback-benchmark.xml"})
+@State(Scope.Benchmark)
+public class CategoryTreeBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int nodeCount;
+
+    private List<Category> entities;
+    private List<CategoryNode> nodes;
+    private CategoryService categoryService;
+    private List<CategoryResponse> tree;
+    private ObjectMapper objectMapper;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        entities = SyntheticCategoryTree.entities(nodeCount);
+        nodes = SyntheticCategoryTree.nodes(entities);
+
+        CategorySnapshot snapshot = CategorySnapshot.of(1L, nodes);
+        CategorySnapshotHolder snapshotHolder = new CategorySnapshotHolder(null, null) {
+            @Override
+            public CategorySnapshot current() {
+                return snapshot;
+            }
+        };
+        categoryService = new CategoryService(null, null, null, snapshotHolder, null, null, event -> { }, null, null, null,
+                new SimpleMeterRegistry());
+        tree = categoryService.getCategoryTree(null, Gender.A);
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    }
+
+    @Benchmark
+    public CategorySnapshot snapshotBuild() {
+        return CategorySnapshot.of(2L, nodes);
+    }
+
+    @Benchmark
+    public List<CategoryResponse> treeAssembly() {
+        return categoryService.getCategoryTree(null, Gender.A);
+    }
+
+    @Benchmark
+    public List<CategoryResponse> treeAssemblyFilteredByGender() {
+        return categoryService.getCategoryTree(null, Gender.M);
+    }
+
+    @Benchmark
+    public void mapEntities(Blackhole blackhole) {
+        for (Category category : entities) {
+            blackhole.consume(CategoryResponse.from(category));
+        }
+    }
+
+    @Benchmark
+    public void mapNodes(Blackhole blackhole) {
+        for (CategoryNode node : nodes) {
+            blackhole.consume(CategoryResponse.from(node));
+        }
+    }
+
+    @Benchmark
+    public byte[] serializeTree() throws Exception {
+        return objectMapper.writeValueAsBytes(ApiResponse.success(tree));
+    }
+}
@@ -0,0 +1,70 @@
+package com.musinsa.category.benchmark;
+
+import com.musinsa.category.security.JwtUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 관리자 토큰 검증 처리량 벤치마크
+ * - uncachedDoubleParse: 예전 컨트롤러 경로 (isTokenValid + extractAdminId, 요청당 서명 검증 2회)
+ * - uncachedSingleParse: 캐시 없이 요청당 서명 검증 1회
+ * - cachedAuthenticate: 검증된 토큰 캐시 사용 (토큰 다이제스트 계산 + 캐시 조회)
+ *
+ * 실행: ./mvnw -Pjmh test-compile exec:exec -Djmh.args="JwtVerificationBenchmark -prof gc"
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dlogback.configurationFile=logback-benchmark.xml")
+@State(Scope.Benchmark)
+public class JwtVerificationBenchmark {
+
+    // 동시에 사용 중인 서로 다른 토큰 수
+    @Param({"1", "1000"})
+    private int tokenCount;
+
+    private JwtUtil jwtUtil;
+    private String[] tokens;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        jwtUtil = new JwtUtil("musinsa-category-admin-secret-key-for-benchmark", 3600000, 10000,
+                new SimpleMeterRegistry());
+        tokens = new String[tokenCount];
+        for (int i = 0; i < tokenCount; i++) {
+            tokens[i] = jwtUtil.generateToken("admin" + i);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int index;
+
+        String next(String[] tokens) {
+            index = (index + 1) % tokens.length;
+            return tokens[index];
+        }
+    }
+
+    @Benchmark
+    public String uncachedDoubleParse(Cursor cursor) {
+        String token = cursor.next(tokens);
+        if (!jwtUtil.isTokenValid(token)) {
+            throw new IllegalStateException("invalid token");
+        }
+        return jwtUtil.extractAdminId(token);
+    }
+
+    @Benchmark
+    public String uncachedSingleParse(Cursor cursor) {
+        return jwtUtil.verifyToken(cursor.next(tokens)).getSubject();
+    }
+
+    @Benchmark
+    public String cachedAuthenticate(Cursor cursor) {
+        return jwtUtil.authenticate(cursor.next(tokens));
+    }
+}
@@ -0,0 +1,97 @@
+package com.musinsa.category.benchmark;
+
+import com.musinsa.category.cache.CategoryNode;
+import com.musinsa.category.entity.Category;
+import com.musinsa.category.enums.Gender;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+/**
+ * 벤치마크용 합성 카테고리 트리
+ * - 루트 12개, 최대 5단계 (depth 0~4, CategoryService.MAX_CATEGORY_DEPTH 기준)
+ * - 단계별 fanout 은 목표 노드 수에 맞춰 계산하고 ±30% 흔들어 실제 카탈로그처럼 불균형하게 만든다
+ * - 성별은 A 80%, M 10%, F 10%
+ * - 이름은 의류 단어 2개 + ID (예: "반팔 니트 1234") 로 검색 색인 분포를 실제와 비슷하게 맞춘다
+ */
+final class SyntheticCategoryTree {
+
+    private static final int ROOT_COUNT = 12;
+    private static final int MAX_DEPTH = 4;
+
+    static final String[] WORDS = {
+            "상의", "하의", "아우터", "원피스", "스커트", "신발", "가방", "모자", "양말", "액세서리",
+            "반팔", "긴팔", "민소매", "티셔츠", "셔츠", "블라우스", "니트", "스웨터", "후드", "맨투맨",
+            "데님", "팬츠", "슬랙스", "조거", "레깅스", "쇼츠", "코트", "재킷", "패딩", "베스트",
+            "스니커즈", "로퍼", "부츠", "샌들", "슬리퍼", "백팩", "크로스백", "토트백", "캡", "비니"
+    };
+
+    private SyntheticCategoryTree() {
+    }
+
+    static List<Category> entities(int nodeCount) {
+        Random random = new Random(nodeCount);
+        double fanout = Math.pow((double) nodeCount / ROOT_COUNT, 1.0 / MAX_DEPTH);
+        LocalDateTime now = LocalDateTime.now();
+
+        List<Category> categories = new ArrayList<>(nodeCount);
+        long nextId = 1;
+        for (int i = 1; i <= ROOT_COUNT && categories.size() < nodeCount; i++) {
+            categories.add(create(nextId++, null, i, random, now));
+        }
+
+        // 너비 우선으로 한 단계씩 채움
+        int levelStart = 0;
+        while (categories.size() < nodeCount) {
+            int levelEnd = categories.size();
+            if (levelStart == levelEnd) {
+                break;
+            }
+            for (int p = levelStart; p < levelEnd && categories.size() < nodeCount; p++) {
+                Category parent = categories.get(p);
+                if (MAX_DEPTH <= parent.getDepth()) {
+                    continue;
+                }
+                int children = Math.max(1, (int) Math.round(fanout * (0.7 + random.nextDouble() * 0.6)));
+                for (int order = 1; order <= children && categories.size() < nodeCount; order++) {
+                    categories.add(create(nextId++, parent, order, random, now));
+                }
+            }
+            levelStart = levelEnd;
+        }
+        return categories;
+    }
+
+    static List<CategoryNode> nodes(List<Category> categories) {
+        return categories.stream()
+                .map(CategoryNode::from)
+                .collect(Collectors.toList());
+    }
+
+    private static Category create(long id, Category parent, int displayOrder, Random random, LocalDateTime now) {
+        int roll = random.nextInt(10);
+        Gender gender = roll == 0 ? Gender.M : roll == 1 ? Gender.F : Gender.A;
+        Category category = Category.builder()
+                .id(id)
+                .name(WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)] + " " + id)
+                .description("벤치마크용 카테고리 " + id + " 설명")
+                .gender(gender)
+                .parent(parent)
+                .displayOrder(displayOrder)
+                .depth(parent == null ? 0 : parent.getDepth() + 1)
+                .path(parent == null ? "/" + id : parent.getPath() + "/" + id)
+                .isActive(true)
+                .createdAt(now)
+                .updatedAt(now)
+                .createdBy("system")
+                .updatedBy("admin")
+                .build();
+        if (parent != null) {
+            parent.getChildren().add(category);
+        }
+        return category;
+    }
+}
@@ -0,0 +1,41 @@
+package com.musinsa.category.cache;
+
+import lombok.Getter;
+import org.springframework.util.DigestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 직렬화가 끝난 응답 본문 (협상된 ResponseFormat 의 바이트: JSON, CBOR, Smile)과 내용 해시 ETag
+ * - gzip 압축본도 생성 시점에 한 번만 만들어 함께 보관 (요청마다 압축하지 않음)
+ */
+@Getter
+public class CachedPayload {
+
+    private final byte[] body;
+    private final String etag;
+    private final byte[] gzipBody;
+    private final String gzipEtag;
+
+    public CachedPayload(byte[] body) {
+        String hash = DigestUtils.md5DigestAsHex(body);
+        this.body = body;
+        this.etag = "\"" + hash + "\"";
+        this.gzipBody = gzip(body);
+        // 표현(representation)이 다르므로 강한 ETag 도 달라야 함
+        this.gzipEtag = "\"" + hash + "-gzip\"";
+    }
+
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, body.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException("응답 gzip 압축 실패", e);
+        }
+        return out.toByteArray();
+    }
+}
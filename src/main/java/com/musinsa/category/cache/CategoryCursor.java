@@ -0,0 +1,55 @@
+package com.musinsa.category.cache;
+
+import com.musinsa.category.exception.BusinessException;
+import com.musinsa.category.exception.ErrorCode;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 키셋 페이지네이션 커서 (마지막으로 내려준 카테고리의 depth, displayOrder, id)
+ * - 클라이언트에는 base64url 문자열로만 노출 (내용에 의존하지 않도록)
+ * - 위치가 아닌 정렬 키를 담으므로 페이지 사이에 카테고리가 추가/삭제돼도 중복/누락 없이 이어짐
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class CategoryCursor {
+
+    private static final String SEPARATOR = ":";
+
+    private final int depth;
+    private final int displayOrder;
+    private final long id;
+
+    public static CategoryCursor of(CategoryNode node) {
+        return new CategoryCursor(node.getDepth(), node.getDisplayOrder(), node.getId());
+    }
+
+    public String encode() {
+        String raw = depth + SEPARATOR + displayOrder + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static CategoryCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(SEPARATOR);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException(raw);
+            }
+            return new CategoryCursor(Integer.parseInt(parts[0]), Integer.parseInt(parts[1]), Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "잘못된 cursor 입니다");
+        }
+    }
+
+    /**
+     * 정렬 비교용 노드 (정렬 키만 채움)
+     */
+    CategoryNode toProbe() {
+        return new CategoryNode(id, null, null, null, null, displayOrder, null, null, depth, null, null, null, null);
+    }
+}
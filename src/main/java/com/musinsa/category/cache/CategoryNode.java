@@ -0,0 +1,64 @@
+package com.musinsa.category.cache;
+
+import com.musinsa.category.entity.Category;
+import com.musinsa.category.enums.Gender;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 스냅샷에 담기는 불변 카테고리 노드
+ * - CategoryRepository.findAllActiveNodes 에서 생성자 프로젝션으로 바로 생성됨
+ * - 값 비교는 스냅샷 간 변경된 노드를 찾는 데 사용 (CategorySnapshot.changedPaths)
+ */
+@Getter
+@EqualsAndHashCode
+@AllArgsConstructor
+@Builder(access = AccessLevel.PRIVATE)
+public class CategoryNode {
+    private final Long id;
+    private final String name;
+    private final String description;
+    private final Gender gender;
+    private final Long parentId;
+    private final Integer displayOrder;
+    private final Boolean isActive;
+    private final String path;
+    private final Integer depth;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+    private final String createdBy;
+    private final String updatedBy;
+
+    public static CategoryNode from(Category category) {
+        return CategoryNode.builder()
+                .id(category.getId())
+                .name(category.getName())
+                .description(category.getDescription())
+                .gender(category.getGender())
+                .parentId(category.getParent() != null ? category.getParent().getId() : null)
+                .displayOrder(category.getDisplayOrder())
+                .isActive(category.getIsActive())
+                .path(category.getPath())
+                .depth(category.getDepth())
+                .createdAt(category.getCreatedAt())
+                .updatedAt(category.getUpdatedAt())
+                .createdBy(category.getCreatedBy())
+                .updatedBy(category.getUpdatedBy())
+                .build();
+    }
+
+    /**
+     * 성별 조건 일치 여부 (CategoryRepository.GENDER_CONDITION 과 동일)
+     */
+    public boolean matches(Gender requested) {
+        if (requested == Gender.A) {
+            return true;
+        }
+        return gender == null || gender == Gender.A || gender == requested;
+    }
+}
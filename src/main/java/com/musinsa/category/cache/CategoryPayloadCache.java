@@ -0,0 +1,246 @@
+package com.musinsa.category.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.musinsa.category.common.ApiResponse;
+import com.musinsa.category.dto.CategoryColumnarTree;
+import com.musinsa.category.dto.CategoryFields;
+import com.musinsa.category.enums.Gender;
+import com.musinsa.category.enums.ResponseFormat;
+import com.musinsa.category.event.CategorySnapshotRefreshedEvent;
+import com.musinsa.category.service.CategoryService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * 카테고리 조회 응답을 직렬화된 바이트로 보관하는 캐시
+ * - 항목마다 의존하는 Category.path 범위(PathTag)를 두고, 스냅샷이 교체되면 바뀐 경로와 겹치는 항목만 비운다
+ *   (/7/701 을 수정해도 /1 하위 트리, 루트 목록 응답은 그대로 유지)
+ * - 원본과 gzip 압축본을 함께 보관하므로 압축도 항목당 한 번만 수행된다
+ * - 키 조합(루트 ID x 성별 x fields x 형식)을 요청자가 정하므로 보관량은 두 본문 바이트 합 기준으로 제한
+ *   (category.payload-cache.maximum-weight, 넘으면 Caffeine 이 덜 쓰이는 항목부터 축출)
+ * - fields 파라미터로 속성을 줄인 응답은 정규화된 속성 목록까지 키에 포함해 따로 보관
+ * - 응답 형식(JSON/CBOR/Smile)도 키에 포함하며, 형식별 ObjectMapper 는 MVC 메시지 컨버터의 것을 그대로 사용
+ * - 적중/미적중 횟수는 category.payload.cache 메트릭(result=hit|miss), 직렬화 시간은 category.payload.serialize 타이머(format)로 노출
+ */
+@Slf4j
+@Component
+public class CategoryPayloadCache {
+
+    private final CategoryService categoryService;
+    private final CategorySnapshotHolder snapshotHolder;
+    private final Map<ResponseFormat, ObjectMapper> objectMappers = new EnumMap<>(ResponseFormat.class);
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Map<ResponseFormat, Timer> serializeTimers = new EnumMap<>(ResponseFormat.class);
+
+    private final ConcurrentMap<PayloadKey, CachedEntry> entries;
+
+    public CategoryPayloadCache(CategoryService categoryService, CategorySnapshotHolder snapshotHolder,
+                                ObjectMapper objectMapper, List<AbstractJackson2HttpMessageConverter> converters,
+                                MeterRegistry meterRegistry,
+                                @Value("${category.payload-cache.maximum-weight:128MB}") DataSize maximumWeight) {
+        this.categoryService = categoryService;
+        this.snapshotHolder = snapshotHolder;
+        Cache<PayloadKey, CachedEntry> cache = Caffeine.newBuilder()
+                .maximumWeight(maximumWeight.toBytes())
+                .weigher((PayloadKey key, CachedEntry entry) -> entry.weight())
+                // 축출을 요청 스레드에서 바로 처리해 한도를 넘는 구간이 남지 않도록 함
+                .executor(Runnable::run)
+                .build();
+        this.entries = cache.asMap();
+        this.objectMappers.put(ResponseFormat.JSON, objectMapper);
+        for (ResponseFormat format : ResponseFormat.values()) {
+            converters.stream()
+                    .filter(converter -> converter.getSupportedMediaTypes().contains(format.getMediaType()))
+                    .findFirst()
+                    .ifPresent(converter -> objectMappers.putIfAbsent(format, converter.getObjectMapper()));
+        }
+        this.hitCounter = Counter.builder("category.payload.cache")
+                .description("직렬화 응답 캐시 조회 수")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("category.payload.cache")
+                .description("직렬화 응답 캐시 조회 수")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        for (ResponseFormat format : ResponseFormat.values()) {
+            serializeTimers.put(format, Timer.builder("category.payload.serialize")
+                    .description("조회 응답 직렬화 시간")
+                    .tag("format", format.name().toLowerCase())
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * 카테고리 트리 응답 (성별, 루트 카테고리 ID 별로 캐시)
+     */
+    public CachedPayload getTree(Long categoryId, Gender gender) {
+        return getTree(categoryId, gender, CategoryFields.ALL, ResponseFormat.JSON);
+    }
+
+    public CachedPayload getTree(Long categoryId, Gender gender, CategoryFields fields, ResponseFormat format) {
+        return get(new PayloadKey(PayloadType.TREE, gender, categoryId, fields, format),
+                () -> ApiResponse.success(categoryService.getCategoryTree(categoryId, gender)));
+    }
+
+    /**
+     * 카테고리 트리의 열 단위 응답 (트리 응답과 같은 데이터, 성별/루트 카테고리 ID 별로 캐시)
+     */
+    public CachedPayload getColumnarTree(Long categoryId, Gender gender) {
+        return get(new PayloadKey(PayloadType.COLUMNAR_TREE, gender, categoryId, CategoryFields.ALL, ResponseFormat.JSON),
+                () -> ApiResponse.success(CategoryColumnarTree.from(categoryService.getCategoryTree(categoryId, gender))));
+    }
+
+    /**
+     * 루트 카테고리 목록 응답 (성별 별로 캐시)
+     */
+    public CachedPayload getRoots(Gender gender) {
+        return getRoots(gender, CategoryFields.ALL, ResponseFormat.JSON);
+    }
+
+    public CachedPayload getRoots(Gender gender, CategoryFields fields, ResponseFormat format) {
+        return get(new PayloadKey(PayloadType.ROOTS, gender, null, fields, format),
+                () -> ApiResponse.success(categoryService.getRootCategories(gender)));
+    }
+
+    /**
+     * 전체 카테고리 평면 목록 응답 (성별 별로 캐시)
+     */
+    public CachedPayload getAll(Gender gender) {
+        return getAll(gender, CategoryFields.ALL, ResponseFormat.JSON);
+    }
+
+    public CachedPayload getAll(Gender gender, CategoryFields fields, ResponseFormat format) {
+        return get(new PayloadKey(PayloadType.ALL, gender, null, fields, format),
+                () -> ApiResponse.success(categoryService.getAllCategories(gender)));
+    }
+
+    private CachedPayload get(PayloadKey key, Supplier<Object> responseSupplier) {
+        CachedEntry cached = entries.get(key);
+        if (cached != null) {
+            hitCounter.increment();
+            return cached.payload;
+        }
+
+        CategorySnapshot snapshot = snapshotHolder.current();
+        long version = snapshot.getVersion();
+        // 같은 키를 동시에 요청해도 직렬화는 한 번만 수행
+        boolean[] serialized = new boolean[1];
+        CachedEntry entry = entries.computeIfAbsent(key, k -> {
+            serialized[0] = true;
+            return new CachedEntry(new CachedPayload(serialize(responseSupplier.get(), key.fields, key.format)),
+                    tagOf(key, snapshot));
+        });
+        (serialized[0] ? missCounter : hitCounter).increment();
+
+        // 직렬화하는 동안 스냅샷이 바뀌었으면 그 사이의 무효화를 놓쳤을 수 있으므로 보관하지 않음
+        if (serialized[0] && snapshotHolder.current().getVersion() != version) {
+            entries.remove(key, entry);
+        }
+        return entry.payload;
+    }
+
+    /**
+     * 스냅샷 교체 시 바뀐 경로와 겹치는 항목만 제거 (바뀐 경로를 모르면 전체 제거)
+     */
+    @EventListener
+    public void onSnapshotRefreshed(CategorySnapshotRefreshedEvent event) {
+        Set<String> changedPaths = event.getChangedPaths();
+        if (changedPaths == null) {
+            entries.clear();
+            log.debug("직렬화 응답 캐시 초기화 - version: {}", event.getSnapshot().getVersion());
+            return;
+        }
+        if (changedPaths.isEmpty()) {
+            return;
+        }
+        int before = entries.size();
+        entries.values().removeIf(entry -> changedPaths.stream().anyMatch(entry.tag::isAffectedBy));
+        log.debug("직렬화 응답 캐시 부분 무효화 - version: {}, changed: {}, evicted: {}",
+                event.getSnapshot().getVersion(), changedPaths.size(), before - entries.size());
+    }
+
+    /**
+     * 응답이 의존하는 경로 범위
+     * - 하위 트리는 루트 카테고리의 경로, 전체 트리/전체 목록은 루트 경로 하위 전체, 루트 목록은 루트 경로의 직계 하위
+     */
+    private static PathTag tagOf(PayloadKey key, CategorySnapshot snapshot) {
+        switch (key.type) {
+            case ROOTS:
+                return PathTag.children(PathTag.ROOT_PATH);
+            case TREE:
+            case COLUMNAR_TREE:
+                if (key.categoryId != null) {
+                    return snapshot.find(key.categoryId)
+                            .map(CategoryNode::getPath)
+                            .map(PathTag::subtree)
+                            .orElseGet(() -> PathTag.subtree(PathTag.ROOT_PATH));
+                }
+                return PathTag.subtree(PathTag.ROOT_PATH);
+            default:
+                return PathTag.subtree(PathTag.ROOT_PATH);
+        }
+    }
+
+    private byte[] serialize(Object response, CategoryFields fields, ResponseFormat format) {
+        ObjectMapper objectMapper = objectMappers.get(format);
+        if (objectMapper == null) {
+            throw new IllegalStateException("응답 형식 컨버터가 등록되지 않음: " + format);
+        }
+        Timer.Sample sample = Timer.start();
+        try {
+            if (fields.isAll()) {
+                return objectMapper.writeValueAsBytes(response);
+            }
+            return objectMapper.writer(fields.filters()).writeValueAsBytes(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("카테고리 응답 직렬화 실패", e);
+        } finally {
+            sample.stop(serializeTimers.get(format));
+        }
+    }
+
+    private enum PayloadType {
+        TREE, COLUMNAR_TREE, ROOTS, ALL
+    }
+
+    @EqualsAndHashCode
+    @RequiredArgsConstructor
+    private static class PayloadKey {
+        private final PayloadType type;
+        private final Gender gender;
+        private final Long categoryId;
+        private final CategoryFields fields;
+        private final ResponseFormat format;
+    }
+
+    @RequiredArgsConstructor
+    private static class CachedEntry {
+        private final CachedPayload payload;
+        private final PathTag tag;
+
+        private int weight() {
+            return payload.getBody().length + payload.getGzipBody().length;
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.musinsa.category.cache;
+
+import lombok.Getter;
+
+import java.util.*;
+
+/**
+ * 활성 카테고리 트리 전체의 불변 스냅샷
+ * - 쓰기 트랜잭션 커밋 후 통째로 새로 만들어 교체한다 (기존 스냅샷은 절대 수정하지 않음)
+ * - 형제 목록과 평면 목록은 생성 시점에 한 번만 정렬해 둔다
+ */
+public class CategorySnapshot {
+
+    // 형제 정렬: displayOrder, 같으면 id
+    static final Comparator<CategoryNode> SIBLING_ORDER = Comparator
+            .comparing(CategoryNode::getDisplayOrder)
+            .thenComparing(CategoryNode::getId);
+
+    // 평면 정렬: depth, displayOrder, id (findAllActiveOrdered 와 동일)
+    static final Comparator<CategoryNode> FLAT_ORDER = Comparator
+            .comparing(CategoryNode::getDepth)
+            .thenComparing(SIBLING_ORDER);
+
+    @Getter
+    private final long version;
+    private final Map<Long, CategoryNode> nodes;
+    private final Map<Long, List<CategoryNode>> children;
+    @Getter
+    private final List<CategoryNode> roots;
+    @Getter
+    private final List<CategoryNode> ordered;
+
+    private CategorySnapshot(long version, Map<Long, CategoryNode> nodes, Map<Long, List<CategoryNode>> children,
+                             List<CategoryNode> roots, List<CategoryNode> ordered) {
+        this.version = version;
+        this.nodes = nodes;
+        this.children = children;
+        this.roots = roots;
+        this.ordered = ordered;
+    }
+
+    /**
+     * 활성 카테고리 노드 목록으로 스냅샷 생성 (비활성 노드는 제외)
+     */
+    public static CategorySnapshot of(long version, Collection<CategoryNode> activeNodes) {
+        Map<Long, CategoryNode> nodes = new HashMap<>(activeNodes.size() * 2);
+        for (CategoryNode node : activeNodes) {
+            if (Boolean.TRUE.equals(node.getIsActive())) {
+                nodes.put(node.getId(), node);
+            }
+        }
+
+        List<CategoryNode> roots = new ArrayList<>();
+        Map<Long, List<CategoryNode>> children = new HashMap<>();
+        for (CategoryNode node : nodes.values()) {
+            if (node.getParentId() == null) {
+                roots.add(node);
+            } else {
+                children.computeIfAbsent(node.getParentId(), id -> new ArrayList<>()).add(node);
+            }
+        }
+
+        roots.sort(SIBLING_ORDER);
+        for (Map.Entry<Long, List<CategoryNode>> entry : children.entrySet()) {
+            entry.getValue().sort(SIBLING_ORDER);
+            entry.setValue(Collections.unmodifiableList(entry.getValue()));
+        }
+
+        List<CategoryNode> ordered = new ArrayList<>(nodes.values());
+        ordered.sort(FLAT_ORDER);
+
+        return new CategorySnapshot(version,
+                Collections.unmodifiableMap(nodes),
+                Collections.unmodifiableMap(children),
+                Collections.unmodifiableList(roots),
+                Collections.unmodifiableList(ordered));
+    }
+
+    public Optional<CategoryNode> find(Long id) {
+        return Optional.ofNullable(nodes.get(id));
+    }
+
+    /**
+     * 직계 하위 카테고리 (displayOrder 순)
+     */
+    public List<CategoryNode> getChildren(Long parentId) {
+        return children.getOrDefault(parentId, Collections.emptyList());
+    }
+
+    /**
+     * 평면 목록에서 커서 다음부터 (이진 탐색으로 바로 이동, OFFSET 처럼 앞부분을 세지 않음)
+     */
+    public List<CategoryNode> getOrderedAfter(CategoryCursor cursor) {
+        return after(ordered, FLAT_ORDER, cursor);
+    }
+
+    /**
+     * 직계 하위 목록에서 커서 다음부터 (parentId 가 null 이면 루트)
+     */
+    public List<CategoryNode> getChildrenAfter(Long parentId, CategoryCursor cursor) {
+        return after(parentId == null ? roots : getChildren(parentId), SIBLING_ORDER, cursor);
+    }
+
+    /**
+     * 이전 스냅샷 대비 추가/변경/제거된 카테고리 경로 (이동한 카테고리는 이전 경로와 새 경로 모두)
+     */
+    public Set<String> changedPaths(CategorySnapshot previous) {
+        Set<String> paths = new HashSet<>();
+        for (CategoryNode node : nodes.values()) {
+            CategoryNode before = previous.nodes.get(node.getId());
+            if (!node.equals(before)) {
+                paths.add(pathOf(node));
+                if (before != null) {
+                    paths.add(pathOf(before));
+                }
+            }
+        }
+        for (CategoryNode before : previous.nodes.values()) {
+            if (!nodes.containsKey(before.getId())) {
+                paths.add(pathOf(before));
+            }
+        }
+        return paths;
+    }
+
+    // 경로가 아직 없는 노드는 어디에 속하는지 알 수 없으므로 루트 경로(전체와 겹침)로 취급
+    private static String pathOf(CategoryNode node) {
+        return node.getPath() != null ? node.getPath() : PathTag.ROOT_PATH;
+    }
+
+    public int size() {
+        return nodes.size();
+    }
+
+    private static List<CategoryNode> after(List<CategoryNode> sorted, Comparator<CategoryNode> order, CategoryCursor cursor) {
+        if (cursor == null) {
+            return sorted;
+        }
+        int index = Collections.binarySearch(sorted, cursor.toProbe(), order);
+        // 커서 노드가 그대로 있으면 그 다음, 사라졌으면 들어갈 자리부터
+        int from = index >= 0 ? index + 1 : -(index + 1);
+        return sorted.subList(from, sorted.size());
+    }
+}
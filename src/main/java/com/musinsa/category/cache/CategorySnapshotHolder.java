@@ -0,0 +1,84 @@
+package com.musinsa.category.cache;
+
+import com.musinsa.category.event.CategoryChangedEvent;
+import com.musinsa.category.event.CategorySnapshotRefreshedEvent;
+import com.musinsa.category.repository.CategoryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 카테고리 트리 스냅샷 보관소
+ * - 조회는 volatile 참조 하나만 읽으므로 쓰기 작업에 의해 블로킹되지 않음
+ * - 쓰기 트랜잭션이 커밋된 직후 DB에서 다시 읽어 새 스냅샷으로 교체
+ * - 교체 후 CategorySnapshotRefreshedEvent 를 발행해 스냅샷에서 파생된 색인들이 함께 다시 만들어지도록 함
+ *   (바뀐 카테고리 경로를 함께 실어 파생 캐시가 겹치는 범위만 비울 수 있게 함)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CategorySnapshotHolder {
+
+    private final CategoryRepository categoryRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final AtomicLong versionSequence = new AtomicLong();
+    private final Object refreshLock = new Object();
+
+    private volatile CategorySnapshot snapshot;
+
+    /**
+     * 현재 스냅샷 조회 (최초 1회만 로딩)
+     */
+    public CategorySnapshot current() {
+        CategorySnapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        synchronized (refreshLock) {
+            if (snapshot == null) {
+                refresh();
+            }
+            return snapshot;
+        }
+    }
+
+    /**
+     * DB에서 활성 카테고리 전체를 읽어 새 스냅샷으로 교체
+     */
+    public CategorySnapshot refresh() {
+        synchronized (refreshLock) {
+            // 엔티티가 아닌 프로젝션으로 읽어 영속성 컨텍스트에 남은 이전 상태를 재사용하지 않음
+            List<CategoryNode> nodes = categoryRepository.findAllActiveNodes();
+            CategorySnapshot previous = snapshot;
+            CategorySnapshot refreshed = CategorySnapshot.of(versionSequence.incrementAndGet(), nodes);
+            Set<String> changedPaths = previous != null ? refreshed.changedPaths(previous) : null;
+            snapshot = refreshed;
+            log.debug("카테고리 스냅샷 갱신 - version: {}, size: {}, changed: {}", refreshed.getVersion(), refreshed.size(),
+                    changedPaths != null ? changedPaths.size() : "all");
+            eventPublisher.publishEvent(new CategorySnapshotRefreshedEvent(refreshed, changedPaths));
+            return refreshed;
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        refresh();
+    }
+
+    /**
+     * 쓰기 트랜잭션 커밋 후 스냅샷 갱신 (트랜잭션 밖에서 발행된 경우 즉시 갱신)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        refresh();
+    }
+}
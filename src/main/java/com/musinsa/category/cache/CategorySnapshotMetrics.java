@@ -0,0 +1,61 @@
+package com.musinsa.category.cache;
+
+import com.musinsa.category.enums.Gender;
+import com.musinsa.category.event.CategorySnapshotRefreshedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.MultiGauge;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 활성 카테고리 수 게이지
+ * - category.nodes.depth(depth), category.nodes.gender(gender)
+ * - 스크레이프마다 트리를 세지 않도록 스냅샷이 교체될 때 한 번만 집계해 둠 (성별 미지정 노드는 gender=none)
+ */
+@Component
+public class CategorySnapshotMetrics {
+
+    private static final String NO_GENDER = "none";
+
+    private final MultiGauge depthGauge;
+    private final MultiGauge genderGauge;
+
+    public CategorySnapshotMetrics(MeterRegistry meterRegistry) {
+        this.depthGauge = MultiGauge.builder("category.nodes.depth")
+                .description("깊이별 활성 카테고리 수")
+                .register(meterRegistry);
+        this.genderGauge = MultiGauge.builder("category.nodes.gender")
+                .description("성별별 활성 카테고리 수")
+                .register(meterRegistry);
+    }
+
+    @EventListener
+    public void onSnapshotRefreshed(CategorySnapshotRefreshedEvent event) {
+        Map<Integer, Long> byDepth = new TreeMap<>();
+        Map<String, Long> byGender = new TreeMap<>();
+        for (Gender gender : Gender.values()) {
+            byGender.put(gender.name(), 0L);
+        }
+        for (CategoryNode node : event.getSnapshot().getOrdered()) {
+            byDepth.merge(node.getDepth(), 1L, Long::sum);
+            byGender.merge(node.getGender() != null ? node.getGender().name() : NO_GENDER, 1L, Long::sum);
+        }
+        // 사라진 깊이/성별의 게이지도 함께 정리되도록 덮어쓰기
+        depthGauge.register(rows("depth", byDepth), true);
+        genderGauge.register(rows("gender", byGender), true);
+    }
+
+    private static <K> List<MultiGauge.Row<?>> rows(String tag, Map<K, Long> counts) {
+        List<MultiGauge.Row<?>> rows = new ArrayList<>(counts.size());
+        for (Map.Entry<K, Long> entry : counts.entrySet()) {
+            rows.add(MultiGauge.Row.of(Tags.of(tag, String.valueOf(entry.getKey())), entry.getValue()));
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,53 @@
+package com.musinsa.category.cache;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 캐시 항목이 의존하는 Category.path 범위
+ * - SUBTREE: 해당 경로의 카테고리와 그 하위 전체 (트리, 전체 목록)
+ * - CHILDREN: 해당 경로의 카테고리와 직계 하위 목록 (루트 목록)
+ * - 루트 경로는 빈 문자열로 표현 ("/1" 의 부모 경로 = "")
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+final class PathTag {
+
+    static final String ROOT_PATH = "";
+
+    private static final char SEPARATOR = '/';
+
+    private final String path;
+    private final boolean subtree;
+
+    static PathTag subtree(String path) {
+        return new PathTag(path, true);
+    }
+
+    static PathTag children(String path) {
+        return new PathTag(path, false);
+    }
+
+    /**
+     * 변경된 카테고리 경로가 이 범위와 겹치는지
+     * - 조상(자기 자신 포함)이 바뀌면 경로/깊이 또는 존재 여부가 달라질 수 있으므로 항상 겹침
+     * - 하위 쪽은 SUBTREE 면 전체, CHILDREN 이면 직계 하위만 겹침
+     */
+    boolean isAffectedBy(String changedPath) {
+        if (isAncestorOrSelf(changedPath, path)) {
+            return true;
+        }
+        if (subtree) {
+            return isAncestorOrSelf(path, changedPath);
+        }
+        int lastSeparator = changedPath.lastIndexOf(SEPARATOR);
+        return lastSeparator >= 0 && changedPath.substring(0, lastSeparator).equals(path);
+    }
+
+    /**
+     * 경로 구분자 단위 접두어 비교 ("/1" 은 "/1/101" 의 조상이지만 "/10" 의 조상은 아님)
+     */
+    private static boolean isAncestorOrSelf(String ancestor, String path) {
+        return path.startsWith(ancestor)
+                && (path.length() == ancestor.length() || path.charAt(ancestor.length()) == SEPARATOR);
+    }
+}
@@ -0,0 +1,108 @@
+package com.musinsa.category.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import com.musinsa.category.entity.Category;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.hibernate.SessionFactory;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.ObjectUtils;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.persistence.EntityManagerFactory;
+import java.net.URI;
+import java.time.Duration;
+import java.util.OptionalLong;
+
+/**
+ * Hibernate 2차 캐시 / 쿼리 캐시 (Caffeine JCache)
+ * - Category 엔티티와 CategoryRepository 의 읽기 쿼리 결과를 캐시하며, 무효화는 Hibernate 가 쓰기 시점에 처리
+ *   (JDBC 로 직접 쓰는 CategoryBatchRepository 는 같은 방식의 무효화를 직접 등록)
+ * - 애플리케이션 컨텍스트마다 CacheManager 를 따로 만들어 같은 JVM 의 다른 컨텍스트(테스트 등)와 영역을 공유하지 않음
+ * - 영역별 적중률은 hibernate.cache.hit.ratio 게이지로, 요청 수는 Hibernate 통계 메트릭으로 노출
+ */
+@Configuration
+public class HibernateCacheConfig {
+
+    static final String ENTITY_REGION = Category.class.getName();
+    static final String QUERY_REGION = RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME;
+    static final String TIMESTAMPS_REGION = RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME;
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(
+            @Value("${category.hibernate-cache.entity.maximum-size:50000}") long entityMaximumSize,
+            @Value("${category.hibernate-cache.query.maximum-size:1000}") long queryMaximumSize,
+            @Value("${category.hibernate-cache.expire-after-write:10m}") Duration expireAfterWrite) {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("category-hibernate-" + ObjectUtils.getIdentityHexString(this)),
+                        getClass().getClassLoader());
+        cacheManager.createCache(ENTITY_REGION, region(entityMaximumSize, expireAfterWrite));
+        cacheManager.createCache(QUERY_REGION, region(queryMaximumSize, expireAfterWrite));
+        // 테이블별 마지막 변경 시각이라 밀려나거나 만료되면 오래된 쿼리 결과를 쓸 수 있으므로 제한 없음 (테이블 수만큼만 쌓임)
+        cacheManager.createCache(TIMESTAMPS_REGION, region(null, null));
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, ConfigSettings.SIMPLE_FACTORY_NAME);
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            // 없는 영역은 만들지 않고 실패 (ConfigSettings.MISSING_CACHE_STRATEGY, 이 설정이 없는 컨텍스트에도 적용되도록 application.yml 에 둠)
+            // 적중/미스 메트릭 (HibernateMetrics 와 아래 적중률 게이지)
+            properties.put(AvailableSettings.GENERATE_STATISTICS, true);
+        };
+    }
+
+    @Bean
+    public MeterBinder hibernateCacheHitRatio(EntityManagerFactory entityManagerFactory) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        return registry -> {
+            Gauge.builder("hibernate.cache.hit.ratio", statistics,
+                            stats -> regionHitRatio(stats.getDomainDataRegionStatistics(ENTITY_REGION)))
+                    .tag("region", ENTITY_REGION)
+                    .description("2차 캐시 엔티티 영역 적중률")
+                    .register(registry);
+            Gauge.builder("hibernate.cache.hit.ratio", statistics,
+                            stats -> ratio(stats.getQueryCacheHitCount(), stats.getQueryCacheMissCount()))
+                    .tag("region", QUERY_REGION)
+                    .description("쿼리 캐시 적중률")
+                    .register(registry);
+        };
+    }
+
+    private static CaffeineConfiguration<Object, Object> region(Long maximumSize, Duration expireAfterWrite) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        // Hibernate 가 캐시 항목을 분해된 상태로 넣고 꺼낼 때마다 조립하므로 직렬화 복사 불필요
+        configuration.setStoreByValue(false);
+        configuration.setStatisticsEnabled(true);
+        if (maximumSize != null) {
+            configuration.setMaximumSize(OptionalLong.of(maximumSize));
+        }
+        if (expireAfterWrite != null) {
+            configuration.setExpireAfterWrite(OptionalLong.of(expireAfterWrite.toNanos()));
+        }
+        return configuration;
+    }
+
+    private static double regionHitRatio(CacheRegionStatistics region) {
+        return ratio(region.getHitCount(), region.getMissCount());
+    }
+
+    private static double ratio(long hits, long misses) {
+        long requests = hits + misses;
+        return requests == 0 ? 0 : (double) hits / requests;
+    }
+}
@@ -0,0 +1,40 @@
+package com.musinsa.category.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.musinsa.category.dto.CategoryFields;
+import com.musinsa.category.dto.CategoryResponse;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+@Configuration
+public class JacksonConfig {
+
+    /**
+     * fields 파라미터용 필터 등록 (기본값은 전체 속성 직렬화)
+     */
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer categoryFieldsCustomizer() {
+        return builder -> builder
+                .mixIn(CategoryResponse.class, CategoryFields.FilterMixin.class)
+                .filters(CategoryFields.ALL.filters());
+    }
+
+    /**
+     * 바이너리 응답 형식 (Accept 로 선택, JSON 과 같은 설정의 ObjectMapper 사용)
+     * - 빈으로 등록하면 스프링 기본 컨버터 목록의 같은 자리를 대체하므로 JSON 이 기본값으로 유지된다
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+}
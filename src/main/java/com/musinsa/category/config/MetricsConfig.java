@@ -0,0 +1,20 @@
+package com.musinsa.category.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 메트릭 설정
+ * - @Timed 가 붙은 빈(CategoryService 등)의 메서드 실행 시간을 기록하는 TimedAspect 등록
+ * - 모든 메트릭은 /actuator/prometheus 로 노출
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+}
@@ -1,15 +1,22 @@
 package com.musinsa.category.config;
 
+import com.musinsa.category.security.AdminId;
 import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.security.SecurityRequirement;
 import io.swagger.v3.oas.models.security.SecurityScheme;
+import org.springdoc.core.SpringDocUtils;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
 public class SwaggerConfig {
 
+    static {
+        // 인증 헤더에서 채워지는 파라미터는 문서의 요청 파라미터로 노출하지 않음
+        SpringDocUtils.getConfig().addAnnotationsToIgnore(AdminId.class);
+    }
+
     @Bean
     public OpenAPI customOpenAPI() {
         return new OpenAPI()
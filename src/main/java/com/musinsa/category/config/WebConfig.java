@@ -0,0 +1,22 @@
+package com.musinsa.category.config;
+
+import com.musinsa.category.security.AdminIdArgumentResolver;
+import com.musinsa.category.security.JwtUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebConfig implements WebMvcConfigurer {
+
+    private final JwtUtil jwtUtil;
+
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(new AdminIdArgumentResolver(jwtUtil));
+    }
+}
@@ -1,24 +1,49 @@
 package com.musinsa.category.controller;
 
+import com.musinsa.category.cache.CachedPayload;
+import com.musinsa.category.cache.CategoryPayloadCache;
 import com.musinsa.category.common.ApiResponse;
+import com.musinsa.category.dto.AutocompleteResponse;
+import com.musinsa.category.dto.CategoryBatchRequest;
+import com.musinsa.category.dto.CategoryBatchResponse;
+import com.musinsa.category.dto.CategoryChangesResponse;
+import com.musinsa.category.dto.CategoryColumnarTree;
+import com.musinsa.category.dto.CategoryDeleteResponse;
+import com.musinsa.category.dto.CategoryFields;
+import com.musinsa.category.dto.CategoryImportResponse;
+import com.musinsa.category.dto.CategoryOrderRequest;
+import com.musinsa.category.dto.CategoryOrderResponse;
 import com.musinsa.category.dto.CategoryRequest;
 import com.musinsa.category.dto.CategoryResponse;
 import com.musinsa.category.enums.Gender;
+import com.musinsa.category.enums.ImportFormat;
+import com.musinsa.category.enums.ResponseFormat;
+import com.musinsa.category.enums.SearchMode;
 import com.musinsa.category.exception.BusinessException;
 import com.musinsa.category.exception.ErrorCode;
-import com.musinsa.category.security.JwtUtil;
+import com.musinsa.category.security.AdminId;
+import com.musinsa.category.service.CategoryChangeService;
+import com.musinsa.category.service.CategoryEventService;
+import com.musinsa.category.service.CategoryExportService;
+import com.musinsa.category.service.CategoryImportService;
 import com.musinsa.category.service.CategoryService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
+import java.io.InputStream;
 import java.util.List;
 
 @Slf4j
@@ -28,8 +53,17 @@ import java.util.List;
 @Tag(name = "Category API", description = "카테고리 관리 API")
 public class CategoryController {
 
+    // 조회 API 공통 (tree, roots, 전체 목록 외에는 CategoryFieldsResponseAdvice 가 적용)
+    private static final String FIELDS_DESCRIPTION = "응답에 포함할 속성 (쉼표 구분, 예: id,name,displayOrder,children / 없으면 전체)";
+    // SSE 재연결 시 EventSource 가 보내는 헤더
+    private static final String LAST_EVENT_ID_HEADER = "Last-Event-ID";
+
     private final CategoryService categoryService;
-    private final JwtUtil jwtUtil;
+    private final CategoryImportService importService;
+    private final CategoryExportService exportService;
+    private final CategoryPayloadCache payloadCache;
+    private final CategoryChangeService changeService;
+    private final CategoryEventService eventService;
 
     /**
      * 카테고리 생성
@@ -38,71 +72,118 @@ public class CategoryController {
     @ResponseStatus(HttpStatus.CREATED)
     @Operation(summary = "카테고리 생성", description = "새로운 카테고리를 생성합니다")
     public ApiResponse<CategoryResponse> createCategory(
-            HttpServletRequest httpRequest,
+            @AdminId String adminId,
             @Validated(CategoryRequest.CreateGroup.class) @RequestBody CategoryRequest request) {
-        String authHeader = httpRequest.getHeader("Authorization");
-        String adminId = validateTokenAndGetAdminId(authHeader);
         log.info("카테고리 생성 요청: {}", request.getName());
 
         CategoryResponse response = categoryService.createCategory(request, adminId);
         return ApiResponse.success(response, "카테고리가 성공적으로 생성되었습니다");
     }
 
+    /**
+     * 카테고리 트리 일괄 생성
+     */
+    @PostMapping("/batch")
+    @ResponseStatus(HttpStatus.CREATED)
+    @Operation(summary = "카테고리 트리 일괄 생성", description = "중첩된 카테고리 트리를 한 번에 검증하고 생성합니다 (최대 10,000개)")
+    public ApiResponse<CategoryBatchResponse> createCategoryTree(
+            @AdminId String adminId,
+            @Valid @RequestBody CategoryBatchRequest request) {
+        log.info("카테고리 일괄 생성 요청 - parentId: {}, 최상위 수: {}", request.getParentId(), request.getCategories().size());
+
+        CategoryBatchResponse response = categoryService.createCategoryTree(request, adminId);
+        return ApiResponse.success(response, "카테고리가 성공적으로 일괄 생성되었습니다");
+    }
+
+    /**
+     * 카테고리 대량 가져오기 (NDJSON / CSV 스트리밍)
+     */
+    @PostMapping(value = "/import", consumes = {ImportFormat.NDJSON_VALUE, ImportFormat.CSV_VALUE})
+    @Operation(summary = "카테고리 대량 가져오기",
+            description = "NDJSON 또는 CSV 파일을 스트리밍으로 읽어 chunkSize 행마다 커밋합니다. 부모는 parentKey 로 다른 행의 externalKey 를 참조하며, 실패한 행은 행 번호와 사유를 함께 반환합니다")
+    public ApiResponse<CategoryImportResponse> importCategories(
+            @AdminId String adminId,
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            @Parameter(description = "한 트랜잭션으로 커밋할 행 수 (1~10000)")
+            @RequestParam(required = false, defaultValue = "" + CategoryImportService.DEFAULT_CHUNK_SIZE) int chunkSize,
+            InputStream body) {
+        ImportFormat format = ImportFormat.from(MediaType.parseMediaType(contentType));
+        log.info("카테고리 가져오기 요청 - format: {}, chunkSize: {} by {}", format, chunkSize, adminId);
+
+        CategoryImportResponse response = importService.importCategories(body, format, chunkSize, adminId);
+        return ApiResponse.success(response, "카테고리 가져오기가 완료되었습니다");
+    }
+
     /**
      * 카테고리 수정
      */
     @PutMapping("/{id}")
     @Operation(summary = "카테고리 수정", description = "카테고리를 수정합니다")
     public ApiResponse<CategoryResponse> updateCategory(
-            HttpServletRequest httpRequest,
+            @AdminId String adminId,
             @Parameter(description = "카테고리 ID") @PathVariable Long id,
             @Validated(CategoryRequest.UpdateGroup.class) @RequestBody CategoryRequest request) {
         validateRequestId(id);
-        String authHeader = httpRequest.getHeader("Authorization");
-        String adminId = validateTokenAndGetAdminId(authHeader);
         log.info("카테고리 수정 요청 - ID: {}, name: {}", id, request.getName());
 
         CategoryResponse response = categoryService.updateCategory(id, request, adminId);
         return ApiResponse.success(response, "카테고리가 성공적으로 수정되었습니다");
     }
 
+    /**
+     * 형제 카테고리 순서 일괄 변경
+     */
+    @PutMapping({"/{parentId}/order", "/roots/order"})
+    @Operation(summary = "하위 카테고리 순서 변경",
+            description = "부모 하위의 활성 카테고리 ID 를 새 순서대로 모두 받아 한 트랜잭션으로 반영합니다. 순서가 바뀐 카테고리만 갱신합니다 (/roots/order 는 루트 카테고리)")
+    public ApiResponse<CategoryOrderResponse> reorderChildren(
+            @AdminId String adminId,
+            @Parameter(description = "부모 카테고리 ID") @PathVariable(required = false) Long parentId,
+            @Valid @RequestBody CategoryOrderRequest request) {
+        if (parentId != null) {
+            validateRequestId(parentId);
+        }
+        log.info("카테고리 순서 변경 요청 - parentId: {}, 수: {} by {}", parentId, request.getCategoryIds().size(), adminId);
+
+        CategoryOrderResponse response = categoryService.reorderChildren(parentId, request.getCategoryIds(), adminId);
+        return ApiResponse.success(response, "카테고리 순서가 변경되었습니다");
+    }
+
     /**
      * 카테고리 삭제 (비활성화 처리)
      */
     @DeleteMapping("/{id}")
-    @Operation(summary = "카테고리 삭제", description = "카테고리를 삭제(비활성화)합니다")
-    public ApiResponse<Void> deleteCategory(
-            HttpServletRequest httpRequest,
-            @Parameter(description = "카테고리 ID") @PathVariable Long id) {
+    @Operation(summary = "카테고리 삭제", description = "카테고리를 삭제(비활성화)합니다. cascade=true 면 하위 카테고리까지 함께 비활성화합니다")
+    public ApiResponse<CategoryDeleteResponse> deleteCategory(
+            @AdminId String adminId,
+            @Parameter(description = "카테고리 ID") @PathVariable Long id,
+            @Parameter(description = "하위 카테고리 포함 여부") @RequestParam(required = false, defaultValue = "false") boolean cascade) {
         validateRequestId(id);
-        String authHeader = httpRequest.getHeader("Authorization");
-        String adminId = validateTokenAndGetAdminId(authHeader);
-        log.info("카테고리 삭제 요청 - ID: {} by {}", id, adminId);
+        log.info("카테고리 삭제 요청 - ID: {}, cascade: {} by {}", id, cascade, adminId);
 
-        categoryService.deleteCategory(id, adminId);
-        return ApiResponse.success(null, "카테고리가 성공적으로 삭제되었습니다");
+        int affected = categoryService.deleteCategory(id, adminId, cascade);
+        return ApiResponse.success(CategoryDeleteResponse.of(id, cascade, affected), "카테고리가 성공적으로 삭제되었습니다");
     }
 
     /**
      * 카테고리 완전 삭제
      */
     @DeleteMapping("/{id}/real")
-    @Operation(summary = "카테고리 완전 삭제", description = "카테고리를 완전히 삭제합니다")
-    public ApiResponse<Void> realDeleteCategory(
-            HttpServletRequest httpRequest,
+    @Operation(summary = "카테고리 완전 삭제", description = "카테고리를 완전히 삭제합니다. cascade=true 면 하위 카테고리까지 함께 삭제합니다")
+    public ApiResponse<CategoryDeleteResponse> realDeleteCategory(
+            @AdminId String adminId,
             @Parameter(description = "카테고리 ID") @PathVariable Long id,
-            @RequestParam(required = false, defaultValue = "false") boolean confirm) {
+            @RequestParam(required = false, defaultValue = "false") boolean confirm,
+            @Parameter(description = "하위 카테고리 포함 여부") @RequestParam(required = false, defaultValue = "false") boolean cascade) {
         validateRequestId(id);
         if (!confirm) {
             throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "confirm 파라미터를 확인해주세요");
         }
 
-        String authHeader = httpRequest.getHeader("Authorization");
-        String adminId = validateTokenAndGetAdminId(authHeader);
-        log.info("카테고리 완전 삭제 요청 - ID: {} by {}", id, adminId);
+        log.info("카테고리 완전 삭제 요청 - ID: {}, cascade: {} by {}", id, cascade, adminId);
 
-        categoryService.realDeleteCategory(id, adminId);
-        return ApiResponse.success(null, "카테고리가 완전히 삭제되었습니다");
+        int affected = categoryService.realDeleteCategory(id, adminId, cascade);
+        return ApiResponse.success(CategoryDeleteResponse.of(id, cascade, affected), "카테고리가 완전히 삭제되었습니다");
     }
 
     /**
@@ -111,11 +192,9 @@ public class CategoryController {
     @PatchMapping("/{id}/activate")
     @Operation(summary = "카테고리 활성화", description = "비활성화된 카테고리를 활성화합니다")
     public ApiResponse<Void> activateCategory(
-            HttpServletRequest httpRequest,
+            @AdminId String adminId,
             @Parameter(description = "카테고리 ID") @PathVariable Long id) {
         validateRequestId(id);
-        String authHeader = httpRequest.getHeader("Authorization");
-        String adminId = validateTokenAndGetAdminId(authHeader);
         log.info("카테고리 활성화 요청 - ID: {} by {}", id, adminId);
         categoryService.activateCategory(id, adminId);
         return ApiResponse.success(null, "카테고리가 성공적으로 활성화되었습니다");
@@ -126,6 +205,7 @@ public class CategoryController {
      */
     @GetMapping("/{id}")
     @Operation(summary = "단일 카테고리 조회", description = "특정 카테고리를 조회합니다")
+    @Parameter(name = CategoryFieldsResponseAdvice.FIELDS_PARAMETER, in = ParameterIn.QUERY, description = FIELDS_DESCRIPTION)
     public ApiResponse<CategoryResponse> getCategory(
             @Parameter(description = "카테고리 ID") @PathVariable Long id) {
         validateRequestId(id);
@@ -135,31 +215,66 @@ public class CategoryController {
 
     /**
      * 특정 카테고리의 직계 하위 카테고리 조회
+     * - cursor/size 가 없으면 전체 목록, 있으면 키셋 페이지 (CategoryPageResponse)
      */
     @GetMapping("/{id}/children")
-    @Operation(summary = "하위 카테고리 조회", description = "특정 카테고리의 직계 하위 카테고리들을 조회합니다")
-    public ApiResponse<List<CategoryResponse>> getDirectChildren(
-            @Parameter(description = "부모 카테고리 ID") @PathVariable Long id) {
+    @Operation(summary = "하위 카테고리 조회", description = "특정 카테고리의 직계 하위 카테고리들을 조회합니다. cursor 또는 size 를 주면 페이지 단위로 조회합니다")
+    @Parameter(name = CategoryFieldsResponseAdvice.FIELDS_PARAMETER, in = ParameterIn.QUERY, description = FIELDS_DESCRIPTION)
+    public ApiResponse<?> getDirectChildren(
+            @Parameter(description = "부모 카테고리 ID") @PathVariable Long id,
+            @Parameter(description = "이전 페이지 응답의 nextCursor")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (1~1000, cursor 만 주면 100)")
+            @RequestParam(required = false) Integer size) {
         validateRequestId(id);
-        List<CategoryResponse> children = categoryService.getDirectChildren(id);
-        return ApiResponse.success(children);
+        if (cursor == null && size == null) {
+            List<CategoryResponse> children = categoryService.getDirectChildren(id);
+            return ApiResponse.success(children);
+        }
+        return ApiResponse.success(categoryService.getDirectChildrenPage(id, cursor, pageSize(size)));
     }
 
     /**
      * 카테고리 트리 구조 조회
      * - id가 없으면: 전체 카테고리 트리
      * - id가 있으면: 해당 카테고리를 루트로 하는 하위 트리
+     * - 미리 직렬화된 바이트를 내려주며, If-None-Match 가 ETag 와 같으면 304 (본문 없음)
+     * - Accept-Encoding 에 gzip 이 있으면 미리 압축된 본문을 그대로 내려줌
+     * - Accept 가 application/cbor, application/x-jackson-smile 이면 해당 바이너리 형식 (기본값 JSON)
      */
     @GetMapping("/tree")
     @Operation(summary = "카테고리 트리 조회", description = "카테고리 트리 구조를 조회합니다")
-    public ApiResponse<List<CategoryResponse>> getCategoryTree(
+    public ResponseEntity<byte[]> getCategoryTree(
             @Parameter(description = "루트 카테고리 ID (없으면 전체 트리)")
             @RequestParam(required = false) Long categoryId,
             @Parameter(description = "성별 (기본값:A)")
-            @RequestParam(defaultValue = "A") Gender gender) {
+            @RequestParam(defaultValue = "A") Gender gender,
+            @Parameter(description = FIELDS_DESCRIPTION)
+            @RequestParam(required = false) String fields,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
 
-        List<CategoryResponse> tree = categoryService.getCategoryTree(categoryId, gender);
-        return ApiResponse.success(tree);
+        ResponseFormat format = ResponseFormat.negotiate(accept);
+        CachedPayload payload = payloadCache.getTree(categoryId, gender, CategoryFields.parse(fields), format);
+        return toPayloadResponse(payload, acceptEncoding, format.getMediaType());
+    }
+
+    /**
+     * 카테고리 트리 열 단위 조회 (Accept: application/vnd.musinsa.category-tree.columnar+json)
+     * - 중첩 객체 대신 ids/parentIndex/names/displayOrder/genders 병렬 배열로 내려줌
+     * - ETag, gzip 처리는 트리 조회와 동일
+     */
+    @GetMapping(value = "/tree", produces = CategoryColumnarTree.MEDIA_TYPE_VALUE)
+    @Operation(summary = "카테고리 트리 열 단위 조회", description = "트리를 병렬 배열로 조회합니다. parentIndex 는 부모의 배열 위치(-1 이면 최상위), genders 는 M=1, F=2, A=3 비트마스크입니다")
+    public ResponseEntity<byte[]> getColumnarCategoryTree(
+            @Parameter(description = "루트 카테고리 ID (없으면 전체 트리)")
+            @RequestParam(required = false) Long categoryId,
+            @Parameter(description = "성별 (기본값:A)")
+            @RequestParam(defaultValue = "A") Gender gender,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+
+        CachedPayload payload = payloadCache.getColumnarTree(categoryId, gender);
+        return toPayloadResponse(payload, acceptEncoding, MediaType.parseMediaType(CategoryColumnarTree.MEDIA_TYPE_VALUE));
     }
 
     /**
@@ -167,60 +282,171 @@ public class CategoryController {
      */
     @GetMapping("/roots")
     @Operation(summary = "루트 카테고리 조회", description = "최상위 카테고리들을 조회합니다")
-    public ApiResponse<List<CategoryResponse>> getRootCategories(
+    public ResponseEntity<byte[]> getRootCategories(
             @Parameter(description = "성별 (기본값:A)")
-            @RequestParam(defaultValue = "A") Gender gender) {
-        List<CategoryResponse> roots = categoryService.getRootCategories(gender);
-        return ApiResponse.success(roots);
+            @RequestParam(defaultValue = "A") Gender gender,
+            @Parameter(description = FIELDS_DESCRIPTION)
+            @RequestParam(required = false) String fields,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        ResponseFormat format = ResponseFormat.negotiate(accept);
+        CachedPayload payload = payloadCache.getRoots(gender, CategoryFields.parse(fields), format);
+        return toPayloadResponse(payload, acceptEncoding, format.getMediaType());
     }
 
     /**
      * 전체 카테고리 조회 (평면 구조)
+     * - cursor/size 가 없으면 미리 직렬화된 전체 목록, 있으면 키셋 페이지 (CategoryPageResponse)
      */
     @GetMapping
-    @Operation(summary = "전체 카테고리 조회", description = "모든 활성 카테고리를 조회합니다")
-    public ApiResponse<List<CategoryResponse>> getAllCategories(
+    @Operation(summary = "전체 카테고리 조회", description = "모든 활성 카테고리를 조회합니다. cursor 또는 size 를 주면 (depth, displayOrder, id) 순으로 페이지 단위 조회합니다")
+    public ResponseEntity<?> getAllCategories(
+            @Parameter(description = "성별 (기본값:A)")
+            @RequestParam(defaultValue = "A") Gender gender,
+            @Parameter(description = "이전 페이지 응답의 nextCursor")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (1~1000, cursor 만 주면 100)")
+            @RequestParam(required = false) Integer size,
+            @Parameter(description = FIELDS_DESCRIPTION)
+            @RequestParam(required = false) String fields,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        if (cursor == null && size == null) {
+            ResponseFormat format = ResponseFormat.negotiate(accept);
+            CachedPayload payload = payloadCache.getAll(gender, CategoryFields.parse(fields), format);
+            return toPayloadResponse(payload, acceptEncoding, format.getMediaType());
+        }
+        return ResponseEntity.ok(ApiResponse.success(categoryService.getAllCategoriesPage(gender, cursor, pageSize(size))));
+    }
+
+    /**
+     * 전체 카테고리 내보내기 (NDJSON 스트리밍, 관리자 전용)
+     * - 비활성(삭제된) 카테고리까지 내보낼 수 있고, 다운로드가 끝날 때까지 DB 커넥션을 점유하므로 인증된 관리자만 허용
+     */
+    @GetMapping(value = "/export", produces = ImportFormat.NDJSON_VALUE)
+    @Operation(summary = "카테고리 내보내기", description = "카테고리 전체를 한 줄에 하나씩 NDJSON 으로 스트리밍합니다 (관리자 전용, id 순, 행 수와 무관하게 메모리 사용량 일정)")
+    public ResponseEntity<StreamingResponseBody> exportCategories(
+            @AdminId String adminId,
+            @Parameter(description = "비활성 카테고리 포함 여부 (기본값:false)")
+            @RequestParam(defaultValue = "false") boolean includeInactive,
             @Parameter(description = "성별 (기본값:A)")
             @RequestParam(defaultValue = "A") Gender gender) {
-        List<CategoryResponse> all = categoryService.getAllCategories(gender);
-        return ApiResponse.success(all);
+        log.info("카테고리 내보내기 요청 - includeInactive: {}, gender: {} by {}", includeInactive, gender, adminId);
+
+        StreamingResponseBody body = output -> exportService.exportCategories(output, includeInactive, gender);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(ImportFormat.NDJSON_VALUE))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"categories.ndjson\"")
+                .body(body);
     }
 
     /**
      * 카테고리 검색
      */
     @GetMapping("/search")
-    @Operation(summary = "카테고리 검색", description = "이름으로 카테고리를 검색합니다")
+    @Operation(summary = "카테고리 검색", description = "이름 또는 초성으로 카테고리를 검색합니다 (정확히 일치 > 앞부분 일치 > 단어 앞부분 일치 > 부분 일치 순)")
+    @Parameter(name = CategoryFieldsResponseAdvice.FIELDS_PARAMETER, in = ParameterIn.QUERY, description = FIELDS_DESCRIPTION)
     public ApiResponse<List<CategoryResponse>> searchCategories(
-            @Parameter(description = "검색 키워드 (2자 이상)")
-            @RequestParam String keyword) {
+            @Parameter(description = "검색 키워드 (2자 이상, CHOSUNG 모드는 예: ㅂㅍㅌ)")
+            @RequestParam String keyword,
+            @Parameter(description = "검색 방식 (기본값:NAME)")
+            @RequestParam(defaultValue = "NAME") SearchMode mode,
+            @Parameter(description = "건너뛸 결과 수 (기본값:0)")
+            @RequestParam(defaultValue = "0") int offset,
+            @Parameter(description = "최대 결과 수 (기본값:20, 최대 100)")
+            @RequestParam(defaultValue = "20") int limit) {
 
-        log.info("카테고리 검색 요청 - keyword: {}", keyword);
+        log.info("카테고리 검색 요청 - keyword: {}, mode: {}, offset: {}, limit: {}", keyword, mode, offset, limit);
 
-        List<CategoryResponse> results = categoryService.searchCategories(keyword);
+        List<CategoryResponse> results = categoryService.searchCategories(keyword, mode, offset, limit);
         return ApiResponse.success(results);
     }
 
-    private void validateRequestId(Long id){
-        if (id == null || id <= 0) {
-            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
-        }
+    /**
+     * 검색창 자동완성
+     */
+    @GetMapping("/autocomplete")
+    @Operation(summary = "카테고리 자동완성", description = "이름 또는 이름 경로(예: 상의 반팔)의 접두어로 카테고리를 추천합니다")
+    public ApiResponse<List<AutocompleteResponse>> autocomplete(
+            @Parameter(description = "입력 중인 접두어")
+            @RequestParam String prefix,
+            @Parameter(description = "성별 (기본값:A)")
+            @RequestParam(defaultValue = "A") Gender gender,
+            @Parameter(description = "최대 추천 수 (기본값:10, 최대 10)")
+            @RequestParam(defaultValue = "10") int limit) {
+        return ApiResponse.success(categoryService.autocomplete(prefix, gender, limit));
     }
 
     /**
-     * 토큰 검증 및 관리자 ID 추출
+     * 트리 버전 이후 변경분 조회 (하위 서비스 동기화용)
      */
-    private String validateTokenAndGetAdminId(String authHeader) {
-        String token = jwtUtil.extractTokenFromHeader(authHeader);
+    @GetMapping("/changes")
+    @Operation(summary = "카테고리 변경분 조회",
+            description = "since 버전 이후 생성/수정/이동/비활성화/삭제된 카테고리만 조회합니다. 응답의 version 을 다음 요청의 since 로 사용하고, resyncRequired=true 면 전체 트리를 다시 받아야 합니다")
+    @Parameter(name = CategoryFieldsResponseAdvice.FIELDS_PARAMETER, in = ParameterIn.QUERY, description = FIELDS_DESCRIPTION)
+    public ApiResponse<CategoryChangesResponse> getChanges(
+            @Parameter(description = "마지막으로 반영한 트리 버전 (처음이면 0)")
+            @RequestParam long since) {
+        return ApiResponse.success(changeService.getChanges(since));
+    }
 
-        if (token == null) {
-            throw new BusinessException(ErrorCode.MISSING_TOKEN);
+    /**
+     * 카테고리 변경 이벤트 구독 (SSE)
+     */
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "카테고리 변경 이벤트 구독",
+            description = "변경이 커밋될 때마다 change 이벤트(id=트리 버전)를 보냅니다. Last-Event-ID 로 재연결하면 놓친 이벤트부터 이어서 보내며, 이어줄 수 없으면 resync 이벤트를 보냅니다 (/changes?since= 로 따라잡기)")
+    public SseEmitter streamEvents(
+            @Parameter(description = "마지막으로 받은 이벤트 ID (재연결 시 EventSource 가 자동으로 보냄)")
+            @RequestHeader(value = LAST_EVENT_ID_HEADER, required = false) Long lastEventId) {
+        return eventService.subscribe(lastEventId);
+    }
+
+    /**
+     * 캐시된 응답 바이트를 그대로 내려줌 (gzip 허용 시 압축본)
+     */
+    private ResponseEntity<byte[]> toPayloadResponse(CachedPayload payload, String acceptEncoding, MediaType contentType) {
+        // 트리는 Accept 에 따라 표현이 달라지므로 Accept 도 Vary 에 포함
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(contentType)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING, HttpHeaders.ACCEPT);
+
+        if (acceptsGzip(acceptEncoding)) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .eTag(payload.getGzipEtag())
+                    .body(payload.getGzipBody());
         }
+        return builder.eTag(payload.getEtag())
+                .body(payload.getBody());
+    }
 
-        if (!jwtUtil.isTokenValid(token)) {
-            throw new BusinessException(ErrorCode.INVALID_TOKEN);
+    private boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Boolean wildcard = null;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            String name = parts[0].trim();
+            // q=0 은 명시적 거부
+            boolean accepted = parts.length < 2 || !parts[1].trim().matches("q=0(\\.0*)?");
+            if ("gzip".equalsIgnoreCase(name)) {
+                return accepted;
+            }
+            if ("*".equals(name)) {
+                wildcard = accepted;
+            }
         }
+        return Boolean.TRUE.equals(wildcard);
+    }
+
+    private void validateRequestId(Long id){
+        if (id == null || id <= 0) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+    }
 
-        return jwtUtil.extractAdminId(token);
+    private int pageSize(Integer size) {
+        return size != null ? size : CategoryService.DEFAULT_PAGE_SIZE;
     }
-}
\ No newline at end of file
+}
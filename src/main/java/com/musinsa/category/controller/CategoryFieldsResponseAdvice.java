@@ -0,0 +1,36 @@
+package com.musinsa.category.controller;
+
+import com.musinsa.category.dto.CategoryFields;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.AbstractMappingJacksonResponseBodyAdvice;
+
+/**
+ * 카테고리 조회 응답에 fields 파라미터 적용
+ * - 미리 직렬화된 바이트를 내려주는 조회(tree, roots, 전체 목록)는 CategoryPayloadCache 에서 따로 처리
+ */
+@ControllerAdvice(assignableTypes = CategoryController.class)
+public class CategoryFieldsResponseAdvice extends AbstractMappingJacksonResponseBodyAdvice {
+
+    static final String FIELDS_PARAMETER = "fields";
+
+    @Override
+    protected void beforeBodyWriteInternal(MappingJacksonValue bodyContainer, MediaType contentType,
+                                           MethodParameter returnType, ServerHttpRequest request,
+                                           ServerHttpResponse response) {
+        if (request.getMethod() != HttpMethod.GET || !(request instanceof ServletServerHttpRequest)) {
+            return;
+        }
+        String fields = ((ServletServerHttpRequest) request).getServletRequest().getParameter(FIELDS_PARAMETER);
+        CategoryFields parsed = CategoryFields.parse(fields);
+        if (!parsed.isAll()) {
+            bodyContainer.setFilters(parsed.filters());
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.musinsa.category.dto;
+
+import com.musinsa.category.enums.Gender;
+import com.musinsa.category.search.Suggestion;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class AutocompleteResponse {
+    private Long id;
+    private String name;
+    private String breadcrumb;
+    private String path;
+    private Integer depth;
+    private Gender gender;
+
+    public static AutocompleteResponse from(Suggestion suggestion) {
+        return AutocompleteResponse.builder()
+                .id(suggestion.getNode().getId())
+                .name(suggestion.getNode().getName())
+                .breadcrumb(suggestion.getBreadcrumb())
+                .path(suggestion.getNode().getPath())
+                .depth(suggestion.getNode().getDepth())
+                .gender(suggestion.getNode().getGender())
+                .build();
+    }
+}
@@ -0,0 +1,50 @@
+package com.musinsa.category.dto;
+
+import com.musinsa.category.enums.Gender;
+import lombok.*;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.Size;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 카테고리 트리 일괄 생성 요청
+ * - parentId 가 없으면 categories 가 루트로 생성됨
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CategoryBatchRequest {
+
+    private Long parentId;
+
+    @NotEmpty(message = "생성할 카테고리가 없습니다")
+    @Valid
+    private List<Node> categories;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Node {
+
+        private String name;
+
+        @Size(max = 500, message = "설명은 500자를 초과할 수 없습니다")
+        private String description;
+
+        private Integer displayOrder;
+
+        @Builder.Default
+        private Gender gender = Gender.A;
+
+        @Valid
+        @Builder.Default
+        private List<Node> children = new ArrayList<>();
+    }
+}
@@ -0,0 +1,20 @@
+package com.musinsa.category.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class CategoryBatchResponse {
+    private int createdCount;
+    private List<Long> rootIds;
+
+    public static CategoryBatchResponse of(int createdCount, List<Long> rootIds) {
+        return CategoryBatchResponse.builder()
+                .createdCount(createdCount)
+                .rootIds(rootIds)
+                .build();
+    }
+}
@@ -0,0 +1,37 @@
+package com.musinsa.category.dto;
+
+import com.musinsa.category.enums.ChangeType;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.List;
+
+@Getter
+@Builder
+public class CategoryChangesResponse {
+    // 이 응답이 반영한 트리 버전 (다음 요청의 since 로 사용)
+    private long version;
+    // true 면 변경분 대신 전체 트리를 다시 받아야 함 (변경 로그가 압축되었거나 너무 많음)
+    private boolean resyncRequired;
+    // 카테고리별 마지막 변경 (버전 순)
+    private List<Change> changes;
+
+    public static CategoryChangesResponse resync(long version) {
+        return CategoryChangesResponse.builder()
+                .version(version)
+                .resyncRequired(true)
+                .changes(Collections.emptyList())
+                .build();
+    }
+
+    @Getter
+    @Builder
+    public static class Change {
+        private long version;
+        private Long categoryId;
+        private ChangeType type;
+        // 변경 후 상태 (비활성화면 isActive=false, 완전 삭제면 null)
+        private CategoryResponse category;
+    }
+}
@@ -0,0 +1,78 @@
+package com.musinsa.category.dto;
+
+import com.musinsa.category.enums.Gender;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 카테고리 트리의 열(column) 단위 표현 (모바일 앱 초기 로딩용)
+ * - i 번째 카테고리의 값이 각 배열의 i 번째에 들어있음 (속성 이름은 배열마다 한 번만 나옴)
+ * - 전위 순회 순서라 부모가 항상 자식보다 앞에 있어 한 번 훑으면 트리를 복원할 수 있음
+ * - parentIndex 는 부모의 배열 위치 (응답 범위 안에 부모가 없으면 -1)
+ * - genders 는 성별 비트마스크 (M=1, F=2, A=3)
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class CategoryColumnarTree {
+
+    public static final String MEDIA_TYPE_VALUE = "application/vnd.musinsa.category-tree.columnar+json";
+
+    public static final int GENDER_MALE = 1;
+    public static final int GENDER_FEMALE = 2;
+
+    private final long[] ids;
+    private final int[] parentIndex;
+    private final String[] names;
+    private final int[] displayOrder;
+    private final int[] genders;
+
+    /**
+     * getCategoryTree 결과(중첩 트리)를 열 단위로 변환
+     */
+    public static CategoryColumnarTree from(List<CategoryResponse> roots) {
+        int size = count(roots);
+        CategoryColumnarTree tree = new CategoryColumnarTree(
+                new long[size], new int[size], new String[size], new int[size], new int[size]);
+        int next = 0;
+        for (CategoryResponse root : roots) {
+            next = tree.append(root, -1, next);
+        }
+        return tree;
+    }
+
+    public static int genderMask(Gender gender) {
+        switch (gender) {
+            case M:
+                return GENDER_MALE;
+            case F:
+                return GENDER_FEMALE;
+            default:
+                return GENDER_MALE | GENDER_FEMALE;
+        }
+    }
+
+    private int append(CategoryResponse category, int parent, int index) {
+        ids[index] = category.getId();
+        parentIndex[index] = parent;
+        names[index] = category.getName();
+        displayOrder[index] = category.getDisplayOrder();
+        genders[index] = genderMask(category.getGender());
+
+        int next = index + 1;
+        for (CategoryResponse child : category.getChildren()) {
+            next = append(child, index, next);
+        }
+        return next;
+    }
+
+    private static int count(List<CategoryResponse> categories) {
+        int count = categories.size();
+        for (CategoryResponse category : categories) {
+            count += count(category.getChildren());
+        }
+        return count;
+    }
+}
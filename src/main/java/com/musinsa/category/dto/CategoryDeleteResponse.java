@@ -0,0 +1,20 @@
+package com.musinsa.category.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class CategoryDeleteResponse {
+    private Long id;
+    private boolean cascade;
+    private int affectedCount;
+
+    public static CategoryDeleteResponse of(Long id, boolean cascade, int affectedCount) {
+        return CategoryDeleteResponse.builder()
+                .id(id)
+                .cascade(cascade)
+                .affectedCount(affectedCount)
+                .build();
+    }
+}
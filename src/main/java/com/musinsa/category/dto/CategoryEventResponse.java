@@ -0,0 +1,29 @@
+package com.musinsa.category.dto;
+
+import com.musinsa.category.enums.ChangeType;
+import com.musinsa.category.event.CategoryChangeRecordedEvent;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Builder
+public class CategoryEventResponse {
+    // 트리 버전 (SSE 이벤트 ID, 재연결 시 Last-Event-ID 로 전달됨)
+    private long version;
+    private ChangeType type;
+    // 이 작업에서 바뀐 카테고리 (이동/하위 트리 비활성화·삭제면 하위 카테고리 포함)
+    private List<Long> categoryIds;
+    private LocalDateTime changedAt;
+
+    public static CategoryEventResponse from(CategoryChangeRecordedEvent event) {
+        return CategoryEventResponse.builder()
+                .version(event.getVersion())
+                .type(event.getType())
+                .categoryIds(event.getCategoryIds())
+                .changedAt(event.getChangedAt())
+                .build();
+    }
+}
@@ -0,0 +1,91 @@
+package com.musinsa.category.dto;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.musinsa.category.exception.BusinessException;
+import com.musinsa.category.exception.ErrorCode;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * CategoryResponse 중 응답에 포함할 속성 목록 (fields=id,name,displayOrder,children)
+ * - 이름 순으로 정규화하므로 순서만 다른 요청은 같은 값 (직렬화 캐시 키로 사용)
+ * - 하위 카테고리(children)에도 같은 목록이 적용된다
+ */
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class CategoryFields {
+
+    public static final String FILTER_ID = "categoryFields";
+
+    public static final CategoryFields ALL = new CategoryFields(null);
+
+    private static final List<String> NAMES = Arrays.asList(
+            "id", "name", "description", "gender", "parentId", "displayOrder", "isActive",
+            "path", "depth", "createdAt", "updatedAt", "createdBy", "updatedBy", "children");
+
+    // null 이면 전체
+    private final Set<String> names;
+
+    /**
+     * 쉼표로 구분된 속성 목록 파싱 (비어 있으면 전체, 모르는 속성이면 400)
+     */
+    public static CategoryFields parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return ALL;
+        }
+        Set<String> names = new TreeSet<>();
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (!NAMES.contains(name)) {
+                throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "알 수 없는 fields 항목입니다: " + name);
+            }
+            names.add(name);
+        }
+        if (names.isEmpty() || names.size() == NAMES.size()) {
+            return ALL;
+        }
+        return new CategoryFields(Collections.unmodifiableSet(names));
+    }
+
+    public boolean isAll() {
+        return names == null;
+    }
+
+    public boolean includes(String name) {
+        return names == null || names.contains(name);
+    }
+
+    /**
+     * 직렬화 시 ObjectWriter 에 넘길 필터
+     */
+    public FilterProvider filters() {
+        return new SimpleFilterProvider().addFilter(FILTER_ID, names == null
+                ? SimpleBeanPropertyFilter.serializeAll()
+                : SimpleBeanPropertyFilter.filterOutAllExcept(names));
+    }
+
+    @Override
+    public String toString() {
+        return names == null ? "*" : String.join(",", names);
+    }
+
+    /**
+     * CategoryResponse 에 필터를 붙이는 믹스인 (스프링 ObjectMapper 에만 등록)
+     */
+    @JsonFilter(FILTER_ID)
+    public interface FilterMixin {
+    }
+}
@@ -0,0 +1,30 @@
+package com.musinsa.category.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class CategoryImportResponse {
+    private long totalRows;
+    private long importedRows;
+    private long failedRows;
+    private int chunkCount;
+    private long elapsedMillis;
+    // 실패 행 상세 (최대 건수까지만, 나머지는 errorsTruncated 로 표시)
+    private List<Error> errors;
+    private boolean errorsTruncated;
+    // 파일을 끝까지 읽지 못하고 중단된 경우 사유
+    private String abortedReason;
+
+    @Getter
+    @Builder
+    public static class Error {
+        private long line;
+        private String externalKey;
+        private String code;
+        private String message;
+    }
+}
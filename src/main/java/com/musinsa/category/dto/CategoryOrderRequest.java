@@ -0,0 +1,21 @@
+package com.musinsa.category.dto;
+
+import lombok.*;
+
+import javax.validation.constraints.NotEmpty;
+import java.util.List;
+
+/**
+ * 형제 카테고리 순서 변경 요청
+ * - 부모 하위의 활성 카테고리 ID 를 빠짐없이 새 순서대로 나열
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CategoryOrderRequest {
+
+    @NotEmpty(message = "순서를 정할 카테고리가 없습니다")
+    private List<Long> categoryIds;
+}
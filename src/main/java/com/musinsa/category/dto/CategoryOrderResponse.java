@@ -0,0 +1,25 @@
+package com.musinsa.category.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 형제 카테고리 순서 변경 결과
+ * - updatedCount: displayOrder 가 실제로 바뀐 카테고리 수
+ * - rebalanced: 빈 번호가 모자라 형제 전체를 다시 매겼는지 여부
+ */
+@Getter
+@Builder
+public class CategoryOrderResponse {
+    private Long parentId;
+    private int updatedCount;
+    private boolean rebalanced;
+
+    public static CategoryOrderResponse of(Long parentId, int updatedCount, boolean rebalanced) {
+        return CategoryOrderResponse.builder()
+                .parentId(parentId)
+                .updatedCount(updatedCount)
+                .rebalanced(rebalanced)
+                .build();
+    }
+}
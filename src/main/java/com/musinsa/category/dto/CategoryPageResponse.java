@@ -0,0 +1,23 @@
+package com.musinsa.category.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class CategoryPageResponse {
+    private List<CategoryResponse> items;
+    // 다음 페이지 요청에 그대로 넘길 커서 (마지막 페이지면 null)
+    private String nextCursor;
+    private boolean hasNext;
+
+    public static CategoryPageResponse of(List<CategoryResponse> items, String nextCursor) {
+        return CategoryPageResponse.builder()
+                .items(items)
+                .nextCursor(nextCursor)
+                .hasNext(nextCursor != null)
+                .build();
+    }
+}
@@ -1,5 +1,6 @@
 package com.musinsa.category.dto;
 
+import com.musinsa.category.cache.CategoryNode;
 import com.musinsa.category.entity.Category;
 import com.musinsa.category.enums.Gender;
 import lombok.Builder;
@@ -50,6 +51,26 @@ public class CategoryResponse {
                 .build();
     }
 
+    // 스냅샷 노드 -> Response 변환 (children 포함안함)
+    public static CategoryResponse from(CategoryNode node) {
+        return CategoryResponse.builder()
+                .id(node.getId())
+                .name(node.getName())
+                .description(node.getDescription())
+                .gender(node.getGender())
+                .parentId(node.getParentId())
+                .displayOrder(node.getDisplayOrder())
+                .isActive(node.getIsActive())
+                .path(node.getPath())
+                .depth(node.getDepth())
+                .createdAt(node.getCreatedAt())
+                .updatedAt(node.getUpdatedAt())
+                .createdBy(node.getCreatedBy())
+                .updatedBy(node.getUpdatedBy())
+                .children(new ArrayList<>())
+                .build();
+    }
+
     // Entity -> Response 변환 (children 자동 포함) - 기존 호환성
     public static CategoryResponse fromEntity(Category category) {
         return CategoryResponse.builder()
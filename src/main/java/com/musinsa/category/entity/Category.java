@@ -2,6 +2,8 @@ package com.musinsa.category.entity;
 
 import com.musinsa.category.enums.Gender;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 import org.springframework.util.StringUtils;
@@ -12,6 +14,8 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "categories", uniqueConstraints = {
     @UniqueConstraint(name = "uk_category_parent_display_order",columnNames = {"parent_id", "display_order"})
 })
@@ -53,9 +57,13 @@ public class Category {
     @Builder.Default
     private Integer depth = 0;
 
-    @Column(length = 100)
+    @Column(length = 1000)
     private String path;
 
+    // 외부 시스템(가져오기 파일)의 식별자, 부모 참조를 이 키로 해석
+    @Column(name = "external_key", length = 100, unique = true)
+    private String externalKey;
+
     @Column(name = "is_active", nullable = false)
     @Builder.Default
     private Boolean isActive = true;
@@ -89,16 +97,16 @@ public class Category {
         }
     }
 
+    // 자기 자신만 비활성화 (하위 트리는 CategoryRepository.deactivateSubtree 로 일괄 처리)
     public void deactivate() {
         this.isActive = false;
-        // 하위 카테고리도 전부 비활성화
-        this.children.forEach(Category::deactivate);
     }
 
     public void activate() {
         this.isActive = true;
     }
 
+    // 자기 자신만 갱신 (이동 시 하위 트리는 CategoryRepository.moveSubtreePath 로 일괄 갱신)
     public void updatePathAndDepth() {
         if (this.parent != null) {
             this.path = this.parent.getPath() + "/" + this.id;
@@ -107,7 +115,6 @@ public class Category {
             this.path = "/" + this.id;
             this.depth = 0;
         }
-        this.children.forEach(Category::updatePathAndDepth);
     }
 
     public void updateAuditInfo(String userId) {
@@ -133,16 +140,6 @@ public class Category {
         }
     }
 
-    // path 기반으로 하위인지 체크
-    public boolean isDescendantOf(Category potentialAncestor) {
-        if (potentialAncestor == null || this.path == null || potentialAncestor.getPath() == null) {
-            return false;
-        }
-
-        String ancestorPath = potentialAncestor.getPath();
-        return this.path.startsWith(ancestorPath + "/");
-    }
-
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
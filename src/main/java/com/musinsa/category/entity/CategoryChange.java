@@ -0,0 +1,44 @@
+package com.musinsa.category.entity;
+
+import com.musinsa.category.enums.ChangeType;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 카테고리 변경 로그 (변경된 카테고리마다 한 행)
+ * - version 은 변경 작업마다 1씩 증가하는 트리 버전 (같은 작업에서 바뀐 카테고리는 같은 버전)
+ * - 행은 CategoryBatchRepository.insertChanges 로 일괄 추가하고, 보관 기간이 지나면 압축(삭제)
+ */
+@Entity
+@Table(name = "category_change", indexes = {
+    @Index(name = "idx_category_change_version", columnList = "version")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class CategoryChange {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long version;
+
+    @Column(name = "category_id", nullable = false)
+    private Long categoryId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "change_type", nullable = false, length = 20)
+    private ChangeType changeType;
+
+    @Column(name = "changed_at", nullable = false)
+    private LocalDateTime changedAt;
+}
@@ -0,0 +1,42 @@
+package com.musinsa.category.entity;
+
+import lombok.*;
+
+import javax.persistence.*;
+import java.io.Serializable;
+
+/**
+ * 카테고리 클로저 테이블 (조상-후손 쌍마다 한 행, 자기 자신은 distance 0)
+ * - 하위 트리/조상 조회와 순환 검사를 path LIKE 대신 인덱스 동등 조인으로 처리
+ * - CategoryService 의 생성/이동/물리 삭제 시 함께 갱신 (비활성화는 행을 그대로 둠)
+ */
+@Entity
+@Table(name = "category_closure", indexes = {
+    @Index(name = "idx_category_closure_descendant", columnList = "descendant_id, distance")
+})
+@IdClass(CategoryClosure.Key.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class CategoryClosure {
+
+    @Id
+    @Column(name = "ancestor_id")
+    private Long ancestorId;
+
+    @Id
+    @Column(name = "descendant_id")
+    private Long descendantId;
+
+    @Column(nullable = false)
+    private Integer distance;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private Long ancestorId;
+        private Long descendantId;
+    }
+}
@@ -0,0 +1,33 @@
+package com.musinsa.category.entity;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+
+/**
+ * 카테고리 트리 버전 (단일 행)
+ * - 변경 작업마다 이 행을 UPDATE 해 버전을 올리므로, 행 잠금 때문에 버전 순서와 커밋 순서가 같다
+ *   (IDENTITY 처럼 작은 번호가 늦게 커밋되어 동기화에서 누락되는 일이 없음)
+ * - compactedVersion 이하의 변경 로그는 삭제되었으므로 그보다 오래된 버전에서는 전체 재동기화 필요
+ */
+@Entity
+@Table(name = "category_tree_version")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class CategoryTreeVersion {
+
+    public static final int SINGLETON_ID = 1;
+
+    @Id
+    private Integer id;
+
+    @Column(nullable = false)
+    private Long version;
+
+    @Column(name = "compacted_version", nullable = false)
+    private Long compactedVersion;
+}
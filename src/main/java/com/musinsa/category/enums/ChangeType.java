@@ -0,0 +1,17 @@
+package com.musinsa.category.enums;
+
+/**
+ * 카테고리 변경 로그 종류
+ * - CREATED / UPDATED / ACTIVATED: 생성, 이름/설명/순서/성별 수정, 재활성화
+ * - MOVED: 부모 변경 (하위 트리 전체의 path/depth 가 바뀌므로 하위 카테고리도 함께 기록)
+ * - DEACTIVATED: 삭제(비활성화)
+ * - DELETED: 완전 삭제 (조회 시 카테고리 정보 없음)
+ */
+public enum ChangeType {
+    CREATED,
+    UPDATED,
+    MOVED,
+    DEACTIVATED,
+    ACTIVATED,
+    DELETED
+}
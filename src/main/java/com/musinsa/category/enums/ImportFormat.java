@@ -0,0 +1,23 @@
+package com.musinsa.category.enums;
+
+import org.springframework.http.MediaType;
+
+/**
+ * 카테고리 가져오기 파일 형식
+ * - NDJSON: 한 줄에 JSON 객체 하나 (application/x-ndjson)
+ * - CSV: 첫 줄이 헤더인 CSV (text/csv)
+ */
+public enum ImportFormat {
+    NDJSON,
+    CSV;
+
+    public static final String NDJSON_VALUE = "application/x-ndjson";
+    public static final String CSV_VALUE = "text/csv";
+
+    public static ImportFormat from(MediaType contentType) {
+        if (contentType != null && contentType.isCompatibleWith(MediaType.parseMediaType(CSV_VALUE))) {
+            return CSV;
+        }
+        return NDJSON;
+    }
+}
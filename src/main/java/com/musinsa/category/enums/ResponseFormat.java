@@ -0,0 +1,51 @@
+package com.musinsa.category.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+import java.util.List;
+
+/**
+ * 조회 응답 형식 (Accept 헤더로 선택, 기본값 JSON)
+ * - CBOR: application/cbor
+ * - SMILE: application/x-jackson-smile
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ResponseFormat {
+    JSON(MediaType.APPLICATION_JSON),
+    CBOR(MediaType.APPLICATION_CBOR),
+    SMILE(new MediaType("application", "x-jackson-smile"));
+
+    private final MediaType mediaType;
+
+    /**
+     * Accept 헤더에서 가장 우선하는 형식 선택 (없거나 지원하지 않는 타입뿐이면 JSON)
+     */
+    public static ResponseFormat negotiate(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return JSON;
+        }
+        List<MediaType> requested;
+        try {
+            requested = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException e) {
+            return JSON;
+        }
+        MediaType.sortBySpecificityAndQuality(requested);
+        for (MediaType mediaType : requested) {
+            if (mediaType.getQualityValue() == 0) {
+                continue;
+            }
+            // 선언 순서상 JSON 이 먼저라 */* 는 JSON
+            for (ResponseFormat format : values()) {
+                if (mediaType.includes(format.mediaType)) {
+                    return format;
+                }
+            }
+        }
+        return JSON;
+    }
+}
@@ -0,0 +1,11 @@
+package com.musinsa.category.enums;
+
+/**
+ * 카테고리 검색 방식
+ * - NAME: 이름 부분 일치
+ * - CHOSUNG: 초성 (예: ㅂㅍㅌ -> 반팔 티셔츠), 이름 또는 단어 앞부분부터 일치
+ */
+public enum SearchMode {
+    NAME,
+    CHOSUNG
+}
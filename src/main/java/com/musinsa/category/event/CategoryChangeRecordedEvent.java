@@ -0,0 +1,22 @@
+package com.musinsa.category.event;
+
+import com.musinsa.category.enums.ChangeType;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 변경 로그 기록 이벤트 (CategoryChangeService.record 마다 발행)
+ * - version 은 이 작업의 트리 버전이며 SSE 이벤트 ID 로도 사용 (/changes?since= 와 같은 기준)
+ */
+@Getter
+@RequiredArgsConstructor
+public class CategoryChangeRecordedEvent {
+
+    private final long version;
+    private final ChangeType type;
+    private final List<Long> categoryIds;
+    private final LocalDateTime changedAt;
+}
@@ -0,0 +1,35 @@
+package com.musinsa.category.event;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * 카테고리 변경 이벤트 (CategoryService 쓰기 작업마다 발행)
+ * - 하위 트리 일괄 비활성화/삭제 시에는 함께 빠진 카테고리 ID 목록을 담아 색인에서 바로 제거할 수 있게 함
+ * - 트리 일괄 생성 시에는 새 카테고리 ID/이름을 담아 색인에 바로 추가할 수 있게 함 (categoryId 는 기준 부모, 루트면 null)
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class CategoryChangedEvent {
+
+    private final Long categoryId;
+    private final Collection<Long> removedIds;
+    private final Map<Long, String> addedNames;
+
+    public CategoryChangedEvent(Long categoryId) {
+        this(categoryId, Collections.emptyList(), Collections.emptyMap());
+    }
+
+    public static CategoryChangedEvent subtreeRemoved(Long categoryId, Collection<Long> removedIds) {
+        return new CategoryChangedEvent(categoryId, removedIds, Collections.emptyMap());
+    }
+
+    public static CategoryChangedEvent subtreeAdded(Long parentId, Map<Long, String> addedNames) {
+        return new CategoryChangedEvent(parentId, Collections.emptyList(), addedNames);
+    }
+}
@@ -0,0 +1,20 @@
+package com.musinsa.category.event;
+
+import com.musinsa.category.cache.CategorySnapshot;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Set;
+
+/**
+ * 카테고리 스냅샷 교체 이벤트 (CategorySnapshotHolder 가 새 스냅샷을 만들 때마다 발행)
+ */
+@Getter
+@RequiredArgsConstructor
+public class CategorySnapshotRefreshedEvent {
+
+    private final CategorySnapshot snapshot;
+
+    // 이전 스냅샷 대비 바뀐 카테고리 경로 (최초 로딩처럼 이전 스냅샷이 없으면 null = 전체 변경)
+    private final Set<String> changedPaths;
+}
@@ -23,6 +23,8 @@ public enum ErrorCode {
     CATEGORY_INVALID_PARENT(HttpStatus.BAD_REQUEST,"C012", "하위 카테고리를 부모로 설정할 수 없습니다."),
     DISPLAY_ORDER_DUPLICATE(HttpStatus.BAD_REQUEST, "C013", "중복된 정렬 순서가 있습니다."),
     CATEGORY_ALREADY_ACTIVE(HttpStatus.BAD_REQUEST, "C014", "이미 활성화된 카테고리입니다."),
+    CATEGORY_EXTERNAL_KEY_REQUIRED(HttpStatus.BAD_REQUEST, "C015", "외부 키(externalKey)는 필수 입니다."),
+    CATEGORY_EXTERNAL_KEY_DUPLICATE(HttpStatus.BAD_REQUEST, "C016", "이미 사용 중인 외부 키입니다."),
 
     // 인증 관련 에러
     INVALID_ADMIN_CREDENTIALS(HttpStatus.UNAUTHORIZED,"A001", "잘못된 계정 정보입니다."),
@@ -36,7 +38,8 @@ public enum ErrorCode {
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "G003", "서버 내부 오류가 발생했습니다."),
     METHOD_NOT_ALLOWED(HttpStatus.METHOD_NOT_ALLOWED, "G004", "지원하지 않는 HTTP 메서드입니다."),
     CONTENT_TYPE_NOT_ALLOWED(HttpStatus.UNSUPPORTED_MEDIA_TYPE, "G005", "지원하지 않는 Content-Type 입니다 : "),
-    MESSAGE_NOT_ALLOWED(HttpStatus.BAD_REQUEST,"G006","요청 본문을 읽을 수 없습니다");
+    MESSAGE_NOT_ALLOWED(HttpStatus.BAD_REQUEST,"G006","요청 본문을 읽을 수 없습니다"),
+    TOO_MANY_SUBSCRIBERS(HttpStatus.SERVICE_UNAVAILABLE, "G007", "이벤트 구독자가 너무 많습니다. 잠시 후 다시 시도해 주세요.");
 
     private final HttpStatus httpStatus;
     private final String code;
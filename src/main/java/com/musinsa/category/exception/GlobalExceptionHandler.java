@@ -1,6 +1,8 @@
 package com.musinsa.category.exception;
 
 import com.musinsa.category.common.ApiResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -9,17 +11,37 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 import javax.persistence.EntityNotFoundException;
+import java.util.EnumMap;
+import java.util.Map;
 
+/**
+ * 전역 예외 처리
+ * - 응답한 에러 코드별 횟수는 category.errors 카운터(code, error 태그)로 기록 (모든 코드를 0 부터 미리 등록)
+ */
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    private final Map<ErrorCode, Counter> errorCounters = new EnumMap<>(ErrorCode.class);
+
+    public GlobalExceptionHandler(MeterRegistry meterRegistry) {
+        for (ErrorCode errorCode : ErrorCode.values()) {
+            errorCounters.put(errorCode, Counter.builder("category.errors")
+                    .description("에러 코드별 에러 응답 수")
+                    .tag("code", errorCode.getCode())
+                    .tag("error", errorCode.name())
+                    .register(meterRegistry));
+        }
+    }
+
     /**
      * 요청 검증 실패 (400)
      */
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ApiResponse<Void>> handleValidation(MethodArgumentNotValidException ex) {
+        count(ErrorCode.INVALID_INPUT_VALUE);
         String errorMessage = ex.getBindingResult().getAllErrors().get(0).getDefaultMessage();
         return ResponseEntity
                 .status(HttpStatus.BAD_REQUEST)
@@ -31,6 +53,7 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler(EntityNotFoundException.class)
     public ResponseEntity<ApiResponse<Void>> handleNotFound(EntityNotFoundException ex) {
+        count(ErrorCode.CATEGORY_NOT_FOUND);
         return ResponseEntity
                 .status(HttpStatus.NOT_FOUND)
                 .body(ApiResponse.error(ErrorCode.CATEGORY_NOT_FOUND.getCode(), ex.getMessage()));
@@ -41,6 +64,7 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ApiResponse<Void>> handleGeneralException(Exception ex) {
+        count(ErrorCode.INTERNAL_SERVER_ERROR);
         return ResponseEntity
                 .status(HttpStatus.INTERNAL_SERVER_ERROR)
                 .body(ApiResponse.error(ErrorCode.INTERNAL_SERVER_ERROR.getCode(), "서버 내부 오류: " + ex.getMessage()));
@@ -52,6 +76,7 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(BusinessException.class)
     public ResponseEntity<ApiResponse<Void>> handleBusinessException(BusinessException ex) {
         ErrorCode errorCode = ex.getErrorCode();
+        count(errorCode);
         return ResponseEntity
                 .status(errorCode.getHttpStatus())
                 .body(ApiResponse.error(errorCode.getCode(), ex.getMessage()));
@@ -62,6 +87,7 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler(HttpMediaTypeNotSupportedException.class)
     public ResponseEntity<ApiResponse<?>> handleUnsupportedMediaType(HttpMediaTypeNotSupportedException e) {
+        count(ErrorCode.CONTENT_TYPE_NOT_ALLOWED);
         return ResponseEntity
                 .status(HttpStatus.UNSUPPORTED_MEDIA_TYPE)
                 .body(ApiResponse.error(ErrorCode.CONTENT_TYPE_NOT_ALLOWED.getCode() ,
@@ -73,6 +99,7 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler(HttpMessageNotReadableException.class)
     public ResponseEntity<ApiResponse<?>> handleMessageNotReadable(HttpMessageNotReadableException e) {
+        count(ErrorCode.MESSAGE_NOT_ALLOWED);
         return ResponseEntity
                 .status(HttpStatus.BAD_REQUEST)
                 .body(ApiResponse.error(ErrorCode.MESSAGE_NOT_ALLOWED.getCode(), e.getMessage()));
@@ -83,9 +110,24 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler(MissingServletRequestParameterException.class)
     public ResponseEntity<ApiResponse<?>> handleMissingParameter(MissingServletRequestParameterException e) {
+        count(ErrorCode.INVALID_INPUT_VALUE);
         return ResponseEntity
                 .badRequest()
                 .body(ApiResponse.error(ErrorCode.INVALID_INPUT_VALUE.getCode(), "필수 파라미터가 누락되었습니다: " + e.getParameterName()));
     }
 
+    /**
+     * 파라미터 타입 변환 실패 (400)
+     */
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<ApiResponse<?>> handleTypeMismatch(MethodArgumentTypeMismatchException e) {
+        count(ErrorCode.INVALID_INPUT_VALUE);
+        return ResponseEntity
+                .badRequest()
+                .body(ApiResponse.error(ErrorCode.INVALID_INPUT_VALUE.getCode(), "잘못된 파라미터 값입니다: " + e.getName()));
+    }
+
+    private void count(ErrorCode errorCode) {
+        errorCounters.get(errorCode).increment();
+    }
 }
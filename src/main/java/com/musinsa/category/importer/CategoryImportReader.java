@@ -0,0 +1,18 @@
+package com.musinsa.category.importer;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * 가져오기 파일을 한 행씩 읽는 스트리밍 리더 (파일 전체를 메모리에 올리지 않음)
+ */
+public interface CategoryImportReader extends Closeable {
+
+    /**
+     * 다음 행 (파일 끝이면 null)
+     * - 해당 행만 잘못된 경우 rejected 상태의 행을 돌려주고 다음 행부터 계속 읽음
+     *
+     * @throws IOException 더 이상 읽을 수 없는 경우 (이미 읽은 행은 그대로 유효)
+     */
+    CategoryImportRecord next() throws IOException;
+}
@@ -0,0 +1,47 @@
+package com.musinsa.category.importer;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 가져오기 파일의 한 행 (값은 모두 문자열로 받아 검증 단계에서 변환)
+ * - 부모는 parentKey 로 다른 행(또는 기존 카테고리)의 externalKey 를 참조, 비어 있으면 루트
+ * - 파싱/검증에 실패하면 error 에 사유가 남음
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class CategoryImportRecord {
+
+    private String externalKey;
+    private String parentKey;
+    private String name;
+    private String description;
+    private String gender;
+    private String displayOrder;
+
+    @JsonIgnore
+    private long line;
+    @JsonIgnore
+    private String errorCode;
+    @JsonIgnore
+    private String error;
+
+    public static CategoryImportRecord failed(long line, String errorCode, String error) {
+        CategoryImportRecord record = new CategoryImportRecord();
+        record.line = line;
+        record.reject(errorCode, error);
+        return record;
+    }
+
+    public void reject(String errorCode, String error) {
+        this.errorCode = errorCode;
+        this.error = error;
+    }
+
+    public boolean isRejected() {
+        return error != null;
+    }
+}
@@ -0,0 +1,47 @@
+package com.musinsa.category.importer;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * CSV 리더 (Jackson CSV 스트리밍 파서)
+ * - 첫 줄은 헤더: externalKey,parentKey,name,description,gender,displayOrder (순서 무관, 모르는 열은 무시)
+ * - 따옴표 안의 줄바꿈은 허용하지만 따옴표가 깨진 경우 그 뒤는 읽지 않음
+ */
+public class CsvCategoryImportReader implements CategoryImportReader {
+
+    private static final CsvMapper CSV_MAPPER = (CsvMapper) new CsvMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private final MappingIterator<CategoryImportRecord> iterator;
+    private long line = 1;
+
+    public CsvCategoryImportReader(InputStream input) throws IOException {
+        this.iterator = CSV_MAPPER.readerFor(CategoryImportRecord.class)
+                .with(CsvSchema.emptySchema().withHeader())
+                .readValues(new InputStreamReader(input, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public CategoryImportRecord next() throws IOException {
+        if (!iterator.hasNextValue()) {
+            return null;
+        }
+        CategoryImportRecord record = iterator.nextValue();
+        // 헤더가 1번 줄인 행 번호 (따옴표 안 줄바꿈은 세지 않음)
+        record.setLine(++line);
+        return record;
+    }
+
+    @Override
+    public void close() throws IOException {
+        iterator.close();
+    }
+}
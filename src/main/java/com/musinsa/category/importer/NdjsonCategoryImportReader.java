@@ -0,0 +1,55 @@
+package com.musinsa.category.importer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.musinsa.category.exception.ErrorCode;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * NDJSON 리더
+ * - 줄 단위로 읽어 각 줄을 따로 파싱하므로 잘못된 줄이 있어도 다음 줄부터 계속 읽음
+ * - 빈 줄은 건너뜀
+ */
+public class NdjsonCategoryImportReader implements CategoryImportReader {
+
+    private final BufferedReader reader;
+    private final ObjectReader recordReader;
+    private long line;
+
+    public NdjsonCategoryImportReader(InputStream input, ObjectMapper objectMapper) {
+        this.reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        this.recordReader = objectMapper.readerFor(CategoryImportRecord.class);
+    }
+
+    @Override
+    public CategoryImportRecord next() throws IOException {
+        String text;
+        do {
+            text = reader.readLine();
+            if (text == null) {
+                return null;
+            }
+            line++;
+        } while (text.isBlank());
+
+        try {
+            CategoryImportRecord record = recordReader.readValue(text);
+            record.setLine(line);
+            return record;
+        } catch (JsonProcessingException e) {
+            return CategoryImportRecord.failed(line, ErrorCode.MESSAGE_NOT_ALLOWED.getCode(),
+                    "JSON 형식이 올바르지 않습니다: " + e.getOriginalMessage());
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,212 @@
+package com.musinsa.category.repository;
+
+import com.musinsa.category.entity.CategoryClosure;
+import com.musinsa.category.enums.ChangeType;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.action.internal.BulkOperationCleanupAction;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.EntityManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 카테고리 트리 일괄 생성용 JDBC 저장소
+ * - IDENTITY 키는 Hibernate 가 배치로 묶지 못하므로 같은 트랜잭션의 커넥션으로 직접 다중 행 INSERT
+ * - 부모 ID 가 필요하므로 같은 depth 끼리 묶어 넣고 생성된 키를 받아 다음 단계에 사용
+ * - Hibernate 를 거치지 않으므로 categories 를 쓴 뒤 2차/쿼리 캐시 무효화를 직접 등록
+ */
+@Repository
+@RequiredArgsConstructor
+public class CategoryBatchRepository {
+
+    // 다중 행 INSERT 한 문장에 넣을 최대 행 수 (바인딩 파라미터 수 제한 고려)
+    private static final int CATEGORY_CHUNK_SIZE = 500;
+    private static final int CLOSURE_CHUNK_SIZE = 1000;
+    private static final int CHANGE_CHUNK_SIZE = 1000;
+
+    private static final String INSERT_CATEGORY = "INSERT INTO categories " +
+            "(name, description, gender, parent_id, display_order, depth, external_key, is_active, " +
+            "created_at, updated_at, created_by, updated_by) VALUES ";
+    private static final String CATEGORY_VALUES = "(?, ?, ?, ?, ?, ?, ?, true, ?, ?, ?, ?)";
+    private static final String UPDATE_PATH = "UPDATE categories SET path = ? WHERE id = ?";
+    private static final String INSERT_CLOSURE = "INSERT INTO category_closure (ancestor_id, descendant_id, distance) VALUES ";
+    private static final String CLOSURE_VALUES = "(?, ?, ?)";
+    private static final String PARK_DISPLAY_ORDER = "UPDATE categories SET display_order = ? WHERE id = ?";
+    private static final String UPDATE_DISPLAY_ORDER =
+            "UPDATE categories SET display_order = ?, updated_at = ?, updated_by = ? WHERE id = ?";
+    private static final String INSERT_CHANGE = "INSERT INTO category_change (version, category_id, change_type, changed_at) VALUES ";
+    private static final String CHANGE_VALUES = "(?, ?, ?, ?)";
+
+    private static final Set<String> CATEGORY_TABLE = Collections.singleton("categories");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+
+    /**
+     * 같은 depth 의 행들을 다중 행 INSERT 로 넣고 생성된 ID/path 를 각 행에 채움
+     */
+    public void insertLevel(List<CategoryInsertRow> rows, String adminId, LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            for (int from = 0; from < rows.size(); from += CATEGORY_CHUNK_SIZE) {
+                List<CategoryInsertRow> chunk = rows.subList(from, Math.min(rows.size(), from + CATEGORY_CHUNK_SIZE));
+                String sql = INSERT_CATEGORY + values(CATEGORY_VALUES, chunk.size());
+                try (PreparedStatement statement = connection.prepareStatement(sql, new String[]{"id"})) {
+                    int index = 1;
+                    for (CategoryInsertRow row : chunk) {
+                        statement.setString(index++, row.getName());
+                        statement.setString(index++, row.getDescription());
+                        statement.setString(index++, row.getGender() != null ? row.getGender().name() : null);
+                        Long parentId = row.resolveParentId();
+                        if (parentId == null) {
+                            statement.setNull(index++, Types.BIGINT);
+                        } else {
+                            statement.setLong(index++, parentId);
+                        }
+                        statement.setInt(index++, row.getDisplayOrder());
+                        statement.setInt(index++, row.getDepth());
+                        statement.setString(index++, row.getExternalKey());
+                        statement.setTimestamp(index++, timestamp);
+                        statement.setTimestamp(index++, timestamp);
+                        statement.setString(index++, adminId);
+                        statement.setString(index++, adminId);
+                    }
+                    statement.executeUpdate();
+                    assignGeneratedKeys(statement, chunk);
+                }
+            }
+            return null;
+        });
+        invalidateCategoryCaches();
+    }
+
+    /**
+     * 생성된 ID 로 계산한 path 를 한 배치로 반영
+     */
+    public void updatePaths(List<CategoryInsertRow> rows) {
+        List<Object[]> args = new ArrayList<>(rows.size());
+        for (CategoryInsertRow row : rows) {
+            args.add(new Object[]{row.getPath(), row.getId()});
+        }
+        jdbcTemplate.batchUpdate(UPDATE_PATH, args);
+        invalidateCategoryCaches();
+    }
+
+    /**
+     * 새 행들의 클로저 행을 다중 행 INSERT 로 추가
+     * - 요청 안의 조상은 parent 를 따라 올라가며, 그 위는 기존 부모의 클로저 행(anchorsByParentId)을 이어 붙임
+     */
+    public void insertClosures(List<CategoryInsertRow> rows, Map<Long, List<CategoryClosure>> anchorsByParentId) {
+        List<long[]> closures = new ArrayList<>(rows.size() * 4);
+        for (CategoryInsertRow row : rows) {
+            int distance = 0;
+            for (CategoryInsertRow ancestor = row; ancestor != null; ancestor = ancestor.getParent()) {
+                closures.add(new long[]{ancestor.getId(), row.getId(), distance++});
+            }
+            Long anchorParentId = row.anchorParentId();
+            List<CategoryClosure> anchors = anchorParentId != null
+                    ? anchorsByParentId.getOrDefault(anchorParentId, Collections.emptyList())
+                    : Collections.<CategoryClosure>emptyList();
+            for (CategoryClosure anchor : anchors) {
+                closures.add(new long[]{anchor.getAncestorId(), row.getId(), anchor.getDistance() + distance});
+            }
+        }
+
+        for (int from = 0; from < closures.size(); from += CLOSURE_CHUNK_SIZE) {
+            List<long[]> chunk = closures.subList(from, Math.min(closures.size(), from + CLOSURE_CHUNK_SIZE));
+            jdbcTemplate.update(INSERT_CLOSURE + values(CLOSURE_VALUES, chunk.size()), statement -> {
+                int index = 1;
+                for (long[] closure : chunk) {
+                    statement.setLong(index++, closure[0]);
+                    statement.setLong(index++, closure[1]);
+                    statement.setInt(index++, (int) closure[2]);
+                }
+            });
+        }
+    }
+
+    /**
+     * 형제들의 displayOrder 를 두 번의 배치 UPDATE 로 변경
+     * - 서로 번호를 맞바꾸는 중간 상태가 (parent_id, display_order) 유니크 제약에 걸리지 않도록
+     *   먼저 겹칠 수 없는 임시 번호(-id)로 옮긴 뒤 새 번호를 씀
+     */
+    public void updateDisplayOrders(Map<Long, Integer> displayOrders, String adminId, LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        List<Object[]> park = new ArrayList<>(displayOrders.size());
+        List<Object[]> update = new ArrayList<>(displayOrders.size());
+        for (Map.Entry<Long, Integer> entry : displayOrders.entrySet()) {
+            park.add(new Object[]{-entry.getKey(), entry.getKey()});
+            update.add(new Object[]{entry.getValue(), timestamp, adminId, entry.getKey()});
+        }
+        jdbcTemplate.batchUpdate(PARK_DISPLAY_ORDER, park);
+        jdbcTemplate.batchUpdate(UPDATE_DISPLAY_ORDER, update);
+        invalidateCategoryCaches();
+    }
+
+    /**
+     * 한 변경 작업에서 바뀐 카테고리들의 변경 로그를 다중 행 INSERT 로 추가
+     */
+    public void insertChanges(long version, ChangeType changeType, Collection<Long> categoryIds, LocalDateTime now) {
+        List<Long> ids = new ArrayList<>(categoryIds);
+        Timestamp timestamp = Timestamp.valueOf(now);
+        for (int from = 0; from < ids.size(); from += CHANGE_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(ids.size(), from + CHANGE_CHUNK_SIZE));
+            jdbcTemplate.update(INSERT_CHANGE + values(CHANGE_VALUES, chunk.size()), statement -> {
+                int index = 1;
+                for (Long categoryId : chunk) {
+                    statement.setLong(index++, version);
+                    statement.setLong(index++, categoryId);
+                    statement.setString(index++, changeType.name());
+                    statement.setTimestamp(index++, timestamp);
+                }
+            });
+        }
+    }
+
+    /**
+     * 네이티브 UPDATE 를 Hibernate 로 실행한 것과 같은 정리 작업 등록
+     * - Category 2차 캐시를 바로 비우고 categories 를 읽는 쿼리 캐시를 무효화하며, 커밋/롤백 후 한 번 더 정리
+     *   (그 사이 다른 트랜잭션이 이전 값을 다시 캐시에 넣지 못하게)
+     */
+    private void invalidateCategoryCaches() {
+        SessionImplementor session = entityManager.unwrap(SessionImplementor.class);
+        session.getActionQueue().addAction(new BulkOperationCleanupAction(session, CATEGORY_TABLE));
+    }
+
+    private static void assignGeneratedKeys(PreparedStatement statement, List<CategoryInsertRow> chunk) throws SQLException {
+        try (ResultSet keys = statement.getGeneratedKeys()) {
+            int index = 0;
+            while (keys.next()) {
+                chunk.get(index++).assignId(keys.getLong(1));
+            }
+            if (index != chunk.size()) {
+                throw new IllegalStateException("생성된 키 수가 INSERT 행 수와 다릅니다: " + index + "/" + chunk.size());
+            }
+        }
+    }
+
+    private static String values(String placeholder, int count) {
+        StringBuilder sql = new StringBuilder(placeholder.length() * count + count);
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(placeholder);
+        }
+        return sql.toString();
+    }
+}
@@ -0,0 +1,35 @@
+package com.musinsa.category.repository;
+
+import com.musinsa.category.entity.CategoryChange;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface CategoryChangeRepository extends JpaRepository<CategoryChange, Long> {
+
+    /**
+     * since 초과 ~ upTo 이하 버전의 변경 로그 (버전 순)
+     */
+    @Query("SELECT c FROM CategoryChange c WHERE c.version > :since AND c.version <= :upTo ORDER BY c.version, c.id")
+    List<CategoryChange> findChanges(@Param("since") long since, @Param("upTo") long upTo);
+
+    @Query("SELECT COUNT(c) FROM CategoryChange c WHERE c.version > :since AND c.version <= :upTo")
+    long countChanges(@Param("since") long since, @Param("upTo") long upTo);
+
+    /**
+     * 기준 시각 이전 변경 중 가장 큰 버전 (압축 대상 경계)
+     */
+    @Query("SELECT MAX(c.version) FROM CategoryChange c WHERE c.changedAt < :before")
+    Optional<Long> findMaxVersionChangedBefore(@Param("before") LocalDateTime before);
+
+    @Modifying
+    @Query("DELETE FROM CategoryChange c WHERE c.version <= :version")
+    int deleteUpTo(@Param("version") long version);
+}
@@ -0,0 +1,116 @@
+package com.musinsa.category.repository;
+
+import com.musinsa.category.entity.CategoryClosure;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface CategoryClosureRepository extends JpaRepository<CategoryClosure, CategoryClosure.Key> {
+
+    // 네이티브 쓰기 쿼리가 바꾸는 테이블 (지정하지 않으면 Hibernate 가 모든 2차/쿼리 캐시를 비움)
+    String CLOSURE_TABLE = "category_closure";
+
+    /**
+     * 조상-후손 관계 여부 (순환 검사용, PK 조회)
+     */
+    boolean existsByAncestorIdAndDescendantId(Long ancestorId, Long descendantId);
+
+    /**
+     * 특정 카테고리의 조상 행 전체 (자기 자신 포함)
+     */
+    List<CategoryClosure> findByDescendantId(Long descendantId);
+
+    /**
+     * 여러 카테고리의 조상 행 전체 (자기 자신 포함)
+     */
+    List<CategoryClosure> findByDescendantIdIn(Collection<Long> descendantIds);
+
+    /**
+     * 하위 트리 전체 ID (자기 자신 포함)
+     */
+    @Query("SELECT cc.descendantId FROM CategoryClosure cc WHERE cc.ancestorId = :ancestorId")
+    List<Long> findSubtreeIds(@Param("ancestorId") Long ancestorId);
+
+    /**
+     * 새 카테고리 등록: 부모의 모든 조상(부모 포함) + 자기 자신 행 추가
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = org.hibernate.jpa.QueryHints.HINT_NATIVE_SPACES, value = CLOSURE_TABLE))
+    @Query(value = "INSERT INTO category_closure (ancestor_id, descendant_id, distance) " +
+            "SELECT ancestor_id, CAST(:descendantId AS BIGINT), distance + 1 FROM category_closure WHERE descendant_id = :parentId " +
+            "UNION ALL SELECT CAST(:descendantId AS BIGINT), CAST(:descendantId AS BIGINT), 0", nativeQuery = true)
+    int insertNode(@Param("descendantId") Long descendantId, @Param("parentId") Long parentId);
+
+    /**
+     * 하위 트리 분리: 하위 트리 밖의 조상 -> 하위 트리 노드 행 삭제 (하위 트리 내부 관계는 유지)
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = org.hibernate.jpa.QueryHints.HINT_NATIVE_SPACES, value = CLOSURE_TABLE))
+    @Query(value = "DELETE FROM category_closure " +
+            "WHERE descendant_id IN (SELECT descendant_id FROM category_closure WHERE ancestor_id = :rootId) " +
+            "AND ancestor_id NOT IN (SELECT descendant_id FROM category_closure WHERE ancestor_id = :rootId)",
+            nativeQuery = true)
+    int detachSubtree(@Param("rootId") Long rootId);
+
+    /**
+     * 하위 트리 연결: 새 부모의 모든 조상(부모 포함) x 하위 트리 노드 행 추가
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = org.hibernate.jpa.QueryHints.HINT_NATIVE_SPACES, value = CLOSURE_TABLE))
+    @Query(value = "INSERT INTO category_closure (ancestor_id, descendant_id, distance) " +
+            "SELECT p.ancestor_id, s.descendant_id, p.distance + s.distance + 1 " +
+            "FROM category_closure p CROSS JOIN category_closure s " +
+            "WHERE p.descendant_id = :parentId AND s.ancestor_id = :rootId", nativeQuery = true)
+    int attachSubtree(@Param("rootId") Long rootId, @Param("parentId") Long parentId);
+
+    /**
+     * 하위 트리 이동 (하위 트리 크기와 무관하게 SQL 2번)
+     */
+    default void moveSubtree(Long rootId, Long newParentId) {
+        detachSubtree(rootId);
+        attachSubtree(rootId, newParentId);
+    }
+
+    /**
+     * 카테고리 행 삭제 (하위가 없는 카테고리 물리 삭제 시)
+     */
+    @Modifying
+    @Query("DELETE FROM CategoryClosure cc WHERE cc.descendantId = :descendantId")
+    int deleteByDescendantId(@Param("descendantId") Long descendantId);
+
+    /**
+     * 하위 트리 행 전체 삭제 (하위 트리 일괄 물리 삭제 시)
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = org.hibernate.jpa.QueryHints.HINT_NATIVE_SPACES, value = CLOSURE_TABLE))
+    @Query(value = "DELETE FROM category_closure " +
+            "WHERE descendant_id IN (SELECT descendant_id FROM category_closure WHERE ancestor_id = :rootId)",
+            nativeQuery = true)
+    int deleteSubtree(@Param("rootId") Long rootId);
+
+    /**
+     * categories.parent_id 로부터 클로저 전체 재생성 (초기 데이터 적재 등)
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = org.hibernate.jpa.QueryHints.HINT_NATIVE_SPACES, value = CLOSURE_TABLE))
+    @Query(value = "INSERT INTO category_closure (ancestor_id, descendant_id, distance) " +
+            "WITH RECURSIVE tree (ancestor_id, descendant_id, distance) AS (" +
+            "SELECT id, id, 0 FROM categories " +
+            "UNION ALL " +
+            "SELECT t.ancestor_id, c.id, t.distance + 1 FROM tree t JOIN categories c ON c.parent_id = t.descendant_id) " +
+            "SELECT ancestor_id, descendant_id, distance FROM tree", nativeQuery = true)
+    int insertAllFromParents();
+
+    default void rebuildFromParents() {
+        deleteAllInBatch();
+        insertAllFromParents();
+    }
+}
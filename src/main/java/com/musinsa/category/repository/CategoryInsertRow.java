@@ -0,0 +1,65 @@
+package com.musinsa.category.repository;
+
+import com.musinsa.category.enums.Gender;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 일괄 생성할 카테고리 한 행 (검증과 path/depth 계산이 끝난 상태)
+ * - parent 가 없으면 parentId(기존 카테고리, 루트면 null) 아래에 생성
+ * - id/path 는 INSERT 후 채워짐
+ */
+@Getter
+public class CategoryInsertRow {
+
+    private final CategoryInsertRow parent;
+    private final Long parentId;
+    private final String parentPath;
+    private final String name;
+    private final String description;
+    private final Gender gender;
+    private final int displayOrder;
+    private final int depth;
+    private final String externalKey;
+
+    private Long id;
+    private String path;
+
+    @Builder
+    private CategoryInsertRow(CategoryInsertRow parent, Long parentId, String parentPath, String name,
+                              String description, Gender gender, int displayOrder, int depth, String externalKey) {
+        this.parent = parent;
+        this.parentId = parentId;
+        this.parentPath = parentPath;
+        this.name = name;
+        this.description = description;
+        this.gender = gender;
+        this.displayOrder = displayOrder;
+        this.depth = depth;
+        this.externalKey = externalKey;
+    }
+
+    /**
+     * 실제 부모 ID (같은 요청의 부모 행이면 그 행의 생성된 ID)
+     */
+    public Long resolveParentId() {
+        return parent != null ? parent.getId() : parentId;
+    }
+
+    /**
+     * 같은 요청 안의 최상위 조상이 붙을 기존 카테고리 ID (루트면 null)
+     */
+    public Long anchorParentId() {
+        CategoryInsertRow top = this;
+        while (top.parent != null) {
+            top = top.parent;
+        }
+        return top.parentId;
+    }
+
+    void assignId(Long id) {
+        this.id = id;
+        String base = parent != null ? parent.getPath() : parentPath;
+        this.path = (base == null ? "" : base) + "/" + id;
+    }
+}
@@ -1,41 +1,88 @@
 package com.musinsa.category.repository;
 
+import com.musinsa.category.cache.CategoryNode;
 import com.musinsa.category.entity.Category;
 import com.musinsa.category.enums.Gender;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface CategoryRepository extends JpaRepository<Category, Long> {
 
     String GENDER_CONDITION = " ((:gender = 'A' AND 1=1) OR (c.gender = :gender OR c.gender = 'A' OR c.gender IS NULL)) ";
     String PARENT_CONDITION = " ((:parentId IS NULL AND c.parent IS NULL) OR (c.parent.id = :parentId)) ";
+    // 내보내기 커서가 한 번에 가져오는 행 수
+    int EXPORT_FETCH_SIZE = 500;
 
     // =========== 조회 ===========
 
     /**
      * ID로 활성화된 카테고리 조회
      */
+    @QueryHints(@QueryHint(name = org.hibernate.jpa.QueryHints.HINT_CACHEABLE, value = "true"))
     @Query("SELECT c FROM Category c WHERE c.id = :id AND c.isActive = true")
     Optional<Category> findActiveById(@Param("id") Long id);
 
     /**
      * 모든 활성화된 카테고리 조회하고 정렬  (depth, displayOrder 순)
      */
+    @QueryHints(@QueryHint(name = org.hibernate.jpa.QueryHints.HINT_CACHEABLE, value = "true"))
     @Query("SELECT c FROM Category c WHERE c.isActive = true AND" +
             GENDER_CONDITION + "ORDER BY c.depth ASC, c.displayOrder ASC")
     List<Category> findAllActiveOrdered(@Param("gender") String gender);
 
+    /**
+     * 모든 활성화된 카테고리를 스냅샷 노드로 조회 (엔티티 로딩 없이 컬럼만 조회)
+     */
+    @Query("SELECT new com.musinsa.category.cache.CategoryNode(c.id, c.name, c.description, c.gender, p.id, " +
+            "c.displayOrder, c.isActive, c.path, c.depth, c.createdAt, c.updatedAt, c.createdBy, c.updatedBy) " +
+            "FROM Category c LEFT JOIN c.parent p WHERE c.isActive = true")
+    List<CategoryNode> findAllActiveNodes();
+
+    /**
+     * 단일 카테고리를 스냅샷 노드로 조회 (활성 여부 무관)
+     */
+    @Query("SELECT new com.musinsa.category.cache.CategoryNode(c.id, c.name, c.description, c.gender, p.id, " +
+            "c.displayOrder, c.isActive, c.path, c.depth, c.createdAt, c.updatedAt, c.createdBy, c.updatedBy) " +
+            "FROM Category c LEFT JOIN c.parent p WHERE c.id = :id")
+    Optional<CategoryNode> findNodeById(@Param("id") Long id);
+
+    /**
+     * 여러 카테고리를 스냅샷 노드로 조회 (활성 여부 무관, 변경분 동기화용)
+     */
+    @Query("SELECT new com.musinsa.category.cache.CategoryNode(c.id, c.name, c.description, c.gender, p.id, " +
+            "c.displayOrder, c.isActive, c.path, c.depth, c.createdAt, c.updatedAt, c.createdBy, c.updatedBy) " +
+            "FROM Category c LEFT JOIN c.parent p WHERE c.id IN :ids")
+    List<CategoryNode> findNodesByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 내보내기용 커서 조회 (id 순, 결과를 리스트로 모으지 않고 fetch size 단위로 읽음)
+     * - 반환된 Stream 은 트랜잭션 안에서 소비하고 반드시 닫아야 함
+     */
+    @QueryHints(@QueryHint(name = org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE, value = "" + EXPORT_FETCH_SIZE))
+    @Query("SELECT new com.musinsa.category.cache.CategoryNode(c.id, c.name, c.description, c.gender, p.id, " +
+            "c.displayOrder, c.isActive, c.path, c.depth, c.createdAt, c.updatedAt, c.createdBy, c.updatedBy) " +
+            "FROM Category c LEFT JOIN c.parent p WHERE (:includeInactive = true OR c.isActive = true) AND" +
+            GENDER_CONDITION + "ORDER BY c.id")
+    Stream<CategoryNode> streamNodes(@Param("includeInactive") boolean includeInactive, @Param("gender") String gender);
+
     // ======= 부모-자식 관계 조회 =======
 
     /**
      * 루트 카테고리들 조회 (displayOrder 순)
      */
+    @QueryHints(@QueryHint(name = org.hibernate.jpa.QueryHints.HINT_CACHEABLE, value = "true"))
     @Query("SELECT c FROM Category c WHERE c.parent IS NULL AND c.isActive = true AND" +
             GENDER_CONDITION + "ORDER BY c.displayOrder ASC")
     List<Category> findRootCategories(@Param("gender") String gender);
@@ -50,16 +97,73 @@ public interface CategoryRepository extends JpaRepository<Category, Long> {
     /**
      * 특정 부모의 자식 카테고리들 조회 (displayOrder 순)
      */
+    @QueryHints(@QueryHint(name = org.hibernate.jpa.QueryHints.HINT_CACHEABLE, value = "true"))
     @Query("SELECT c FROM Category c WHERE c.parent.id = :parentId AND c.isActive = true ORDER BY c.displayOrder ASC")
     List<Category> findChildrenByParentId(@Param("parentId") Long parentId);
 
     /**
-     * 특정 path의 모든 하위 카테고리들 조회
+     * 부모 하위의 가장 큰 displayOrder (비활성 포함, 순서 자동 할당 카운터 초기값)
      */
-    @Query("SELECT c FROM Category c WHERE c.isActive = true AND c.path LIKE CONCAT(:parentPath, '/%') AND" +
+    @Query("SELECT MAX(c.displayOrder) FROM Category c WHERE c.parent.id = :parentId")
+    Optional<Integer> findMaxDisplayOrderByParentId(@Param("parentId") Long parentId);
+
+    @Query("SELECT MAX(c.displayOrder) FROM Category c WHERE c.parent IS NULL")
+    Optional<Integer> findMaxRootDisplayOrder();
+
+    /**
+     * 특정 카테고리의 모든 하위 카테고리들 조회 (클로저 테이블 조인)
+     */
+    @Query("SELECT c FROM CategoryClosure cc, Category c WHERE cc.ancestorId = :ancestorId AND cc.distance > 0 " +
+            "AND c.id = cc.descendantId AND c.isActive = true AND" +
             GENDER_CONDITION + "ORDER BY c.depth ASC, c.displayOrder ASC")
-    List<Category> findDescendants(@Param("parentPath") String parentPath, @Param("gender") String gender);
+    List<Category> findDescendants(@Param("ancestorId") Long ancestorId, @Param("gender") String gender);
+
+    /**
+     * 특정 카테고리의 조상 카테고리들 조회 (루트부터 순서대로, 클로저 테이블 조인)
+     */
+    @Query("SELECT c FROM CategoryClosure cc, Category c WHERE cc.descendantId = :descendantId AND cc.distance > 0 " +
+            "AND c.id = cc.ancestorId ORDER BY cc.distance DESC")
+    List<Category> findAncestors(@Param("descendantId") Long descendantId);
+
+
+    // ========= 하위 트리 이동 =========
+
+    /**
+     * 하위 트리 전체의 path 접두어와 depth 를 일괄 변경 (하위 트리 크기와 무관하게 UPDATE 1번)
+     * - 실행 전 변경 사항을 flush 하고, 실행 후 영속성 컨텍스트를 비움 (이전 path 를 가진 엔티티가 남지 않도록)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Category c SET c.path = CONCAT(:newPath, SUBSTRING(c.path, :oldPathLength + 1, LENGTH(c.path))), " +
+            "c.depth = c.depth + :depthDelta WHERE c.path = :oldPath OR c.path LIKE CONCAT(:oldPath, '/%')")
+    int moveSubtreePath(@Param("oldPath") String oldPath, @Param("oldPathLength") int oldPathLength,
+                        @Param("newPath") String newPath, @Param("depthDelta") int depthDelta);
 
+    // ========= 하위 트리 일괄 삭제 =========
+
+    String SUBTREE_CONDITION = " c.id IN (SELECT cc.descendantId FROM CategoryClosure cc WHERE cc.ancestorId = :ancestorId) ";
+
+    /**
+     * 하위 트리 전체 비활성화 (활성 상태였던 행만, 감사 컬럼 포함)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Category c SET c.isActive = false, c.updatedBy = :adminId, c.updatedAt = :updatedAt " +
+            "WHERE c.isActive = true AND" + SUBTREE_CONDITION)
+    int deactivateSubtree(@Param("ancestorId") Long ancestorId, @Param("adminId") String adminId,
+                          @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * 하위 트리 부모 참조 해제 (한 문장으로 삭제할 때 자기 참조 외래키 검사 순서에 걸리지 않도록)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Category c SET c.parent = NULL WHERE" + SUBTREE_CONDITION)
+    int detachSubtreeParents(@Param("ancestorId") Long ancestorId);
+
+    /**
+     * 하위 트리 전체 물리 삭제 (비활성 행 포함)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM Category c WHERE" + SUBTREE_CONDITION)
+    int deleteSubtree(@Param("ancestorId") Long ancestorId);
 
     // ========= 카테고리 검색 =========
 
@@ -77,9 +181,38 @@ public interface CategoryRepository extends JpaRepository<Category, Long> {
     @Query("SELECT CASE WHEN COUNT(c) > 0 THEN true ELSE false END FROM Category c " +
             "WHERE c.name = :name AND c.isActive = true AND" + PARENT_CONDITION)
     boolean existsByNameAndParent(@Param("name") String name, @Param("parentId") Long parentId);
+    /**
+     * 같은 부모 하위의 모든 카테고리 (비활성 포함, 일괄 생성 시 이름/순서 충돌 검사용)
+     */
+    @Query("SELECT c FROM Category c WHERE" + PARENT_CONDITION)
+    List<Category> findAllByParentId(@Param("parentId") Long parentId);
+
     /**
      * displayOrder 사용 여부와 정보 조회
      */
     @Query("SELECT c FROM Category c WHERE" + PARENT_CONDITION + "AND c.displayOrder = :displayOrder")
     Optional<Category> findByParentIdAndDisplayOrder(@Param("parentId") Long parentId, @Param("displayOrder") Integer displayOrder);
-}
\ No newline at end of file
+
+    // =========== 가져오기 ===========
+
+    /**
+     * 외부 키로 카테고리 조회 (비활성 포함)
+     */
+    List<Category> findByExternalKeyIn(Collection<String> externalKeys);
+
+    /**
+     * 여러 부모 하위의 모든 카테고리를 노드로 조회 (비활성 포함, 이름/순서 충돌 검사용)
+     */
+    @Query("SELECT new com.musinsa.category.cache.CategoryNode(c.id, c.name, c.description, c.gender, p.id, " +
+            "c.displayOrder, c.isActive, c.path, c.depth, c.createdAt, c.updatedAt, c.createdBy, c.updatedBy) " +
+            "FROM Category c JOIN c.parent p WHERE p.id IN :parentIds")
+    List<CategoryNode> findNodesByParentIdIn(@Param("parentIds") Collection<Long> parentIds);
+
+    /**
+     * 루트 카테고리 전체를 노드로 조회 (비활성 포함)
+     */
+    @Query("SELECT new com.musinsa.category.cache.CategoryNode(c.id, c.name, c.description, c.gender, p.id, " +
+            "c.displayOrder, c.isActive, c.path, c.depth, c.createdAt, c.updatedAt, c.createdBy, c.updatedBy) " +
+            "FROM Category c LEFT JOIN c.parent p WHERE c.parent IS NULL")
+    List<CategoryNode> findRootNodes();
+}
@@ -0,0 +1,38 @@
+package com.musinsa.category.repository;
+
+import com.musinsa.category.entity.CategoryTreeVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface CategoryTreeVersionRepository extends JpaRepository<CategoryTreeVersion, Integer> {
+
+    /**
+     * 버전 1 증가 (행 잠금은 트랜잭션 끝까지 유지되어 다른 변경 작업은 커밋 순서대로 대기)
+     *
+     * @return 갱신된 행 수 (행이 아직 없으면 0)
+     */
+    @Modifying
+    @Query("UPDATE CategoryTreeVersion v SET v.version = v.version + 1 WHERE v.id = " + CategoryTreeVersion.SINGLETON_ID)
+    int increment();
+
+    @Query("SELECT v.version FROM CategoryTreeVersion v WHERE v.id = " + CategoryTreeVersion.SINGLETON_ID)
+    Optional<Long> findVersion();
+
+    /**
+     * 현재 버전과 압축 버전을 함께 조회 (영속성 컨텍스트를 거치지 않음)
+     */
+    @Query("SELECT new com.musinsa.category.entity.CategoryTreeVersion(v.id, v.version, v.compactedVersion) " +
+            "FROM CategoryTreeVersion v WHERE v.id = " + CategoryTreeVersion.SINGLETON_ID)
+    Optional<CategoryTreeVersion> findCurrent();
+
+    @Modifying
+    @Query("UPDATE CategoryTreeVersion v SET v.compactedVersion = :compactedVersion " +
+            "WHERE v.id = " + CategoryTreeVersion.SINGLETON_ID + " AND v.compactedVersion < :compactedVersion")
+    int updateCompactedVersion(@Param("compactedVersion") long compactedVersion);
+}
@@ -0,0 +1,266 @@
+package com.musinsa.category.search;
+
+import com.musinsa.category.cache.CategoryNode;
+import com.musinsa.category.cache.CategorySnapshot;
+import com.musinsa.category.enums.Gender;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.*;
+
+/**
+ * 카테고리 이름 / 이름 경로 자동완성용 압축 트라이 (불변)
+ * - 키: 정규화한 이름("반팔티셔츠")과 정규화한 이름 경로("상의반팔티셔츠")
+ * - 한 자식만 있는 구간은 간선 하나로 합쳐 노드 수를 키 수 수준으로 유지
+ * - 노드마다 성별별 상위 K개 후보를 미리 계산해 두므로 조회는 접두어 길이만큼만 내려가면 끝
+ * - 상위 K개 순서: 이름 일치 > 경로 일치, 짧은 키, 얕은 depth, displayOrder, ID
+ */
+class AutocompleteTrie {
+
+    static final int MAX_SUGGESTIONS = 10;
+
+    private static final String BREADCRUMB_SEPARATOR = " > ";
+
+    private static final int KIND_NAME = 0;
+    private static final int KIND_PATH = 1;
+
+    private static final Comparator<Entry> ENTRY_ORDER = Comparator
+            .comparingInt((Entry entry) -> entry.kind)
+            .thenComparingInt(entry -> entry.key.length())
+            .thenComparing(entry -> entry.suggestion.getNode().getDepth())
+            .thenComparing(entry -> entry.suggestion.getNode().getDisplayOrder())
+            .thenComparing(entry -> entry.suggestion.getNode().getId());
+
+    private static final Gender[] GENDERS = Gender.values();
+
+    @Getter
+    private final long version;
+    private final Node root;
+
+    private AutocompleteTrie(long version, Node root) {
+        this.version = version;
+        this.root = root;
+    }
+
+    /**
+     * 스냅샷의 활성 카테고리 전체로 트라이 생성
+     */
+    static AutocompleteTrie build(CategorySnapshot snapshot) {
+        List<Entry> entries = new ArrayList<>(snapshot.size() * 2);
+        for (CategoryNode node : snapshot.getOrdered()) {
+            List<CategoryNode> lineage = lineage(snapshot, node);
+            StringBuilder breadcrumb = new StringBuilder();
+            StringBuilder pathKey = new StringBuilder();
+            for (CategoryNode ancestor : lineage) {
+                if (breadcrumb.length() > 0) {
+                    breadcrumb.append(BREADCRUMB_SEPARATOR);
+                }
+                breadcrumb.append(ancestor.getName());
+                pathKey.append(normalizeKey(ancestor.getName()));
+            }
+
+            Suggestion suggestion = new Suggestion(node, breadcrumb.toString());
+            String nameKey = normalizeKey(node.getName());
+            if (!nameKey.isEmpty()) {
+                entries.add(new Entry(nameKey, KIND_NAME, suggestion));
+            }
+            // 루트는 이름 경로가 이름과 같으므로 한 번만
+            if (lineage.size() > 1) {
+                entries.add(new Entry(pathKey.toString(), KIND_PATH, suggestion));
+            }
+        }
+
+        entries.sort(Comparator.comparing((Entry entry) -> entry.key).thenComparing(ENTRY_ORDER));
+        Node root = entries.isEmpty()
+                ? new Node("", new char[0], new Node[0], emptyTop())
+                : build(entries, 0, entries.size(), 0, "");
+        return new AutocompleteTrie(snapshot.getVersion(), root);
+    }
+
+    /**
+     * 접두어로 시작하는 후보를 성별 조건에 맞춰 최대 limit 개 반환
+     */
+    List<Suggestion> suggest(String prefix, Gender gender, int limit) {
+        String query = normalizeKey(prefix);
+        // 루트도 모든 키의 공통 접두어를 간선으로 가질 수 있음
+        Node node = root;
+        int position = matchLabel(root, query, 0);
+        while (0 <= position && position < query.length()) {
+            node = node.child(query.charAt(position));
+            if (node == null) {
+                return Collections.emptyList();
+            }
+            position = matchLabel(node, query, position);
+        }
+        if (position < 0) {
+            return Collections.emptyList();
+        }
+
+        Entry[] top = node.top[gender.ordinal()];
+        List<Suggestion> suggestions = new ArrayList<>(Math.min(limit, top.length));
+        for (int i = 0; i < top.length && i < limit; i++) {
+            suggestions.add(top[i].suggestion);
+        }
+        return suggestions;
+    }
+
+    // 간선 문자열과 검색어를 비교해 소비한 위치 반환 (어긋나면 -1, 검색어가 간선 중간에서 끝나도 일치)
+    private static int matchLabel(Node node, String query, int position) {
+        int matched = 0;
+        while (matched < node.label.length() && position + matched < query.length()) {
+            if (node.label.charAt(matched) != query.charAt(position + matched)) {
+                return -1;
+            }
+            matched++;
+        }
+        return position + matched;
+    }
+
+    /**
+     * 자동완성 키 정규화: 검색 정규화(NFC, 소문자, 공백 제거) 후 경로 구분자 '>' 도 제거
+     */
+    static String normalizeKey(String text) {
+        return CategorySearchIndex.normalize(text).replace(">", "");
+    }
+
+    // path(/1/101/1001) 의 ID 순서대로 스냅샷에서 조상 노드를 찾음 (ID 형식이 아니면 parentId 를 따라 올라감)
+    private static List<CategoryNode> lineage(CategorySnapshot snapshot, CategoryNode node) {
+        List<CategoryNode> lineage = new ArrayList<>();
+        String path = node.getPath() == null ? "" : node.getPath();
+        for (String segment : path.split("/")) {
+            if (segment.isEmpty()) {
+                continue;
+            }
+            if (!segment.chars().allMatch(Character::isDigit)) {
+                return lineageByParent(snapshot, node);
+            }
+            snapshot.find(Long.valueOf(segment)).ifPresent(lineage::add);
+        }
+        if (lineage.isEmpty() || !lineage.get(lineage.size() - 1).getId().equals(node.getId())) {
+            lineage.add(node);
+        }
+        return lineage;
+    }
+
+    private static List<CategoryNode> lineageByParent(CategorySnapshot snapshot, CategoryNode node) {
+        LinkedList<CategoryNode> lineage = new LinkedList<>();
+        Optional<CategoryNode> current = Optional.of(node);
+        while (current.isPresent() && lineage.size() <= snapshot.size()) {
+            lineage.addFirst(current.get());
+            Long parentId = current.get().getParentId();
+            current = parentId == null ? Optional.empty() : snapshot.find(parentId);
+        }
+        return lineage;
+    }
+
+    /**
+     * 키 순으로 정렬된 [from, to) 구간으로 서브트리 생성 (depth: 부모까지 소비한 문자 수)
+     */
+    private static Node build(List<Entry> entries, int from, int to, int depth, String label) {
+        // 정렬되어 있으므로 구간 전체의 공통 접두어 = 첫 키와 마지막 키의 공통 접두어
+        String first = entries.get(from).key;
+        String last = entries.get(to - 1).key;
+        int common = depth;
+        while (common < first.length() && common < last.length() && first.charAt(common) == last.charAt(common)) {
+            common++;
+        }
+        String nodeLabel = label + first.substring(depth, common);
+
+        List<Entry> terminals = new ArrayList<>();
+        List<Character> childChars = new ArrayList<>();
+        List<Node> children = new ArrayList<>();
+        int index = from;
+        while (index < to && entries.get(index).key.length() == common) {
+            terminals.add(entries.get(index++));
+        }
+        while (index < to) {
+            char next = entries.get(index).key.charAt(common);
+            int end = index;
+            while (end < to && entries.get(end).key.charAt(common) == next) {
+                end++;
+            }
+            childChars.add(next);
+            children.add(build(entries, index, end, common + 1, String.valueOf(next)));
+            index = end;
+        }
+
+        char[] chars = new char[childChars.size()];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = childChars.get(i);
+        }
+        Node[] childNodes = children.toArray(new Node[0]);
+        return new Node(nodeLabel, chars, childNodes, topByGender(terminals, childNodes));
+    }
+
+    private static Entry[][] topByGender(List<Entry> terminals, Node[] children) {
+        Entry[][] top = new Entry[GENDERS.length][];
+        Entry[] all = top(terminals, children, Gender.A);
+        for (Gender gender : GENDERS) {
+            // 전체 상위 K개가 모두 조건에 맞으면 그대로 공유 (대부분의 노드)
+            top[gender.ordinal()] = gender == Gender.A || allMatch(all, gender) ? all : top(terminals, children, gender);
+        }
+        return top;
+    }
+
+    private static Entry[] top(List<Entry> terminals, Node[] children, Gender gender) {
+        List<Entry> candidates = new ArrayList<>();
+        for (Entry entry : terminals) {
+            if (entry.suggestion.getNode().matches(gender)) {
+                candidates.add(entry);
+            }
+        }
+        for (Node child : children) {
+            candidates.addAll(Arrays.asList(child.top[gender.ordinal()]));
+        }
+        candidates.sort(ENTRY_ORDER);
+
+        // 한 카테고리가 이름/경로 두 키로 들어올 수 있으므로 ID 기준으로 한 번만
+        List<Entry> top = new ArrayList<>(MAX_SUGGESTIONS);
+        Set<Long> seen = new HashSet<>();
+        for (Entry entry : candidates) {
+            if (MAX_SUGGESTIONS <= top.size()) {
+                break;
+            }
+            if (seen.add(entry.suggestion.getNode().getId())) {
+                top.add(entry);
+            }
+        }
+        return top.toArray(new Entry[0]);
+    }
+
+    private static boolean allMatch(Entry[] entries, Gender gender) {
+        for (Entry entry : entries) {
+            if (!entry.suggestion.getNode().matches(gender)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Entry[][] emptyTop() {
+        Entry[][] top = new Entry[GENDERS.length][];
+        Arrays.fill(top, new Entry[0]);
+        return top;
+    }
+
+    @RequiredArgsConstructor
+    private static class Entry {
+        private final String key;
+        private final int kind;
+        private final Suggestion suggestion;
+    }
+
+    @RequiredArgsConstructor
+    private static class Node {
+        // 부모에서 이 노드로 오는 간선 문자열
+        private final String label;
+        private final char[] childChars;
+        private final Node[] children;
+        private final Entry[][] top;
+
+        Node child(char next) {
+            int index = Arrays.binarySearch(childChars, next);
+            return index < 0 ? null : children[index];
+        }
+    }
+}
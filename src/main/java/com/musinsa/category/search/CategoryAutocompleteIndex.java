@@ -0,0 +1,67 @@
+package com.musinsa.category.search;
+
+import com.musinsa.category.cache.CategorySnapshot;
+import com.musinsa.category.cache.CategorySnapshotHolder;
+import com.musinsa.category.enums.Gender;
+import com.musinsa.category.event.CategorySnapshotRefreshedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 카테고리 자동완성 색인
+ * - 스냅샷이 교체될 때마다 트라이를 새로 만들어 교체 (조회는 volatile 참조 하나만 읽고 DB 에 접근하지 않음)
+ * - 이름이 바뀌면 하위 카테고리의 이름 경로도 모두 바뀌므로 부분 수정 대신 통째로 다시 만듦
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CategoryAutocompleteIndex {
+
+    public static final int MAX_SUGGESTIONS = AutocompleteTrie.MAX_SUGGESTIONS;
+
+    private final CategorySnapshotHolder snapshotHolder;
+
+    private final Object buildLock = new Object();
+
+    private volatile AutocompleteTrie trie;
+
+    /**
+     * 접두어 자동완성 (성별 조건 적용, 최대 {@link #MAX_SUGGESTIONS} 개)
+     */
+    public List<Suggestion> suggest(String prefix, Gender gender, int limit) {
+        return current().suggest(prefix, gender, limit);
+    }
+
+    /**
+     * 스냅샷 교체 시 트라이 재생성
+     */
+    @EventListener
+    public void onSnapshotRefreshed(CategorySnapshotRefreshedEvent event) {
+        rebuild(event.getSnapshot());
+    }
+
+    private AutocompleteTrie current() {
+        AutocompleteTrie current = trie;
+        if (current != null) {
+            return current;
+        }
+        return rebuild(snapshotHolder.current());
+    }
+
+    private AutocompleteTrie rebuild(CategorySnapshot snapshot) {
+        synchronized (buildLock) {
+            // 더 최신 스냅샷으로 이미 만들어져 있으면 유지
+            if (trie != null && snapshot.getVersion() <= trie.getVersion()) {
+                return trie;
+            }
+            AutocompleteTrie built = AutocompleteTrie.build(snapshot);
+            trie = built;
+            log.debug("카테고리 자동완성 트라이 생성 - version: {}, size: {}", snapshot.getVersion(), snapshot.size());
+            return built;
+        }
+    }
+}
@@ -0,0 +1,449 @@
+package com.musinsa.category.search;
+
+import com.musinsa.category.cache.CategoryNode;
+import com.musinsa.category.cache.CategorySnapshot;
+import com.musinsa.category.cache.CategorySnapshotHolder;
+import com.musinsa.category.event.CategoryChangedEvent;
+import com.musinsa.category.repository.CategoryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * 카테고리 이름 n-gram 역색인
+ * - 이름을 NFC 정규화(자모 분리 입력도 완성형 음절로 합침) + 소문자 + 공백 제거한 뒤
+ *   코드포인트 단위 2-gram / 3-gram 으로 색인 (한글 한 음절 = 한 글자)
+ * - 검색어가 3글자 이상이면 3-gram, 2글자면 2-gram 으로 후보를 좁히고 실제 포함 여부를 다시 확인
+ * - 초성 검색용으로 이름 전체/각 단어 시작부터의 초성 키를 정렬 맵에 두고 접두어 범위로 조회
+ * - 색인에는 이름만 두고, 응답에 쓰는 노드 정보는 항상 현재 스냅샷에서 가져옴
+ * - 쓰기 트랜잭션 커밋 후 바뀐 카테고리 한 건만 다시 색인
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CategorySearchIndex {
+
+    private static final int BIGRAM = 2;
+    private static final int TRIGRAM = 3;
+
+    // 매칭 품질 (작을수록 우선)
+    private static final int RANK_EXACT = 0;
+    private static final int RANK_PREFIX = 1;
+    private static final int RANK_WORD_PREFIX = 2;
+    private static final int RANK_SUBSTRING = 3;
+
+    // 한글 음절 초성 (유니코드 초성 순서)
+    private static final char[] CHOSUNG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+    private static final int HANGUL_SYLLABLE_BEGIN = 0xAC00;
+    private static final int HANGUL_SYLLABLE_END = 0xD7A3;
+    private static final int SYLLABLES_PER_CHOSUNG = 21 * 28;
+    private static final int CHOSEONG_JAMO_BEGIN = 0x1100;
+    private static final int CHOSEONG_JAMO_END = 0x1112;
+
+    // 초성 키 뒤에 붙이는 구분자 (키 = 초성 + 구분자 + ID, 접두어 범위 조회 시 항상 앞쪽에 정렬됨)
+    private static final char KEY_SEPARATOR = '\u0000';
+
+    private static final Comparator<Hit> HIT_ORDER = Comparator
+            .comparingInt((Hit hit) -> hit.rank)
+            .thenComparingInt(hit -> hit.name.length())
+            .thenComparing(hit -> hit.node.getName())
+            .thenComparing(hit -> hit.node.getId());
+
+    private final CategoryRepository categoryRepository;
+    private final CategorySnapshotHolder snapshotHolder;
+
+    private final Object writeLock = new Object();
+
+    private volatile Postings postings;
+
+    /**
+     * 검색어에 맞는 카테고리를 매칭 품질 순으로 offset 부터 limit 개 반환
+     * - 정확히 일치 > 이름 앞부분 일치 > 단어 앞부분 일치 > 부분 일치, 같으면 짧은 이름, 이름, ID 순
+     */
+    public List<CategoryNode> search(String keyword, CategorySnapshot snapshot, int offset, int limit) {
+        String query = normalize(keyword);
+        int queryLength = query.codePointCount(0, query.length());
+        if (queryLength < BIGRAM || limit <= 0) {
+            return Collections.emptyList();
+        }
+
+        Postings current = current();
+        List<long[]> lists = new ArrayList<>();
+        for (String gram : grams(query, queryLength < TRIGRAM ? BIGRAM : TRIGRAM)) {
+            long[] ids = current.ids.get(gram);
+            if (ids == null) {
+                return Collections.emptyList();
+            }
+            lists.add(ids);
+        }
+        // 가장 짧은 목록을 기준으로 나머지 목록에 모두 있는 ID 만 후보로 남김
+        lists.sort(Comparator.comparingInt(ids -> ids.length));
+
+        TopHits top = new TopHits(snapshot, offset + limit);
+        for (long id : lists.get(0)) {
+            if (!containsAll(lists, id)) {
+                continue;
+            }
+            IndexedName name = current.names.get(id);
+            if (name != null && name.compact.contains(query)) {
+                top.offer(id, name, rank(name, query));
+            }
+        }
+        return top.results(offset);
+    }
+
+    /**
+     * 초성으로 검색 (이름 또는 단어 앞부분부터 일치, 완성형 음절이 섞인 검색어도 초성으로 바꿔 비교)
+     * - 초성 전체 일치 > 이름 앞부분 일치 > 단어 앞부분 일치, 같으면 짧은 이름, 이름, ID 순
+     */
+    public List<CategoryNode> searchChosung(String keyword, CategorySnapshot snapshot, int offset, int limit) {
+        String query = chosung(normalize(keyword));
+        if (query.codePointCount(0, query.length()) < BIGRAM || limit <= 0) {
+            return Collections.emptyList();
+        }
+
+        Postings current = current();
+        TopHits top = new TopHits(snapshot, offset + limit);
+        // 한 이름에 단어별 키가 여러 개 있으므로 같은 ID 는 한 번만
+        Set<Long> seen = new HashSet<>();
+        for (Long id : current.chosungKeys.subMap(query, true, query + Character.MAX_VALUE, false).values()) {
+            IndexedName name = current.names.get(id);
+            if (name != null && seen.add(id)) {
+                top.offer(id, name, chosungRank(name, query));
+            }
+        }
+        return top.results(offset);
+    }
+
+    /**
+     * 현재 스냅샷 기준으로 색인 전체를 다시 생성
+     */
+    public void rebuild() {
+        synchronized (writeLock) {
+            CategorySnapshot snapshot = snapshotHolder.current();
+            Map<String, List<Long>> collected = new HashMap<>();
+            Map<Long, IndexedName> names = new ConcurrentHashMap<>(snapshot.size() * 2);
+            TreeMap<String, Long> chosungKeys = new TreeMap<>();
+            for (CategoryNode node : snapshot.getOrdered()) {
+                IndexedName name = IndexedName.of(node.getName());
+                names.put(node.getId(), name);
+                for (String gram : name.grams()) {
+                    collected.computeIfAbsent(gram, key -> new ArrayList<>()).add(node.getId());
+                }
+                for (String key : name.chosungKeys(node.getId())) {
+                    chosungKeys.put(key, node.getId());
+                }
+            }
+
+            Map<String, long[]> ids = new ConcurrentHashMap<>(collected.size() * 2);
+            for (Map.Entry<String, List<Long>> entry : collected.entrySet()) {
+                long[] sorted = entry.getValue().stream().mapToLong(Long::longValue).toArray();
+                Arrays.sort(sorted);
+                ids.put(entry.getKey(), sorted);
+            }
+
+            postings = new Postings(names, ids, new ConcurrentSkipListMap<>(chosungKeys));
+            log.debug("카테고리 검색 색인 생성 - names: {}, grams: {}", names.size(), ids.size());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        rebuild();
+    }
+
+    /**
+     * 쓰기 트랜잭션 커밋 후 바뀐 카테고리만 다시 색인 (비활성/삭제된 경우 색인에서 제거, 하위 트리 일괄 처리는 DB 조회 없이 제거/추가)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        if (postings == null) {
+            return;
+        }
+        if (!event.getRemovedIds().isEmpty() || !event.getAddedNames().isEmpty()) {
+            event.getRemovedIds().forEach(this::remove);
+            event.getAddedNames().forEach(this::put);
+            return;
+        }
+        if (event.getCategoryId() == null) {
+            // 루트 형제 순서 변경처럼 이름이 바뀌지 않는 루트 기준 작업
+            return;
+        }
+        Optional<CategoryNode> node = categoryRepository.findNodeById(event.getCategoryId());
+        if (node.isPresent() && Boolean.TRUE.equals(node.get().getIsActive())) {
+            put(node.get().getId(), node.get().getName());
+        } else {
+            remove(event.getCategoryId());
+        }
+    }
+
+    void put(Long id, String rawName) {
+        synchronized (writeLock) {
+            Postings current = current();
+            IndexedName name = IndexedName.of(rawName);
+            IndexedName previous = current.names.put(id, name);
+            if (previous != null && previous.compact.equals(name.compact)) {
+                return;
+            }
+
+            if (previous != null) {
+                previous.chosungKeys(id).forEach(current.chosungKeys::remove);
+            }
+            name.chosungKeys(id).forEach(key -> current.chosungKeys.put(key, id));
+
+            Set<String> added = name.grams();
+            if (previous != null) {
+                Set<String> removed = previous.grams();
+                removed.removeAll(added);
+                added.removeAll(previous.grams());
+                removed.forEach(gram -> current.ids.computeIfPresent(gram, (key, ids) -> without(ids, id)));
+            }
+            added.forEach(gram -> current.ids.compute(gram, (key, ids) -> with(ids, id)));
+        }
+    }
+
+    void remove(Long id) {
+        synchronized (writeLock) {
+            Postings current = current();
+            IndexedName previous = current.names.remove(id);
+            if (previous != null) {
+                previous.grams().forEach(gram -> current.ids.computeIfPresent(gram, (key, ids) -> without(ids, id)));
+                previous.chosungKeys(id).forEach(current.chosungKeys::remove);
+            }
+        }
+    }
+
+    private Postings current() {
+        Postings current = postings;
+        if (current != null) {
+            return current;
+        }
+        synchronized (writeLock) {
+            if (postings == null) {
+                rebuild();
+            }
+            return postings;
+        }
+    }
+
+    /**
+     * 검색용 정규화: NFC, 소문자, 공백 제거
+     */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        StringBuilder compact = new StringBuilder(normalized.length());
+        normalized.codePoints()
+                .filter(codePoint -> !Character.isWhitespace(codePoint) && !Character.isSpaceChar(codePoint))
+                .forEach(compact::appendCodePoint);
+        return compact.toString();
+    }
+
+    /**
+     * 한글 음절을 초성(호환 자모)으로 변환, 나머지 문자는 그대로 (문자 수/위치 유지)
+     */
+    static String chosung(String normalized) {
+        StringBuilder chosung = new StringBuilder(normalized.length());
+        normalized.codePoints().forEach(codePoint -> chosung.appendCodePoint(toChosung(codePoint)));
+        return chosung.toString();
+    }
+
+    private static int toChosung(int codePoint) {
+        if (HANGUL_SYLLABLE_BEGIN <= codePoint && codePoint <= HANGUL_SYLLABLE_END) {
+            return CHOSUNG[(codePoint - HANGUL_SYLLABLE_BEGIN) / SYLLABLES_PER_CHOSUNG];
+        }
+        // 모음 없이 입력된 조합형 초성 자모
+        if (CHOSEONG_JAMO_BEGIN <= codePoint && codePoint <= CHOSEONG_JAMO_END) {
+            return CHOSUNG[codePoint - CHOSEONG_JAMO_BEGIN];
+        }
+        return codePoint;
+    }
+
+    private static Set<String> grams(String compact, int size) {
+        int[] codePoints = compact.codePoints().toArray();
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + size <= codePoints.length; i++) {
+            grams.add(new String(codePoints, i, size));
+        }
+        return grams;
+    }
+
+    private static int rank(IndexedName name, String query) {
+        if (name.compact.equals(query)) {
+            return RANK_EXACT;
+        }
+        if (name.compact.startsWith(query)) {
+            return RANK_PREFIX;
+        }
+        for (int wordStart : name.wordStarts) {
+            if (name.compact.startsWith(query, wordStart)) {
+                return RANK_WORD_PREFIX;
+            }
+        }
+        return RANK_SUBSTRING;
+    }
+
+    private static int chosungRank(IndexedName name, String query) {
+        if (name.chosung.equals(query)) {
+            return RANK_EXACT;
+        }
+        return name.chosung.startsWith(query) ? RANK_PREFIX : RANK_WORD_PREFIX;
+    }
+
+    private static boolean isWorse(int rank, int length, Hit worst) {
+        return worst.rank < rank || (worst.rank == rank && worst.name.length() < length);
+    }
+
+    private static boolean containsAll(List<long[]> lists, long id) {
+        for (int i = 1; i < lists.size(); i++) {
+            if (Arrays.binarySearch(lists.get(i), id) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long[] with(long[] ids, long id) {
+        if (ids == null) {
+            return new long[]{id};
+        }
+        int index = Arrays.binarySearch(ids, id);
+        if (0 <= index) {
+            return ids;
+        }
+        int insertAt = -index - 1;
+        long[] copy = new long[ids.length + 1];
+        System.arraycopy(ids, 0, copy, 0, insertAt);
+        copy[insertAt] = id;
+        System.arraycopy(ids, insertAt, copy, insertAt + 1, ids.length - insertAt);
+        return copy;
+    }
+
+    // 빈 목록이 되면 null 을 돌려 gram 자체를 제거
+    private static long[] without(long[] ids, long id) {
+        int index = Arrays.binarySearch(ids, id);
+        if (index < 0) {
+            return ids;
+        }
+        if (ids.length == 1) {
+            return null;
+        }
+        long[] copy = new long[ids.length - 1];
+        System.arraycopy(ids, 0, copy, 0, index);
+        System.arraycopy(ids, index + 1, copy, index, ids.length - index - 1);
+        return copy;
+    }
+
+    /**
+     * 색인 본체 (ID 목록은 정렬된 배열이며 수정 시 통째로 교체)
+     */
+    @RequiredArgsConstructor
+    private static class Postings {
+        private final Map<Long, IndexedName> names;
+        private final Map<String, long[]> ids;
+        private final NavigableMap<String, Long> chosungKeys;
+    }
+
+    /**
+     * 정규화된 이름과 단어 시작 위치 (공백 제거 후 기준)
+     */
+    @RequiredArgsConstructor
+    private static class IndexedName {
+        private final String compact;
+        private final int[] wordStarts;
+        // compact 와 같은 위치에 초성이 놓인 문자열
+        private final String chosung;
+
+        static IndexedName of(String name) {
+            StringBuilder compact = new StringBuilder();
+            List<Integer> wordStarts = new ArrayList<>();
+            for (String word : Normalizer.normalize(name, Normalizer.Form.NFC).trim().split("\\s+")) {
+                String normalizedWord = normalize(word);
+                if (!normalizedWord.isEmpty()) {
+                    wordStarts.add(compact.length());
+                    compact.append(normalizedWord);
+                }
+            }
+            return new IndexedName(compact.toString(), wordStarts.stream().mapToInt(Integer::intValue).toArray(),
+                    chosung(compact.toString()));
+        }
+
+        Set<String> grams() {
+            Set<String> grams = CategorySearchIndex.grams(compact, BIGRAM);
+            grams.addAll(CategorySearchIndex.grams(compact, TRIGRAM));
+            return grams;
+        }
+
+        /**
+         * 이름 시작과 각 단어 시작부터의 초성 키
+         */
+        List<String> chosungKeys(Long id) {
+            List<String> keys = new ArrayList<>(wordStarts.length);
+            for (int wordStart : wordStarts) {
+                keys.add(chosung.substring(wordStart) + KEY_SEPARATOR + id);
+            }
+            return keys;
+        }
+    }
+
+    /**
+     * 상위 offset + limit 개만 유지하는 결과 수집기
+     */
+    private static class TopHits {
+        private final CategorySnapshot snapshot;
+        private final int capacity;
+        private final PriorityQueue<Hit> top;
+
+        private TopHits(CategorySnapshot snapshot, int capacity) {
+            this.snapshot = snapshot;
+            this.capacity = capacity;
+            this.top = new PriorityQueue<>(Math.min(capacity, 64), HIT_ORDER.reversed());
+        }
+
+        void offer(Long id, IndexedName name, int rank) {
+            // 이미 상위 K개가 찼고 매칭 품질/길이에서 밀리면 노드 조회 없이 건너뜀
+            if (capacity <= top.size() && isWorse(rank, name.compact.length(), top.peek())) {
+                return;
+            }
+            Optional<CategoryNode> node = snapshot.find(id);
+            if (!node.isPresent()) {
+                return;
+            }
+
+            top.offer(new Hit(node.get(), name.compact, rank));
+            if (capacity < top.size()) {
+                top.poll();
+            }
+        }
+
+        List<CategoryNode> results(int offset) {
+            List<Hit> hits = new ArrayList<>(top);
+            hits.sort(HIT_ORDER);
+            List<CategoryNode> results = new ArrayList<>(Math.max(0, hits.size() - offset));
+            for (int i = offset; i < hits.size(); i++) {
+                results.add(hits.get(i).node);
+            }
+            return results;
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static class Hit {
+        private final CategoryNode node;
+        private final String name;
+        private final int rank;
+    }
+}
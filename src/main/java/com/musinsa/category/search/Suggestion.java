@@ -0,0 +1,16 @@
+package com.musinsa.category.search;
+
+import com.musinsa.category.cache.CategoryNode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 자동완성 후보 (카테고리 노드 + 이름 경로, 예: "상의 > 반팔 티셔츠")
+ */
+@Getter
+@RequiredArgsConstructor
+public class Suggestion {
+
+    private final CategoryNode node;
+    private final String breadcrumb;
+}
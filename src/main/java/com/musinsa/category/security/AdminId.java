@@ -0,0 +1,16 @@
+package com.musinsa.category.security;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 인증된 관리자 ID 주입
+ * - Authorization 헤더의 Bearer 토큰을 검증한 뒤 토큰 subject 를 넘겨줌
+ * - 토큰이 없으면 MISSING_TOKEN, 유효하지 않으면 INVALID_TOKEN
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface AdminId {
+}
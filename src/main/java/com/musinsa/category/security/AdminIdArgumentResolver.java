@@ -0,0 +1,39 @@
+package com.musinsa.category.security;
+
+import com.musinsa.category.exception.BusinessException;
+import com.musinsa.category.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+/**
+ * {@link AdminId} 파라미터 처리
+ * - 요청당 토큰 파싱은 최대 1회 (검증된 토큰은 JwtUtil 캐시에서 바로 조회)
+ */
+@RequiredArgsConstructor
+public class AdminIdArgumentResolver implements HandlerMethodArgumentResolver {
+
+    private final JwtUtil jwtUtil;
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(AdminId.class)
+                && String.class.equals(parameter.getParameterType());
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        String token = jwtUtil.extractTokenFromHeader(webRequest.getHeader(HttpHeaders.AUTHORIZATION));
+
+        if (token == null) {
+            throw new BusinessException(ErrorCode.MISSING_TOKEN);
+        }
+
+        return jwtUtil.authenticate(token);
+    }
+}
@@ -1,17 +1,31 @@
 package com.musinsa.category.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.musinsa.category.exception.BusinessException;
 import com.musinsa.category.exception.ErrorCode;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Component
@@ -19,11 +33,31 @@ public class JwtUtil {
 
     private final SecretKey key;
     private final long validityInMs;
+    private final JwtParser parser;
+
+    // 검증을 통과한 토큰 (키: 토큰 SHA-256 다이제스트, 토큰 만료 시각에 함께 만료)
+    private final Cache<String, VerifiedToken> verifiedTokens;
+
+    // 서명 검증(파싱) 시간 (캐시 적중은 검증하지 않으므로 포함되지 않음)
+    private final Timer verificationTimer;
 
     public JwtUtil(@Value("${jwt.secret}") String secretKey,
-                   @Value("${jwt.expiration:3600000}") long validityInMs) {
+                   @Value("${jwt.expiration:3600000}") long validityInMs,
+                   @Value("${jwt.cache.maximum-size:10000}") long cacheMaximumSize,
+                   MeterRegistry meterRegistry) {
         this.key = Keys.hmacShaKeyFor(secretKey.getBytes());
         this.validityInMs = validityInMs;
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(cacheMaximumSize)
+                .expireAfter(new UntilTokenExpiry())
+                .build();
+        this.verificationTimer = Timer.builder("jwt.verification")
+                .description("JWT 서명 검증 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
     }
 
     /**
@@ -41,18 +75,46 @@ public class JwtUtil {
                 .compact();
     }
 
+    /**
+     * 토큰 검증 후 관리자 ID 반환
+     * - 한 번 검증된 토큰은 만료 시각까지 캐시에서 바로 반환 (서명 재검증 없음)
+     */
+    public String authenticate(String token) {
+        if (token == null) {
+            throw new BusinessException(ErrorCode.MISSING_TOKEN);
+        }
+
+        String digest = digest(token);
+        VerifiedToken cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null) {
+            return cached.getAdminId();
+        }
+
+        Claims claims = verifyToken(token);
+        if (claims.getExpiration() != null) {
+            verifiedTokens.put(digest, new VerifiedToken(claims.getSubject(), claims.getExpiration().getTime()));
+        }
+        return claims.getSubject();
+    }
+
+    /**
+     * 토큰 서명/만료 검증 후 클레임 반환 (캐시 사용 안 함)
+     */
+    public Claims verifyToken(String token) {
+        try {
+            return parse(token).getBody();
+        } catch (Exception e) {
+            log.warn("토큰 검증 실패: {}", e.getMessage());
+            throw new BusinessException(ErrorCode.INVALID_TOKEN);
+        }
+    }
+
     /**
      * 토큰에서 관리자 ID 추출
      */
     public String extractAdminId(String token) {
         try {
-            Claims claims = Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
-
-            return claims.getSubject();
+            return parse(token).getBody().getSubject();
         } catch (Exception e) {
             log.warn("토큰에서 사용자 ID 추출 실패: {}", e.getMessage());
             throw new BusinessException(ErrorCode.INVALID_TOKEN);
@@ -64,10 +126,7 @@ public class JwtUtil {
      */
     public boolean isTokenValid(String token) {
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token);
+            parse(token);
             return true;
         } catch (Exception e) {
             log.warn("토큰 검증 실패: {}", e.getMessage());
@@ -80,13 +139,7 @@ public class JwtUtil {
      */
     public Date getExpirationDate(String token) {
         try {
-            Claims claims = Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
-
-            return claims.getExpiration();
+            return parse(token).getBody().getExpiration();
         } catch (Exception e) {
             log.warn("토큰 만료 시간 조회 실패: {}", e.getMessage());
             return null;
@@ -97,13 +150,49 @@ public class JwtUtil {
      * Authorization 헤더에서 토큰 추출
      */
     public String extractTokenFromHeader(String authHeader) {
-        log.info("받은 Authorization 헤더: {}", authHeader); // 이 로그 추가
-
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
-            String token = authHeader.substring(7);
-            log.info("추출된 토큰: {}", token); // 이 로그도 추가
-            return token;
+            return authHeader.substring(7);
         }
         return null;
     }
-}
\ No newline at end of file
+
+    private Jws<Claims> parse(String token) {
+        return verificationTimer.record(() -> parser.parseClaimsJws(token));
+    }
+
+    // 원본 토큰 대신 다이제스트를 캐시 키로 사용 (메모리에 토큰 원문을 남기지 않음)
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 다이제스트를 사용할 수 없습니다.", e);
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class VerifiedToken {
+        private final String adminId;
+        private final long expiresAtMillis;
+    }
+
+    private static class UntilTokenExpiry implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            long remainingMillis = Math.max(0, value.getExpiresAtMillis() - System.currentTimeMillis());
+            return TimeUnit.MILLISECONDS.toNanos(remainingMillis);
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.musinsa.category.service;
+
+import com.musinsa.category.cache.CategoryNode;
+import com.musinsa.category.dto.CategoryChangesResponse;
+import com.musinsa.category.dto.CategoryResponse;
+import com.musinsa.category.entity.CategoryChange;
+import com.musinsa.category.entity.CategoryTreeVersion;
+import com.musinsa.category.enums.ChangeType;
+import com.musinsa.category.event.CategoryChangeRecordedEvent;
+import com.musinsa.category.exception.BusinessException;
+import com.musinsa.category.exception.ErrorCode;
+import com.musinsa.category.repository.CategoryBatchRepository;
+import com.musinsa.category.repository.CategoryChangeRepository;
+import com.musinsa.category.repository.CategoryRepository;
+import com.musinsa.category.repository.CategoryTreeVersionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 카테고리 변경 로그와 트리 버전 관리
+ * - 쓰기 작업마다 같은 트랜잭션에서 버전을 1 올리고 바뀐 카테고리를 기록 (롤백되면 기록도 함께 취소)
+ * - 변경분 조회는 since 이후 바뀐 카테고리만 현재 상태와 함께 반환
+ * - 보관 기간(category.changes.retention)이 지난 로그는 매일 압축하며, 압축된 버전부터 요청하면 전체 재동기화 안내
+ */
+@Slf4j
+@Service
+public class CategoryChangeService {
+
+    // 변경분이 이보다 많으면 전체 트리를 다시 받는 편이 작음
+    static final int MAX_CHANGES = 10_000;
+
+    private final CategoryTreeVersionRepository versionRepository;
+    private final CategoryChangeRepository changeRepository;
+    private final CategoryBatchRepository batchRepository;
+    private final CategoryRepository categoryRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Duration retention;
+
+    public CategoryChangeService(CategoryTreeVersionRepository versionRepository,
+                                 CategoryChangeRepository changeRepository,
+                                 CategoryBatchRepository batchRepository,
+                                 CategoryRepository categoryRepository,
+                                 ApplicationEventPublisher eventPublisher,
+                                 @Value("${category.changes.retention:7d}") Duration retention) {
+        this.versionRepository = versionRepository;
+        this.changeRepository = changeRepository;
+        this.batchRepository = batchRepository;
+        this.categoryRepository = categoryRepository;
+        this.eventPublisher = eventPublisher;
+        this.retention = retention;
+    }
+
+    /**
+     * 변경 작업 기록 (호출한 쓰기 트랜잭션 안에서만 사용)
+     * - 커밋 후 SSE 구독자에게 전달되도록 CategoryChangeRecordedEvent 발행
+     *
+     * @return 이 작업의 트리 버전
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public long record(ChangeType type, Collection<Long> categoryIds) {
+        long version = nextVersion();
+        LocalDateTime now = LocalDateTime.now();
+        batchRepository.insertChanges(version, type, categoryIds, now);
+        eventPublisher.publishEvent(new CategoryChangeRecordedEvent(version, type, new ArrayList<>(categoryIds), now));
+        log.debug("카테고리 변경 기록 - version: {}, type: {}, count: {}", version, type, categoryIds.size());
+        return version;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public long record(ChangeType type, Long categoryId) {
+        return record(type, Collections.singletonList(categoryId));
+    }
+
+    /**
+     * since 버전 이후 바뀐 카테고리 조회
+     * - 같은 카테고리가 여러 번 바뀌었으면 마지막 변경만, 카테고리 정보는 조회 시점의 상태
+     */
+    @Transactional(readOnly = true)
+    public CategoryChangesResponse getChanges(long since) {
+        if (since < 0) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "since 는 0 이상");
+        }
+
+        // 버전을 먼저 읽어 두면 그 이하 버전은 모두 커밋된 상태 (버전 행 잠금 순서 = 커밋 순서)
+        CategoryTreeVersion current = versionRepository.findCurrent()
+                .orElseGet(() -> new CategoryTreeVersion(CategoryTreeVersion.SINGLETON_ID, 0L, 0L));
+        long version = current.getVersion();
+
+        // 압축된 구간이거나 서버보다 앞선 버전(DB 초기화 등)이면 변경분으로 따라잡을 수 없음
+        if (since < current.getCompactedVersion() || version < since
+                || MAX_CHANGES < changeRepository.countChanges(since, version)) {
+            return CategoryChangesResponse.resync(version);
+        }
+
+        Map<Long, CategoryChange> latest = new LinkedHashMap<>();
+        for (CategoryChange change : changeRepository.findChanges(since, version)) {
+            // 다시 넣어 마지막 변경 버전 순서를 유지
+            latest.remove(change.getCategoryId());
+            latest.put(change.getCategoryId(), change);
+        }
+
+        Map<Long, CategoryNode> nodes = latest.isEmpty() ? Collections.emptyMap()
+                : categoryRepository.findNodesByIdIn(latest.keySet()).stream()
+                        .collect(Collectors.toMap(CategoryNode::getId, Function.identity()));
+
+        List<CategoryChangesResponse.Change> changes = new ArrayList<>(latest.size());
+        for (CategoryChange change : latest.values()) {
+            CategoryNode node = nodes.get(change.getCategoryId());
+            changes.add(CategoryChangesResponse.Change.builder()
+                    .version(change.getVersion())
+                    .categoryId(change.getCategoryId())
+                    .type(node == null ? ChangeType.DELETED : change.getChangeType())
+                    .category(node != null ? CategoryResponse.from(node) : null)
+                    .build());
+        }
+
+        return CategoryChangesResponse.builder()
+                .version(version)
+                .resyncRequired(false)
+                .changes(changes)
+                .build();
+    }
+
+    /**
+     * 보관 기간이 지난 변경 로그 압축 (매일 04시)
+     */
+    @Scheduled(cron = "${category.changes.compact-cron:0 0 4 * * *}")
+    public void compactExpired() {
+        compact(LocalDateTime.now().minus(retention));
+    }
+
+    /**
+     * before 이전에 기록된 버전까지의 변경 로그 삭제
+     *
+     * @return 삭제된 로그 수
+     */
+    @Transactional
+    public int compact(LocalDateTime before) {
+        Optional<Long> upTo = changeRepository.findMaxVersionChangedBefore(before);
+        if (upTo.isEmpty()) {
+            return 0;
+        }
+        int deleted = changeRepository.deleteUpTo(upTo.get());
+        versionRepository.updateCompactedVersion(upTo.get());
+        log.info("카테고리 변경 로그 압축 - compactedVersion: {}, 삭제 수: {}", upTo.get(), deleted);
+        return deleted;
+    }
+
+    /**
+     * 버전 행이 없으면 생성 (최초 기동)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void initVersion() {
+        if (!versionRepository.existsById(CategoryTreeVersion.SINGLETON_ID)) {
+            versionRepository.save(new CategoryTreeVersion(CategoryTreeVersion.SINGLETON_ID, 0L, 0L));
+        }
+    }
+
+    private long nextVersion() {
+        if (versionRepository.increment() == 0) {
+            versionRepository.saveAndFlush(new CategoryTreeVersion(CategoryTreeVersion.SINGLETON_ID, 1L, 0L));
+            return 1L;
+        }
+        return versionRepository.findVersion()
+                .orElseThrow(() -> new IllegalStateException("카테고리 트리 버전 행이 없습니다"));
+    }
+}
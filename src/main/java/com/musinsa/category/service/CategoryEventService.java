@@ -0,0 +1,284 @@
+package com.musinsa.category.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.musinsa.category.dto.CategoryEventResponse;
+import com.musinsa.category.event.CategoryChangeRecordedEvent;
+import com.musinsa.category.exception.BusinessException;
+import com.musinsa.category.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 카테고리 변경 SSE 스트림
+ * - 변경 로그가 커밋되면 구독자마다 change 이벤트 전송 (이벤트 ID = 트리 버전)
+ * - 최근 이벤트는 고정 크기 링 버퍼에 보관해 Last-Event-ID 로 재연결하면 이어서 전송
+ *   (버퍼에서 밀려난 구간이면 resync 이벤트로 /changes?since= 조회를 안내)
+ * - 구독자마다 크기가 정해진 큐와 전송 스레드를 따로 두어, 느린 구독자가 쓰기 작업이나 다른 구독자를 막지 않음
+ *   (큐가 가득 차면 그 구독자만 연결을 끊고, 클라이언트는 Last-Event-ID 로 재연결해 버퍼에서 이어받음)
+ */
+@Slf4j
+@Service
+public class CategoryEventService {
+
+    static final String CHANGE_EVENT = "change";
+    static final String RESYNC_EVENT = "resync";
+    private static final String HEARTBEAT_COMMENT = "heartbeat";
+
+    private final ObjectMapper objectMapper;
+    private final Executor senders;
+    private final int queueSize;
+    private final int maxSubscribers;
+    private final long timeoutMillis;
+
+    // 버전 순 링 버퍼 (this 로 동기화)
+    private final Message[] buffer;
+    private int start;
+    private int size;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    @Autowired
+    public CategoryEventService(ObjectMapper objectMapper,
+                                @Value("${category.events.buffer-size:1024}") int bufferSize,
+                                @Value("${category.events.subscriber-queue-size:256}") int queueSize,
+                                @Value("${category.events.max-subscribers:1000}") int maxSubscribers,
+                                @Value("${category.events.timeout:30m}") Duration timeout) {
+        this(objectMapper, newSenderPool(), bufferSize, queueSize, maxSubscribers, timeout);
+    }
+
+    CategoryEventService(ObjectMapper objectMapper, Executor senders, int bufferSize, int queueSize,
+                         int maxSubscribers, Duration timeout) {
+        this.objectMapper = objectMapper;
+        this.senders = senders;
+        this.buffer = new Message[bufferSize];
+        this.queueSize = queueSize;
+        this.maxSubscribers = maxSubscribers;
+        this.timeoutMillis = timeout.toMillis();
+    }
+
+    /**
+     * 변경 이벤트 구독
+     *
+     * @param lastEventId 마지막으로 받은 이벤트 ID (재연결 시, 처음이면 null)
+     */
+    public SseEmitter subscribe(Long lastEventId) {
+        return register(new SseEmitter(timeoutMillis), lastEventId);
+    }
+
+    SseEmitter register(SseEmitter emitter, Long lastEventId) {
+        if (maxSubscribers <= subscribers.size()) {
+            throw new BusinessException(ErrorCode.TOO_MANY_SUBSCRIBERS);
+        }
+        Subscriber subscriber = new Subscriber(emitter, queueSize);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> subscribers.remove(subscriber));
+
+        // 재전송할 이벤트를 고르는 동안 새 이벤트가 끼어들어 빠지거나 중복되지 않도록 발행과 같은 잠금 사용
+        synchronized (this) {
+            if (lastEventId != null) {
+                replay(subscriber, lastEventId);
+            }
+            subscribers.add(subscriber);
+        }
+        schedule(subscriber);
+        log.debug("카테고리 이벤트 구독 - lastEventId: {}, 구독자 수: {}", lastEventId, subscribers.size());
+        return emitter;
+    }
+
+    /**
+     * 변경 로그가 커밋된 뒤 구독자에게 전달 (트랜잭션 밖에서 발행된 경우 즉시)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChangeRecorded(CategoryChangeRecordedEvent event) {
+        Message message;
+        try {
+            message = Message.change(event.getVersion(),
+                    objectMapper.writeValueAsString(CategoryEventResponse.from(event)));
+        } catch (JsonProcessingException e) {
+            log.error("카테고리 이벤트 직렬화 실패 - version: {}", event.getVersion(), e);
+            return;
+        }
+
+        synchronized (this) {
+            append(message);
+            for (Subscriber subscriber : subscribers) {
+                offer(subscriber, message);
+            }
+        }
+        for (Subscriber subscriber : subscribers) {
+            schedule(subscriber);
+        }
+    }
+
+    /**
+     * 끊긴 연결을 찾아내고 프록시 유휴 타임아웃을 피하기 위한 주석 전송
+     */
+    @Scheduled(fixedDelayString = "${category.events.heartbeat-interval:15000}")
+    public void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            // 하트비트는 큐가 차 있으면 건너뜀 (이미 보낼 이벤트가 있음)
+            if (subscriber.queue.offer(Message.HEARTBEAT)) {
+                schedule(subscriber);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        subscribers.clear();
+        if (senders instanceof ExecutorService) {
+            ((ExecutorService) senders).shutdownNow();
+        }
+    }
+
+    int subscriberCount() {
+        return subscribers.size();
+    }
+
+    private void replay(Subscriber subscriber, long lastEventId) {
+        // 버퍼가 비었거나(재시작 등) 이미 밀려난 구간, 서버보다 앞선 ID, 큐에 다 담을 수 없을 만큼 밀린 경우는
+        // 버퍼만으로 이어줄 수 없음
+        int from = size == 0 ? 0 : firstAfter(lastEventId);
+        if (size == 0 || lastEventId + 1 < at(0).version || at(size - 1).version < lastEventId
+                || queueSize < size - from) {
+            subscriber.queue.offer(Message.resync(lastEventId));
+            return;
+        }
+        for (int i = from; i < size; i++) {
+            subscriber.queue.offer(at(i));
+        }
+    }
+
+    private void offer(Subscriber subscriber, Message message) {
+        if (!subscriber.queue.offer(message) && subscribers.remove(subscriber)) {
+            log.warn("카테고리 이벤트 구독자 큐 초과로 연결 종료 - 대기 수: {}", subscriber.queue.size());
+            subscriber.emitter.complete();
+        }
+    }
+
+    private void schedule(Subscriber subscriber) {
+        if (!subscriber.queue.isEmpty() && subscriber.sending.compareAndSet(false, true)) {
+            try {
+                senders.execute(() -> drain(subscriber));
+            } catch (RejectedExecutionException e) {
+                subscriber.sending.set(false);
+            }
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            Message message;
+            while ((message = subscriber.queue.poll()) != null) {
+                subscriber.emitter.send(message.toEvent());
+            }
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트가 끊었거나 이미 완료된 연결
+            subscribers.remove(subscriber);
+            subscriber.queue.clear();
+            log.debug("카테고리 이벤트 전송 실패로 구독 해제 - {}", e.getMessage());
+        } finally {
+            subscriber.sending.set(false);
+        }
+        // poll 이 빈 큐를 본 뒤 sending 을 내리기 전에 들어온 메시지 처리
+        if (subscribers.contains(subscriber)) {
+            schedule(subscriber);
+        }
+    }
+
+    private void append(Message message) {
+        if (size == buffer.length) {
+            start = (start + 1) % buffer.length;
+            size--;
+        }
+        // 커밋 직후 발행 순서가 버전 순서와 드물게 뒤바뀔 수 있어 뒤에서부터 자리를 찾아 삽입
+        int index = size;
+        while (0 < index && message.version < at(index - 1).version) {
+            buffer[(start + index) % buffer.length] = at(index - 1);
+            index--;
+        }
+        buffer[(start + index) % buffer.length] = message;
+        size++;
+    }
+
+    private int firstAfter(long version) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (at(mid).version <= version) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private Message at(int index) {
+        return buffer[(start + index) % buffer.length];
+    }
+
+    private static ExecutorService newSenderPool() {
+        // 구독자마다 보낼 것이 있을 때만 스레드를 쓰므로, 멈춘 연결은 자기 스레드만 붙잡음
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("category-sse-");
+        threadFactory.setDaemon(true);
+        return Executors.newCachedThreadPool(threadFactory);
+    }
+
+    @RequiredArgsConstructor
+    private static class Subscriber {
+        private final SseEmitter emitter;
+        private final BlockingQueue<Message> queue;
+        private final AtomicBoolean sending = new AtomicBoolean();
+
+        Subscriber(SseEmitter emitter, int queueSize) {
+            this(emitter, new ArrayBlockingQueue<>(queueSize));
+        }
+    }
+
+    /**
+     * 큐에 담는 전송 단위 (JSON 은 발행 시 한 번만 직렬화, SseEventBuilder 는 재사용할 수 없어 전송 시 생성)
+     */
+    @RequiredArgsConstructor
+    private static class Message {
+        private static final Message HEARTBEAT = new Message(-1L, null, null);
+
+        private final long version;
+        private final String name;
+        private final String data;
+
+        static Message change(long version, String json) {
+            return new Message(version, CHANGE_EVENT, json);
+        }
+
+        static Message resync(long lastEventId) {
+            return new Message(-1L, RESYNC_EVENT, String.valueOf(lastEventId));
+        }
+
+        SseEmitter.SseEventBuilder toEvent() {
+            if (name == null) {
+                return SseEmitter.event().comment(HEARTBEAT_COMMENT);
+            }
+            SseEmitter.SseEventBuilder event = SseEmitter.event().name(name).data(data);
+            return CHANGE_EVENT.equals(name) ? event.id(String.valueOf(version)) : event;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.musinsa.category.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.musinsa.category.cache.CategoryNode;
+import com.musinsa.category.enums.Gender;
+import com.musinsa.category.repository.CategoryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 카테고리 전체 NDJSON 내보내기
+ * - DB 커서에서 한 행씩 읽어 바로 출력 스트림에 쓰므로 행 수와 무관하게 힙 사용량이 일정
+ * - 엔티티가 아닌 프로젝션으로 읽어 영속성 컨텍스트에도 쌓이지 않음
+ * - 응답을 다 보낼 때까지 트랜잭션(커넥션)을 잡고 있으므로 호출은 관리자 인증을 거친 /export 로 제한
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CategoryExportService {
+
+    private final CategoryRepository categoryRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * NDJSON 으로 내보내기 (한 줄에 카테고리 하나, id 순)
+     *
+     * @return 내보낸 행 수
+     */
+    @Transactional(readOnly = true)
+    public long exportCategories(OutputStream output, boolean includeInactive, Gender gender) throws IOException {
+        // 행마다 flush 하지 않고 생성기 버퍼가 찰 때만 내보냄
+        ObjectWriter writer = objectMapper.writerFor(CategoryNode.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        long count = 0;
+        try (Stream<CategoryNode> nodes = categoryRepository.streamNodes(includeInactive, gender.name());
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(output)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            Iterator<CategoryNode> iterator = nodes.iterator();
+            while (iterator.hasNext()) {
+                writer.writeValue(generator, iterator.next());
+                generator.writeRaw('\n');
+                count++;
+            }
+        }
+        log.info("카테고리 내보내기 완료 - 행 수: {}, includeInactive: {}, gender: {}", count, includeInactive, gender);
+        return count;
+    }
+}
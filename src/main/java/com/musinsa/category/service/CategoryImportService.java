@@ -0,0 +1,416 @@
+package com.musinsa.category.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.musinsa.category.cache.CategoryNode;
+import com.musinsa.category.cache.CategorySnapshotHolder;
+import com.musinsa.category.dto.CategoryImportResponse;
+import com.musinsa.category.entity.Category;
+import com.musinsa.category.entity.CategoryClosure;
+import com.musinsa.category.enums.ChangeType;
+import com.musinsa.category.enums.Gender;
+import com.musinsa.category.enums.ImportFormat;
+import com.musinsa.category.exception.BusinessException;
+import com.musinsa.category.exception.ErrorCode;
+import com.musinsa.category.importer.CategoryImportReader;
+import com.musinsa.category.importer.CategoryImportRecord;
+import com.musinsa.category.importer.CsvCategoryImportReader;
+import com.musinsa.category.importer.NdjsonCategoryImportReader;
+import com.musinsa.category.repository.CategoryBatchRepository;
+import com.musinsa.category.repository.CategoryClosureRepository;
+import com.musinsa.category.repository.CategoryInsertRow;
+import com.musinsa.category.repository.CategoryRepository;
+import com.musinsa.category.search.CategorySearchIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 대용량 카테고리 가져오기 (NDJSON / CSV)
+ * - 파일을 한 행씩 읽어 chunkSize 행마다 별도 트랜잭션으로 커밋 (힙에는 현재 청크만 유지)
+ * - 부모는 externalKey 로 참조: 같은 청크의 앞선 행이거나 이미 커밋된 카테고리 (부모가 자식보다 먼저 나와야 함)
+ * - 이름/깊이/순서 규칙은 CategoryService 와 같고, 규칙을 어긴 행만 건너뛰고 행 번호와 함께 보고
+ * - 스냅샷/검색 색인은 청크마다가 아니라 가져오기가 끝난 뒤 한 번만 다시 만듦
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CategoryImportService {
+
+    public static final int DEFAULT_CHUNK_SIZE = 1000;
+    public static final int MAX_CHUNK_SIZE = 10_000;
+    static final int MAX_REPORTED_ERRORS = 1000;
+    private static final int MAX_EXTERNAL_KEY_LENGTH = 100;
+    private static final int MAX_DESCRIPTION_LENGTH = 500;
+
+    // 형제 집합 키: 루트
+    private static final Object ROOT = new Object();
+
+    private final CategoryRepository categoryRepository;
+    private final CategoryClosureRepository closureRepository;
+    private final CategoryBatchRepository batchRepository;
+    private final CategorySnapshotHolder snapshotHolder;
+    private final CategorySearchIndex searchIndex;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final CategoryChangeService changeService;
+    private final DisplayOrderAllocator displayOrderAllocator;
+
+    /**
+     * 카테고리 가져오기
+     */
+    public CategoryImportResponse importCategories(InputStream input, ImportFormat format, int chunkSize, String adminId) {
+        if (chunkSize < 1 || MAX_CHUNK_SIZE < chunkSize) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "chunkSize 는 1~" + MAX_CHUNK_SIZE);
+        }
+        log.info("카테고리 가져오기 시작 - format: {}, chunkSize: {}, adminId: {}", format, chunkSize, adminId);
+
+        long startedAt = System.currentTimeMillis();
+        ImportProgress progress = new ImportProgress();
+        List<CategoryImportRecord> chunk = new ArrayList<>(chunkSize);
+        try (CategoryImportReader reader = openReader(input, format)) {
+            CategoryImportRecord record;
+            while ((record = reader.next()) != null) {
+                progress.totalRows++;
+                if (record.isRejected()) {
+                    progress.fail(record);
+                    continue;
+                }
+                chunk.add(record);
+                if (chunk.size() == chunkSize) {
+                    importChunk(chunk, adminId, progress);
+                    chunk.clear();
+                }
+            }
+        } catch (IOException e) {
+            // 이미 커밋한 청크는 유지하고 남은 행은 읽지 않음
+            progress.abortedReason = "파일을 더 읽을 수 없습니다: " + e.getMessage();
+            log.warn("카테고리 가져오기 중단 - 읽은 행: {}, 사유: {}", progress.totalRows, e.getMessage());
+        }
+        if (!chunk.isEmpty()) {
+            importChunk(chunk, adminId, progress);
+        }
+
+        if (0 < progress.importedRows) {
+            snapshotHolder.refresh();
+            searchIndex.rebuild();
+            displayOrderAllocator.invalidateAll();
+        }
+
+        long elapsed = System.currentTimeMillis() - startedAt;
+        log.info("카테고리 가져오기 완료 - 전체: {}, 성공: {}, 실패: {}, 청크: {}, {}ms, adminId: {}",
+                progress.totalRows, progress.importedRows, progress.failedRows, progress.chunkCount, elapsed, adminId);
+        return progress.toResponse(elapsed);
+    }
+
+    private CategoryImportReader openReader(InputStream input, ImportFormat format) throws IOException {
+        return format == ImportFormat.CSV
+                ? new CsvCategoryImportReader(input)
+                : new NdjsonCategoryImportReader(input, objectMapper);
+    }
+
+    /**
+     * 한 청크를 한 트랜잭션으로 검증/저장 (DB 오류 시 청크 전체 롤백 후 실패로 보고)
+     */
+    private void importChunk(List<CategoryImportRecord> records, String adminId, ImportProgress progress) {
+        int imported;
+        try {
+            Integer inserted = transactionTemplate.execute(status -> insertChunk(records, adminId));
+            imported = inserted != null ? inserted : 0;
+        } catch (DataAccessException e) {
+            log.warn("카테고리 가져오기 청크 롤백 - 행: {}~{}, 사유: {}",
+                    records.get(0).getLine(), records.get(records.size() - 1).getLine(), e.getMostSpecificCause().getMessage());
+            for (CategoryImportRecord record : records) {
+                if (!record.isRejected()) {
+                    record.reject(ErrorCode.INTERNAL_SERVER_ERROR.getCode(), "청크 저장 실패로 롤백되었습니다");
+                }
+            }
+            imported = 0;
+        }
+
+        for (CategoryImportRecord record : records) {
+            if (record.isRejected()) {
+                progress.fail(record);
+            }
+        }
+        progress.importedRows += imported;
+        progress.chunkCount++;
+        log.info("카테고리 가져오기 진행 - 청크: {}, 읽은 행: {}, 성공: {}, 실패: {}",
+                progress.chunkCount, progress.totalRows, progress.importedRows, progress.failedRows);
+    }
+
+    private int insertChunk(List<CategoryImportRecord> records, String adminId) {
+        // 청크에서 참조하는 외부 키를 한 번에 조회
+        Set<String> keys = new HashSet<>();
+        for (CategoryImportRecord record : records) {
+            addIfPresent(keys, record.getExternalKey());
+            addIfPresent(keys, record.getParentKey());
+        }
+        Map<String, Category> existing = keys.isEmpty() ? Collections.emptyMap()
+                : categoryRepository.findByExternalKeyIn(keys).stream()
+                        .collect(Collectors.toMap(Category::getExternalKey, Function.identity()));
+
+        Map<Object, Siblings> siblings = loadExistingSiblings(records, existing);
+        Map<String, CategoryInsertRow> planned = new HashMap<>(records.size() * 2);
+        Set<String> rejectedKeys = new HashSet<>();
+        List<List<CategoryInsertRow>> levels = new ArrayList<>();
+        Set<Long> anchorParentIds = new HashSet<>();
+
+        for (CategoryImportRecord record : records) {
+            CategoryInsertRow row = plan(record, existing, planned, rejectedKeys, siblings);
+            if (row == null) {
+                if (StringUtils.hasText(record.getExternalKey())) {
+                    rejectedKeys.add(record.getExternalKey().trim());
+                }
+                continue;
+            }
+            planned.put(row.getExternalKey(), row);
+            levelOf(levels, row).add(row);
+            if (row.getParent() == null && row.getParentId() != null) {
+                anchorParentIds.add(row.getParentId());
+            }
+        }
+        if (planned.isEmpty()) {
+            return 0;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<CategoryInsertRow> created = new ArrayList<>(planned.size());
+        for (List<CategoryInsertRow> level : levels) {
+            batchRepository.insertLevel(level, adminId, now);
+            created.addAll(level);
+        }
+        batchRepository.updatePaths(created);
+        Map<Long, List<CategoryClosure>> anchors = anchorParentIds.isEmpty() ? Collections.emptyMap()
+                : closureRepository.findByDescendantIdIn(anchorParentIds).stream()
+                        .collect(Collectors.groupingBy(CategoryClosure::getDescendantId));
+        batchRepository.insertClosures(created, anchors);
+        changeService.record(ChangeType.CREATED, created.stream()
+                .map(CategoryInsertRow::getId)
+                .collect(Collectors.toList()));
+        return created.size();
+    }
+
+    /**
+     * 청크가 붙을 기존 부모(루트 포함)의 하위 이름/순서를 미리 읽어 둠 (비활성 포함)
+     */
+    private Map<Object, Siblings> loadExistingSiblings(List<CategoryImportRecord> records, Map<String, Category> existing) {
+        Set<Long> parentIds = new HashSet<>();
+        boolean rootReferenced = false;
+        for (CategoryImportRecord record : records) {
+            if (!StringUtils.hasText(record.getParentKey())) {
+                rootReferenced = true;
+                continue;
+            }
+            Category parent = existing.get(record.getParentKey().trim());
+            if (parent != null) {
+                parentIds.add(parent.getId());
+            }
+        }
+
+        Map<Object, Siblings> siblings = new HashMap<>();
+        List<CategoryNode> nodes = new ArrayList<>();
+        if (!parentIds.isEmpty()) {
+            nodes.addAll(categoryRepository.findNodesByParentIdIn(parentIds));
+            parentIds.forEach(parentId -> siblings.put(parentId, new Siblings()));
+        }
+        if (rootReferenced) {
+            nodes.addAll(categoryRepository.findRootNodes());
+            siblings.put(ROOT, new Siblings());
+        }
+        for (CategoryNode node : nodes) {
+            siblings.get(node.getParentId() != null ? node.getParentId() : ROOT)
+                    .add(node.getName(), node.getDisplayOrder(), Boolean.TRUE.equals(node.getIsActive()));
+        }
+        return siblings;
+    }
+
+    /**
+     * 한 행을 검증해 생성 행으로 변환 (규칙 위반이면 행에 사유를 남기고 null)
+     */
+    private CategoryInsertRow plan(CategoryImportRecord record, Map<String, Category> existing,
+                                   Map<String, CategoryInsertRow> planned, Set<String> rejectedKeys,
+                                   Map<Object, Siblings> siblings) {
+        if (!StringUtils.hasText(record.getExternalKey())) {
+            return reject(record, ErrorCode.CATEGORY_EXTERNAL_KEY_REQUIRED, null);
+        }
+        String externalKey = record.getExternalKey().trim();
+        if (MAX_EXTERNAL_KEY_LENGTH < externalKey.length()) {
+            return reject(record, ErrorCode.INVALID_INPUT_VALUE, "externalKey 는 " + MAX_EXTERNAL_KEY_LENGTH + "자 이하");
+        }
+        if (existing.containsKey(externalKey) || planned.containsKey(externalKey)) {
+            return reject(record, ErrorCode.CATEGORY_EXTERNAL_KEY_DUPLICATE, externalKey);
+        }
+
+        // 부모 해석: 같은 청크의 앞선 행 -> 기존 카테고리
+        CategoryInsertRow parentRow = null;
+        Category parent = null;
+        Object siblingKey = ROOT;
+        int depth = 0;
+        if (StringUtils.hasText(record.getParentKey())) {
+            String parentKey = record.getParentKey().trim();
+            parentRow = planned.get(parentKey);
+            parent = parentRow == null ? existing.get(parentKey) : null;
+            if (parentRow != null) {
+                siblingKey = parentRow;
+                depth = parentRow.getDepth() + 1;
+            } else if (parent != null) {
+                if (!Boolean.TRUE.equals(parent.getIsActive())) {
+                    return reject(record, ErrorCode.CATEGORY_INACTIVE_PARENT, parentKey);
+                }
+                siblingKey = parent.getId();
+                depth = parent.getDepth() + 1;
+            } else if (rejectedKeys.contains(parentKey)) {
+                return reject(record, ErrorCode.CATEGORY_PARENT_NOT_FOUND, "부모 행(" + parentKey + ")이 실패해 함께 건너뜁니다");
+            } else {
+                return reject(record, ErrorCode.CATEGORY_PARENT_NOT_FOUND,
+                        "parentKey " + parentKey + " (부모 행은 자식보다 먼저 나와야 합니다)");
+            }
+        }
+        if (CategoryService.MAX_CATEGORY_DEPTH < depth) {
+            return reject(record, ErrorCode.CATEGORY_DEPTH_EXCEEDED, "최대 깊이 : " + CategoryService.MAX_CATEGORY_DEPTH);
+        }
+
+        if (!StringUtils.hasText(record.getName())) {
+            return reject(record, ErrorCode.CATEGORY_NAME_REQUIRED, null);
+        }
+        String name = record.getName().trim();
+        if (CategoryService.MAX_CATEGORY_NAME_LENGTH < name.length()) {
+            return reject(record, ErrorCode.CATEGORY_NAME_TOO_LONG, null);
+        }
+        String description = StringUtils.hasText(record.getDescription()) ? record.getDescription() : null;
+        if (description != null && MAX_DESCRIPTION_LENGTH < description.length()) {
+            return reject(record, ErrorCode.INVALID_INPUT_VALUE, "설명은 " + MAX_DESCRIPTION_LENGTH + "자를 초과할 수 없습니다");
+        }
+
+        Gender gender = Gender.A;
+        if (StringUtils.hasText(record.getGender())) {
+            try {
+                gender = Gender.valueOf(record.getGender().trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                return reject(record, ErrorCode.INVALID_INPUT_VALUE, "gender 는 A, M, F 중 하나");
+            }
+        }
+
+        Integer displayOrder = null;
+        if (StringUtils.hasText(record.getDisplayOrder())) {
+            try {
+                displayOrder = Integer.valueOf(record.getDisplayOrder().trim());
+            } catch (NumberFormatException e) {
+                return reject(record, ErrorCode.INVALID_DISPLAY_ORDER, record.getDisplayOrder());
+            }
+            if (displayOrder < CategoryService.MIN_DISPLAY_ORDER) {
+                return reject(record, ErrorCode.INVALID_DISPLAY_ORDER, String.valueOf(displayOrder));
+            }
+        }
+
+        Siblings siblingSet = siblings.computeIfAbsent(siblingKey, key -> new Siblings());
+        if (siblingSet.activeNames.contains(name)) {
+            return reject(record, ErrorCode.CATEGORY_NAME_DUPLICATE, name);
+        }
+        if (displayOrder != null && siblingSet.orders.contains(displayOrder)) {
+            return reject(record, ErrorCode.DISPLAY_ORDER_DUPLICATE, "순서 " + displayOrder);
+        }
+        if (displayOrder == null) {
+            displayOrder = siblingSet.maxOrder + 1;
+        }
+        siblingSet.add(name, displayOrder, true);
+
+        return CategoryInsertRow.builder()
+                .parent(parentRow)
+                .parentId(parent != null ? parent.getId() : null)
+                .parentPath(parent != null ? parent.getPath() : null)
+                .name(name)
+                .description(description)
+                .gender(gender)
+                .displayOrder(displayOrder)
+                .depth(depth)
+                .externalKey(externalKey)
+                .build();
+    }
+
+    private CategoryInsertRow reject(CategoryImportRecord record, ErrorCode errorCode, String detail) {
+        record.reject(errorCode.getCode(), detail == null ? errorCode.getMessage() : errorCode.getMessage() + " " + detail);
+        return null;
+    }
+
+    private static void addIfPresent(Set<String> keys, String key) {
+        if (StringUtils.hasText(key)) {
+            keys.add(key.trim());
+        }
+    }
+
+    private List<CategoryInsertRow> levelOf(List<List<CategoryInsertRow>> levels, CategoryInsertRow row) {
+        int level = 0;
+        for (CategoryInsertRow ancestor = row.getParent(); ancestor != null; ancestor = ancestor.getParent()) {
+            level++;
+        }
+        while (levels.size() <= level) {
+            levels.add(new ArrayList<>());
+        }
+        return levels.get(level);
+    }
+
+    /**
+     * 같은 부모 아래 이미 쓰인 이름(활성)과 순서(비활성 포함)
+     */
+    private static class Siblings {
+        private final Set<String> activeNames = new HashSet<>();
+        private final Set<Integer> orders = new HashSet<>();
+        private int maxOrder;
+
+        void add(String name, int displayOrder, boolean active) {
+            if (active) {
+                activeNames.add(name);
+            }
+            orders.add(displayOrder);
+            maxOrder = Math.max(maxOrder, displayOrder);
+        }
+    }
+
+    /**
+     * 진행 상황 집계 (실패 상세는 MAX_REPORTED_ERRORS 건까지만 보관)
+     */
+    private static class ImportProgress {
+        private long totalRows;
+        private long importedRows;
+        private long failedRows;
+        private int chunkCount;
+        private String abortedReason;
+        private final List<CategoryImportResponse.Error> errors = new ArrayList<>();
+
+        void fail(CategoryImportRecord record) {
+            failedRows++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(CategoryImportResponse.Error.builder()
+                        .line(record.getLine())
+                        .externalKey(record.getExternalKey())
+                        .code(record.getErrorCode())
+                        .message(record.getError())
+                        .build());
+            }
+        }
+
+        CategoryImportResponse toResponse(long elapsedMillis) {
+            return CategoryImportResponse.builder()
+                    .totalRows(totalRows)
+                    .importedRows(importedRows)
+                    .failedRows(failedRows)
+                    .chunkCount(chunkCount)
+                    .elapsedMillis(elapsedMillis)
+                    .errors(errors)
+                    .errorsTruncated(errors.size() < failedRows)
+                    .abortedReason(abortedReason)
+                    .build();
+        }
+    }
+}
@@ -1,38 +1,131 @@
 package com.musinsa.category.service;
 
+import com.musinsa.category.cache.CategoryCursor;
+import com.musinsa.category.cache.CategoryNode;
+import com.musinsa.category.cache.CategorySnapshot;
+import com.musinsa.category.cache.CategorySnapshotHolder;
+import com.musinsa.category.dto.AutocompleteResponse;
+import com.musinsa.category.dto.CategoryBatchRequest;
+import com.musinsa.category.dto.CategoryBatchResponse;
+import com.musinsa.category.dto.CategoryOrderResponse;
+import com.musinsa.category.dto.CategoryPageResponse;
 import com.musinsa.category.dto.CategoryRequest;
 import com.musinsa.category.dto.CategoryResponse;
 import com.musinsa.category.entity.Category;
+import com.musinsa.category.enums.ChangeType;
 import com.musinsa.category.enums.Gender;
+import com.musinsa.category.enums.SearchMode;
+import com.musinsa.category.event.CategoryChangedEvent;
 import com.musinsa.category.exception.BusinessException;
 import com.musinsa.category.exception.ErrorCode;
+import com.musinsa.category.repository.CategoryBatchRepository;
+import com.musinsa.category.repository.CategoryClosureRepository;
+import com.musinsa.category.repository.CategoryInsertRow;
 import com.musinsa.category.repository.CategoryRepository;
-import lombok.RequiredArgsConstructor;
+import com.musinsa.category.search.CategoryAutocompleteIndex;
+import com.musinsa.category.search.CategorySearchIndex;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.StringUtils;
 
+import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
 
+/**
+ * 카테고리 서비스
+ * - 모든 public 메서드의 실행 시간은 category.service 타이머(class, method, exception 태그)로 기록
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
+@Timed(value = "category.service", histogram = true)
 public class CategoryService {
 
     private final CategoryRepository categoryRepository;
-
-    private static final int MAX_CATEGORY_DEPTH = 4;
-    private static final int MAX_CATEGORY_NAME_LENGTH = 100;
+    private final CategoryClosureRepository closureRepository;
+    private final CategoryBatchRepository batchRepository;
+    private final CategorySnapshotHolder snapshotHolder;
+    private final CategorySearchIndex searchIndex;
+    private final CategoryAutocompleteIndex autocompleteIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CategoryChangeService changeService;
+    private final DisplayOrderAllocator displayOrderAllocator;
+    private final TransactionTemplate transactionTemplate;
+    // 트리 구성 구간 타이머 (스냅샷 조회/루트 결정을 뺀 순수 조립 시간)
+    private final Timer treeBuildTimer;
+
+    // 가져오기(CategoryImportService)도 같은 규칙을 쓰도록 패키지 범위로 공개
+    static final int MAX_CATEGORY_DEPTH = 4;
+    static final int MAX_CATEGORY_NAME_LENGTH = 100;
     private static final int MIN_SEARCH_KEYWORD_LENGTH = 2;
-    private static final int MIN_DISPLAY_ORDER = 1;
+    private static final int MAX_SEARCH_LIMIT = 100;
+    // offset + limit 상한 (색인은 이만큼의 상위 결과를 힙에 모아 잘라내므로 깊은 페이지를 제한)
+    private static final int MAX_SEARCH_WINDOW = 10_000;
+    static final int MIN_DISPLAY_ORDER = 1;
+    private static final int MAX_CREATE_ATTEMPTS = 3;
+    private static final String DISPLAY_ORDER_CONSTRAINT = "uk_category_parent_display_order";
+    private static final int MAX_BATCH_SIZE = 10_000;
+    public static final int DEFAULT_PAGE_SIZE = 100;
+    private static final int MAX_PAGE_SIZE = 1000;
+
+    public CategoryService(CategoryRepository categoryRepository,
+                           CategoryClosureRepository closureRepository,
+                           CategoryBatchRepository batchRepository,
+                           CategorySnapshotHolder snapshotHolder,
+                           CategorySearchIndex searchIndex,
+                           CategoryAutocompleteIndex autocompleteIndex,
+                           ApplicationEventPublisher eventPublisher,
+                           CategoryChangeService changeService,
+                           DisplayOrderAllocator displayOrderAllocator,
+                           TransactionTemplate transactionTemplate,
+                           MeterRegistry meterRegistry) {
+        this.categoryRepository = categoryRepository;
+        this.closureRepository = closureRepository;
+        this.batchRepository = batchRepository;
+        this.snapshotHolder = snapshotHolder;
+        this.searchIndex = searchIndex;
+        this.autocompleteIndex = autocompleteIndex;
+        this.eventPublisher = eventPublisher;
+        this.changeService = changeService;
+        this.displayOrderAllocator = displayOrderAllocator;
+        this.transactionTemplate = transactionTemplate;
+        this.treeBuildTimer = Timer.builder("category.tree.build")
+                .description("카테고리 트리 조립 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
 
     /**
      * 카테고리 생성
+     * - 자동 할당한 displayOrder 가 다른 경로(일괄 생성 등)로 먼저 쓰여 유니크 제약에 걸리면
+     *   카운터를 DB 기준으로 다시 읽고 새 트랜잭션으로 재시도 (그래서 @Transactional 대신 TransactionTemplate 사용)
      */
-    @Transactional
     public CategoryResponse createCategory(CategoryRequest request, String adminId) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> create(request, adminId));
+            } catch (DataIntegrityViolationException e) {
+                if (!isDisplayOrderConflict(e)) {
+                    throw e;
+                }
+                if (request.getDisplayOrder() != null || MAX_CREATE_ATTEMPTS <= attempt) {
+                    throw new BusinessException(ErrorCode.DISPLAY_ORDER_DUPLICATE);
+                }
+                displayOrderAllocator.invalidate(request.getParentId());
+                log.warn("displayOrder 충돌로 카테고리 생성 재시도 - parentId: {}, 시도: {}", request.getParentId(), attempt);
+            }
+        }
+    }
+
+    private CategoryResponse create(CategoryRequest request, String adminId) {
         log.info("카테고리 생성 요청 - name: {}, parentId: {}, adminId: {}, gender: {}",
                 request.getName(), request.getParentId(), adminId, request.getGender());
 
@@ -76,6 +169,9 @@ public class CategoryService {
             savedCategory.setParent(parent);
         }
         savedCategory.updatePathAndDepth();
+        closureRepository.insertNode(savedCategory.getId(), parent != null ? parent.getId() : null);
+        changeService.record(ChangeType.CREATED, savedCategory.getId());
+        eventPublisher.publishEvent(new CategoryChangedEvent(savedCategory.getId()));
 
         log.info("카테고리 생성 완료 - ID: {}, Name: '{}', Path: {}, DisplayOrder: {}, adminId: {}",
                 savedCategory.getId(), savedCategory.getName(), savedCategory.getPath(),
@@ -84,6 +180,61 @@ public class CategoryService {
         return CategoryResponse.from(savedCategory);
     }
 
+    /**
+     * 카테고리 트리 일괄 생성
+     * - 트리 전체를 메모리에서 먼저 검증 (이름, 깊이, 같은 부모 아래 이름/순서 충돌)
+     * - path/depth 를 미리 계산해 depth 별 JDBC 배치 INSERT (노드 수와 무관하게 SQL 배치 횟수 고정)
+     */
+    @Transactional
+    public CategoryBatchResponse createCategoryTree(CategoryBatchRequest request, String adminId) {
+        Long parentId = request.getParentId();
+        log.info("카테고리 일괄 생성 요청 - parentId: {}, adminId: {}", parentId, adminId);
+
+        Category parent = parentId != null ? getParentById(parentId) : null;
+        int baseDepth = parent != null ? parent.getDepth() + 1 : 0;
+
+        // depth 별로 모아 둔 생성 행 (levels.get(0) 이 요청 최상위)
+        List<List<CategoryInsertRow>> levels = new ArrayList<>();
+        List<Category> existingSiblings = categoryRepository.findAllByParentId(parentId);
+        Set<String> takenNames = existingSiblings.stream()
+                .filter(Category::getIsActive)
+                .map(Category::getName)
+                .collect(Collectors.toSet());
+        Set<Integer> takenOrders = existingSiblings.stream()
+                .map(Category::getDisplayOrder)
+                .collect(Collectors.toSet());
+        planSiblings(request.getCategories(), null, parentId, parent != null ? parent.getPath() : null,
+                baseDepth, takenNames, takenOrders, "", levels);
+
+        int total = levels.stream().mapToInt(List::size).sum();
+        if (MAX_BATCH_SIZE < total) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "한 번에 생성할 수 있는 카테고리는 최대 " + MAX_BATCH_SIZE + "개");
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<CategoryInsertRow> created = new ArrayList<>(total);
+        for (List<CategoryInsertRow> level : levels) {
+            batchRepository.insertLevel(level, adminId, now);
+            created.addAll(level);
+        }
+        batchRepository.updatePaths(created);
+        batchRepository.insertClosures(created, parentId != null
+                ? Map.of(parentId, closureRepository.findByDescendantId(parentId))
+                : Collections.emptyMap());
+        displayOrderAllocator.invalidate(parentId);
+
+        Map<Long, String> addedNames = new LinkedHashMap<>(total * 2);
+        created.forEach(row -> addedNames.put(row.getId(), row.getName()));
+        changeService.record(ChangeType.CREATED, addedNames.keySet());
+        eventPublisher.publishEvent(CategoryChangedEvent.subtreeAdded(parentId, addedNames));
+
+        List<Long> rootIds = levels.get(0).stream()
+                .map(CategoryInsertRow::getId)
+                .collect(Collectors.toList());
+        log.info("카테고리 일괄 생성 완료 - parentId: {}, 생성 수: {}, adminId: {}", parentId, total, adminId);
+        return CategoryBatchResponse.of(total, rootIds);
+    }
+
     /**
      * 카테고리 수정
      */
@@ -113,42 +264,123 @@ public class CategoryService {
         category.updateAuditInfo(adminId);
 
         if (newParent!=null) {
-            category.setParent(newParent);
-            category.updatePathAndDepth();
+            category = moveSubtree(category, newParent);
+            // 하위 카테고리도 path/depth 가 바뀌므로 함께 기록
+            changeService.record(ChangeType.MOVED, closureRepository.findSubtreeIds(categoryId));
+        } else {
+            changeService.record(ChangeType.UPDATED, categoryId);
         }
+        eventPublisher.publishEvent(new CategoryChangedEvent(categoryId));
 
         log.info("카테고리 수정 완료 - ID: {}, adminId: {}", categoryId, adminId);
         return CategoryResponse.from(category);
     }
 
+    /**
+     * 형제 카테고리 순서 일괄 변경 (루트면 parentId = null)
+     * - 새 순서를 한 트랜잭션에서 반영하며, 순서가 이미 맞는 형제는 건드리지 않고 옮긴 형제만 빈 번호로 이동
+     * - 빈 번호가 모자랄 때만 형제 전체를 간격을 두고 다시 매김 (SiblingOrderPlanner)
+     */
+    @Transactional
+    public CategoryOrderResponse reorderChildren(Long parentId, List<Long> categoryIds, String adminId) {
+        log.info("카테고리 순서 변경 요청 - parentId: {}, 수: {}, adminId: {}", parentId, categoryIds.size(), adminId);
+        if (parentId != null) {
+            getParentById(parentId);
+        }
+
+        Map<Long, Integer> activeKeys = new HashMap<>();
+        Map<Long, Integer> pinnedKeys = new HashMap<>();
+        // 영속성 컨텍스트를 거치지 않는 노드 조회 (JDBC 로 바꾼 번호를 같은 트랜잭션에서도 그대로 읽음)
+        List<CategoryNode> siblings = parentId == null
+                ? categoryRepository.findRootNodes()
+                : categoryRepository.findNodesByParentIdIn(Collections.singletonList(parentId));
+        for (CategoryNode sibling : siblings) {
+            (Boolean.TRUE.equals(sibling.getIsActive()) ? activeKeys : pinnedKeys).put(sibling.getId(), sibling.getDisplayOrder());
+        }
+        validateSiblingOrder(categoryIds, activeKeys.keySet());
+
+        SiblingOrderPlanner.Plan plan = SiblingOrderPlanner.plan(categoryIds, activeKeys, pinnedKeys);
+        Map<Long, Integer> changes = plan.getChanges();
+        if (!changes.isEmpty()) {
+            try {
+                batchRepository.updateDisplayOrders(changes, adminId, LocalDateTime.now());
+            } catch (DataIntegrityViolationException e) {
+                // 동시에 같은 부모의 순서가 바뀌어 계산한 빈 번호가 이미 쓰인 경우
+                throw new BusinessException(ErrorCode.DISPLAY_ORDER_DUPLICATE, "다른 순서 변경과 겹쳤습니다. 다시 시도해주세요");
+            }
+            displayOrderAllocator.invalidate(parentId);
+            changeService.record(ChangeType.UPDATED, changes.keySet());
+            eventPublisher.publishEvent(new CategoryChangedEvent(parentId));
+        }
+
+        log.info("카테고리 순서 변경 완료 - parentId: {}, 변경 수: {}, 재배치: {}, adminId: {}",
+                parentId, changes.size(), plan.isRebalanced(), adminId);
+        return CategoryOrderResponse.of(parentId, changes.size(), plan.isRebalanced());
+    }
+
     /**
      * 카테고리 삭제 (비활성화)
+     * - cascade 면 하위 트리 전체를 일괄 UPDATE 로 비활성화 (하위 트리 크기와 무관하게 SQL 횟수 고정)
+     *
+     * @return 비활성화된 카테고리 수
      */
     @Transactional
-    public void deleteCategory(Long categoryId, String adminId) {
-        log.info("카테고리 삭제 요청 - ID: {}, adminId: {}", categoryId, adminId);
+    public int deleteCategory(Long categoryId, String adminId, boolean cascade) {
+        log.info("카테고리 삭제 요청 - ID: {}, cascade: {}, adminId: {}", categoryId, cascade, adminId);
 
         Category category = getActiveCategoryById(categoryId);
+        if (cascade) {
+            List<Long> subtreeIds = closureRepository.findSubtreeIds(categoryId);
+            int affected = categoryRepository.deactivateSubtree(categoryId, adminId, LocalDateTime.now());
+            changeService.record(ChangeType.DEACTIVATED, subtreeIds);
+            eventPublisher.publishEvent(CategoryChangedEvent.subtreeRemoved(categoryId, subtreeIds));
+
+            log.info("카테고리 하위 트리 삭제 완료 - ID: {}, 비활성화 수: {}, adminId: {}", categoryId, affected, adminId);
+            return affected;
+        }
+
         validateHasNoChildren(categoryId);
 
         category.deactivate();
         category.updateAuditInfo(adminId);
+        changeService.record(ChangeType.DEACTIVATED, categoryId);
+        eventPublisher.publishEvent(new CategoryChangedEvent(categoryId));
 
         log.info("카테고리 삭제 완료 - ID: {}, adminId: {}", categoryId, adminId);
+        return 1;
     }
 
     /**
      * 카테고리 삭제 (물리적 삭제)
+     * - cascade 면 하위 트리 전체(비활성 포함)를 일괄 DELETE (하위 트리 크기와 무관하게 SQL 횟수 고정)
+     *
+     * @return 삭제된 카테고리 수
      */
     @Transactional
-    public void realDeleteCategory(Long categoryId, String adminId) {
-        log.warn("카테고리 물리적 삭제 요청 - ID: {}, adminId: {}", categoryId, adminId);
+    public int realDeleteCategory(Long categoryId, String adminId, boolean cascade) {
+        log.warn("카테고리 물리적 삭제 요청 - ID: {}, cascade: {}, adminId: {}", categoryId, cascade, adminId);
 
         Category category = getActiveCategoryById(categoryId);
+        if (cascade) {
+            List<Long> subtreeIds = closureRepository.findSubtreeIds(categoryId);
+            categoryRepository.detachSubtreeParents(categoryId);
+            int affected = categoryRepository.deleteSubtree(categoryId);
+            closureRepository.deleteSubtree(categoryId);
+            changeService.record(ChangeType.DELETED, subtreeIds);
+            eventPublisher.publishEvent(CategoryChangedEvent.subtreeRemoved(categoryId, subtreeIds));
+
+            log.warn("카테고리 하위 트리 물리적 삭제 완료 - ID: {}, 삭제 수: {}, adminId: {}", categoryId, affected, adminId);
+            return affected;
+        }
+
         validateHasNoChildren(categoryId);
 
         categoryRepository.delete(category);
+        closureRepository.deleteByDescendantId(categoryId);
+        changeService.record(ChangeType.DELETED, categoryId);
+        eventPublisher.publishEvent(new CategoryChangedEvent(categoryId));
         log.warn("카테고리 물리적 삭제 완료 - ID: {}, adminId: {}", categoryId, adminId);
+        return 1;
     }
 
     /**
@@ -172,6 +404,8 @@ public class CategoryService {
 
         category.activate();
         category.updateAuditInfo(adminId);
+        changeService.record(ChangeType.ACTIVATED, categoryId);
+        eventPublisher.publishEvent(new CategoryChangedEvent(categoryId));
 
         log.info("카테고리 활성화 완료 - ID: {}, adminId: {}", categoryId, adminId);
     }
@@ -179,28 +413,28 @@ public class CategoryService {
     /**
      * 카테고리 단일 조회
      */
-    @Transactional(readOnly = true)
     public CategoryResponse getCategoryById(Long categoryId) {
         log.debug("카테고리 조회 - ID: {}", categoryId);
-        Category category = getActiveCategoryById(categoryId);
-        return CategoryResponse.from(category);
+        CategoryNode node = snapshotHolder.current().find(categoryId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.CATEGORY_NOT_FOUND));
+        return CategoryResponse.from(node);
     }
 
     /**
      * 특정 카테고리의 직계 하위 카테고리 조회
      */
-    @Transactional(readOnly = true)
     public List<CategoryResponse> getDirectChildren(Long parentId) {
         log.debug("직계 하위 카테고리 조회 - 부모 ID: {}", parentId);
 
-        List<Category> children;
+        CategorySnapshot snapshot = snapshotHolder.current();
+        List<CategoryNode> children;
         if (parentId == null) {
             // 루트 카테고리들 조회
-            children = categoryRepository.findRootCategories(null);
+            children = snapshot.getRoots();
         } else {
             // 부모 존재 여부 확인 후, 하위 카테고리들 조회
-            getParentById(parentId);
-            children = categoryRepository.findChildrenByParentId(parentId);
+            getParentNodeById(snapshot, parentId);
+            children = snapshot.getChildren(parentId);
         }
 
         return children.stream()
@@ -211,64 +445,38 @@ public class CategoryService {
     /**
      * 카테고리 트리 구조 조회 (전체 또는 특정 카테고리 기준)
      */
-    @Transactional(readOnly = true)
     public List<CategoryResponse> getCategoryTree(Long categoryId, Gender gender) {
         log.debug("카테고리 트리 조회 - ID: {}, Gender: {}", categoryId, gender);
 
-        List<Category> categories;
+        CategorySnapshot snapshot = snapshotHolder.current();
 
-        // 1. 카테고리 조회
+        // 1. 루트 결정: 특정 ID 조회 시 해당 카테고리(성별 무관), 전체 조회 시 성별에 맞는 루트들
+        List<CategoryNode> roots;
         if (categoryId == null) {
-            categories = categoryRepository.findAllActiveWithParent(gender.name());
+            roots = filterByGender(snapshot.getRoots(), gender);
         } else {
-            Category rootCategory = getActiveCategoryById(categoryId);
-            categories = categoryRepository.findDescendants(rootCategory.getPath(),gender.name());
-            categories.add(0, rootCategory); // 본인도 포함
-        }
-
-        if (categories.isEmpty()) {
-            return Collections.emptyList();
-        }
-
-        // 2. ID를 키로 하는 CategoryResponse Map 생성
-        Map<Long, CategoryResponse> categoryMap = new HashMap<>();
-        for (Category category : categories) {
-            CategoryResponse response = CategoryResponse.from(category);
-            categoryMap.put(category.getId(), response);
+            CategoryNode rootNode = snapshot.find(categoryId)
+                    .orElseThrow(() -> new BusinessException(ErrorCode.CATEGORY_NOT_FOUND));
+            roots = Collections.singletonList(rootNode);
         }
 
-        // 3. 트리 구조 생성
-        List<CategoryResponse> rootCategories = new ArrayList<>();
-        for (Category category : categories) {
-            CategoryResponse response = categoryMap.get(category.getId());
-
-            // 루트 여부 판단: 특정 ID 조회 시 or 전체 조회
-            boolean isRoot = (category.getId().equals(categoryId))
-                    || (categoryId == null && category.getParent() == null);
-            if (isRoot) {
-                rootCategories.add(response);
-            } else if (category.getParent() != null) {
-                // 부모-자식 연결
-                CategoryResponse parent = categoryMap.get(category.getParent().getId());
-                if (parent != null) {
-                    parent.addChild(response);
-                }
+        // 2. 스냅샷의 형제 목록은 이미 displayOrder 순이므로 그대로 내려가며 트리 구성
+        return treeBuildTimer.record(() -> {
+            List<CategoryResponse> tree = new ArrayList<>(roots.size());
+            for (CategoryNode root : roots) {
+                tree.add(buildSubtree(snapshot, root, gender));
             }
-        }
-
-        sortCategoryByDisplayOrder(rootCategories);
-        return rootCategories;
+            return tree;
+        });
     }
 
     /**
      * 루트 카테고리들 조회
      */
-    @Transactional(readOnly = true)
     public List<CategoryResponse> getRootCategories(Gender gender) {
         log.debug("루트 카테고리 조회 - Gender: {}", gender);
 
-        List<Category> rootCategories = categoryRepository.findRootCategories(gender.name());
-        return rootCategories.stream()
+        return filterByGender(snapshotHolder.current().getRoots(), gender).stream()
                 .map(CategoryResponse::from)
                 .collect(Collectors.toList());
     }
@@ -276,33 +484,79 @@ public class CategoryService {
     /**
      * 전체 카테고리 조회 (활성화된 것만)
      */
-    @Transactional(readOnly = true)
     public List<CategoryResponse> getAllCategories(Gender gender) {
         log.debug("전체 카테고리 조회 - Gender: {}", gender);
 
-        List<Category> categories = categoryRepository.findAllActiveOrdered(gender.name());
-        return categories.stream()
+        return filterByGender(snapshotHolder.current().getOrdered(), gender).stream()
                 .map(CategoryResponse::from)
                 .collect(Collectors.toList());
     }
 
     /**
-     * 카테고리 검색 (이름 기반)
+     * 전체 카테고리 페이지 조회 (depth, displayOrder, id 순 키셋 페이지네이션)
+     */
+    public CategoryPageResponse getAllCategoriesPage(Gender gender, String cursor, int size) {
+        log.debug("전체 카테고리 페이지 조회 - Gender: {}, cursor: {}, size: {}", gender, cursor, size);
+        validatePageSize(size);
+
+        CategoryCursor after = StringUtils.hasText(cursor) ? CategoryCursor.decode(cursor) : null;
+        return toPage(snapshotHolder.current().getOrderedAfter(after), gender, size);
+    }
+
+    /**
+     * 직계 하위 카테고리 페이지 조회 (displayOrder, id 순 키셋 페이지네이션)
+     */
+    public CategoryPageResponse getDirectChildrenPage(Long parentId, String cursor, int size) {
+        log.debug("직계 하위 카테고리 페이지 조회 - 부모 ID: {}, cursor: {}, size: {}", parentId, cursor, size);
+        validatePageSize(size);
+
+        CategorySnapshot snapshot = snapshotHolder.current();
+        if (parentId != null) {
+            getParentNodeById(snapshot, parentId);
+        }
+        CategoryCursor after = StringUtils.hasText(cursor) ? CategoryCursor.decode(cursor) : null;
+        return toPage(snapshot.getChildrenAfter(parentId, after), Gender.A, size);
+    }
+
+    /**
+     * 카테고리 검색 (이름 또는 초성 기반, 매칭 품질 순)
      */
-    @Transactional(readOnly = true)
-    public List<CategoryResponse> searchCategories(String keyword) {
-        log.debug("카테고리 검색 - keyword: {}", keyword);
+    public List<CategoryResponse> searchCategories(String keyword, SearchMode mode, int offset, int limit) {
+        log.debug("카테고리 검색 - keyword: {}, mode: {}, offset: {}, limit: {}", keyword, mode, offset, limit);
 
         if (!StringUtils.hasText(keyword) || keyword.trim().length() < MIN_SEARCH_KEYWORD_LENGTH) {
             throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
         }
+        if (offset < 0 || limit < 1 || MAX_SEARCH_LIMIT < limit || MAX_SEARCH_WINDOW - limit < offset) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                    "limit 은 1~" + MAX_SEARCH_LIMIT + ", offset 은 0 이상이고 offset + limit 은 " + MAX_SEARCH_WINDOW + " 이하");
+        }
 
-        List<Category> categories = categoryRepository.searchByName(keyword.trim());
-        return categories.stream()
+        CategorySnapshot snapshot = snapshotHolder.current();
+        List<CategoryNode> results = mode == SearchMode.CHOSUNG
+                ? searchIndex.searchChosung(keyword.trim(), snapshot, offset, limit)
+                : searchIndex.search(keyword.trim(), snapshot, offset, limit);
+        return results.stream()
                 .map(CategoryResponse::from)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 검색창 자동완성 (이름 또는 이름 경로 접두어, 메모리 트라이만 조회)
+     */
+    public List<AutocompleteResponse> autocomplete(String prefix, Gender gender, int limit) {
+        if (!StringUtils.hasText(prefix)) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+        if (limit < 1 || CategoryAutocompleteIndex.MAX_SUGGESTIONS < limit) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "limit 은 1~" + CategoryAutocompleteIndex.MAX_SUGGESTIONS);
+        }
+
+        return autocompleteIndex.suggest(prefix, gender, limit).stream()
+                .map(AutocompleteResponse::from)
+                .collect(Collectors.toList());
+    }
+
     private void validateNameLength(String name) {
         String trimmedName = name.trim();
         if (MAX_CATEGORY_NAME_LENGTH < trimmedName.length()) {
@@ -337,6 +591,13 @@ public class CategoryService {
         return parentOptional.get();
     }
 
+    private CategoryNode getParentNodeById(CategorySnapshot snapshot, Long parentId) {
+        return snapshot.find(parentId).orElseThrow(() -> {
+            String errMessage = String.format("입력한 parentId %d에 해당하는 부모 카테고리가 없습니다.", parentId);
+            return new BusinessException(ErrorCode.CATEGORY_PARENT_NOT_FOUND, errMessage);
+        });
+    }
+
     private Category getNewParent(CategoryRequest request, Category category, Long currentParentId){
         Long requestParentId = request.getParentId();
         if (requestParentId != null && !requestParentId.equals(currentParentId)) {
@@ -345,8 +606,8 @@ public class CategoryService {
             if (newParent.equals(category)) {
                 throw new BusinessException(ErrorCode.CATEGORY_SELF_PARENT);
             }
-            // 모든 하위를 부모로 설정하는 경우 방지 (직계 + 후손 체크)
-            if (newParent.isDescendantOf(category)) {
+            // 모든 하위를 부모로 설정하는 경우 방지 (직계 + 후손 체크, 클로저 PK 조회)
+            if (closureRepository.existsByAncestorIdAndDescendantId(category.getId(), newParent.getId())) {
                 throw new BusinessException(ErrorCode.CATEGORY_INVALID_PARENT);
             }
             return newParent;
@@ -354,12 +615,88 @@ public class CategoryService {
         return null;
     }
 
-    private Integer getNextDisplayOrder(Long parentId, Gender gender) {
-        List<Category> siblings = (parentId == null)
-                ? categoryRepository.findRootCategories(gender.name())        // 루트 레벨의 다음 순서
-                : categoryRepository.findChildrenByParentId(parentId);  // 특정 부모의 하위 레벨의 다음 순서
-        return siblings.isEmpty() ? 1 :
-                siblings.stream().mapToInt(Category::getDisplayOrder).max().orElse(0) + 1;
+    /**
+     * 하위 트리 이동 (path/depth/클로저 모두 일괄 SQL 로 갱신, 하위 트리 크기와 무관하게 SQL 횟수 고정)
+     */
+    private Category moveSubtree(Category category, Category newParent) {
+        Long categoryId = category.getId();
+        String oldPath = category.getPath();
+        String newPath = newParent.getPath() + "/" + categoryId;
+        int depthDelta = newParent.getDepth() + 1 - category.getDepth();
+
+        category.setParent(newParent);
+        closureRepository.moveSubtree(categoryId, newParent.getId());
+        categoryRepository.moveSubtreePath(oldPath, oldPath.length(), newPath, depthDelta);
+
+        // 일괄 UPDATE 후 영속성 컨텍스트가 비워지므로 응답용으로 다시 조회
+        return getActiveCategoryById(categoryId);
+    }
+
+    /**
+     * 같은 부모 아래 형제들을 검증하고 생성 행으로 변환 (하위는 재귀, 최대 MAX_CATEGORY_DEPTH 단계)
+     */
+    private void planSiblings(List<CategoryBatchRequest.Node> nodes, CategoryInsertRow parentRow, Long parentId,
+                              String parentPath, int depth, Set<String> takenNames, Set<Integer> takenOrders,
+                              String location, List<List<CategoryInsertRow>> levels) {
+        if (nodes == null || nodes.isEmpty()) {
+            return;
+        }
+        if (MAX_CATEGORY_DEPTH < depth) {
+            throw new BusinessException(ErrorCode.CATEGORY_DEPTH_EXCEEDED, "최대 깊이 : " + MAX_CATEGORY_DEPTH + ", 위치: " + location);
+        }
+
+        // 지정한 순서 먼저 검증하고, 나머지는 사용 중인 최대값 다음부터 자동 할당
+        for (CategoryBatchRequest.Node node : nodes) {
+            Integer displayOrder = node.getDisplayOrder();
+            if (displayOrder == null) {
+                continue;
+            }
+            if (displayOrder < MIN_DISPLAY_ORDER) {
+                throw new BusinessException(ErrorCode.INVALID_DISPLAY_ORDER, "위치: " + location + node.getName());
+            }
+            if (!takenOrders.add(displayOrder)) {
+                throw new BusinessException(ErrorCode.DISPLAY_ORDER_DUPLICATE,
+                        String.format("순서 %d번이 중복됩니다. 위치: %s%s", displayOrder, location, node.getName()));
+            }
+        }
+        int nextOrder = takenOrders.stream().mapToInt(Integer::intValue).max().orElse(0) + 1;
+
+        for (CategoryBatchRequest.Node node : nodes) {
+            if (!StringUtils.hasText(node.getName())) {
+                throw new BusinessException(ErrorCode.CATEGORY_NAME_REQUIRED, "위치: " + location);
+            }
+            String name = node.getName().trim();
+            validateNameLength(name);
+            if (!takenNames.add(name)) {
+                throw new BusinessException(ErrorCode.CATEGORY_NAME_DUPLICATE, "위치: " + location + name);
+            }
+
+            CategoryInsertRow row = CategoryInsertRow.builder()
+                    .parent(parentRow)
+                    .parentId(parentId)
+                    .parentPath(parentPath)
+                    .name(name)
+                    .description(node.getDescription())
+                    .gender(node.getGender())
+                    .displayOrder(node.getDisplayOrder() != null ? node.getDisplayOrder() : nextOrder++)
+                    .depth(depth)
+                    .build();
+            levelOf(levels, parentRow).add(row);
+
+            planSiblings(node.getChildren(), row, null, null, depth + 1, new HashSet<>(), new HashSet<>(),
+                    location + name + " > ", levels);
+        }
+    }
+
+    private List<CategoryInsertRow> levelOf(List<List<CategoryInsertRow>> levels, CategoryInsertRow parentRow) {
+        int level = 0;
+        for (CategoryInsertRow ancestor = parentRow; ancestor != null; ancestor = ancestor.getParent()) {
+            level++;
+        }
+        while (levels.size() <= level) {
+            levels.add(new ArrayList<>());
+        }
+        return levels.get(level);
     }
 
     private Integer calculateDisplayOrder(CategoryRequest request, Long parentId) {
@@ -377,27 +714,74 @@ public class CategoryService {
                         displayOrder, conflictInfo);
                 throw new BusinessException(ErrorCode.DISPLAY_ORDER_DUPLICATE, errorMessage);
             }
+            displayOrderAllocator.reserve(parentId, displayOrder);
             return displayOrder;
         }
 
         // displayOrder 설정이 없으면 자동 할당
-        Integer nextOrder = getNextDisplayOrder(parentId, request.getGender());
+        int nextOrder = displayOrderAllocator.next(parentId);
         log.debug("displayOrder 자동 할당 - parentId: {}, 할당된 순서: {}", parentId, nextOrder);
         return nextOrder;
     }
 
 
-    private void sortCategoryByDisplayOrder(List<CategoryResponse> categories) {
-        if (categories == null || categories.isEmpty()) {
-            return;
+    private void validateSiblingOrder(List<Long> categoryIds, Set<Long> activeIds) {
+        Set<Long> requested = new HashSet<>(categoryIds);
+        if (requested.size() != categoryIds.size()) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "중복된 카테고리 ID 가 있습니다");
+        }
+        if (!requested.equals(activeIds)) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                    "하위 카테고리 " + activeIds.size() + "개를 빠짐없이 지정해야 합니다");
+        }
+    }
+
+    private static boolean isDisplayOrderConflict(DataIntegrityViolationException e) {
+        String message = NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+        return message != null && message.toLowerCase(Locale.ROOT).contains(DISPLAY_ORDER_CONSTRAINT);
+    }
+
+    private void validatePageSize(int size) {
+        if (size < 1 || MAX_PAGE_SIZE < size) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "size 는 1~" + MAX_PAGE_SIZE);
+        }
+    }
+
+    /**
+     * 커서 다음 목록에서 조건에 맞는 노드를 size 개까지 담고, 더 있으면 마지막 노드로 다음 커서 생성
+     */
+    private CategoryPageResponse toPage(List<CategoryNode> candidates, Gender gender, int size) {
+        List<CategoryResponse> items = new ArrayList<>(Math.min(size, candidates.size()));
+        CategoryNode last = null;
+        for (CategoryNode node : candidates) {
+            if (!node.matches(gender)) {
+                continue;
+            }
+            if (items.size() == size) {
+                return CategoryPageResponse.of(items, CategoryCursor.of(last).encode());
+            }
+            items.add(CategoryResponse.from(node));
+            last = node;
         }
-        categories.sort(Comparator.comparing(CategoryResponse::getDisplayOrder));
+        return CategoryPageResponse.of(items, null);
+    }
+
+    private List<CategoryNode> filterByGender(List<CategoryNode> nodes, Gender gender) {
+        if (gender == Gender.A) {
+            return nodes;
+        }
+        return nodes.stream()
+                .filter(node -> node.matches(gender))
+                .collect(Collectors.toList());
+    }
 
-        // 하위 카테고리들도 정렬
-        for (CategoryResponse category : categories) {
-            if (category.getChildren() != null && !category.getChildren().isEmpty()) {
-                sortCategoryByDisplayOrder(category.getChildren());
+    private CategoryResponse buildSubtree(CategorySnapshot snapshot, CategoryNode node, Gender gender) {
+        CategoryResponse response = CategoryResponse.from(node);
+        for (CategoryNode child : snapshot.getChildren(node.getId())) {
+            if (child.matches(gender)) {
+                response.addChild(buildSubtree(snapshot, child, gender));
             }
         }
+        return response;
     }
-}
\ No newline at end of file
+}
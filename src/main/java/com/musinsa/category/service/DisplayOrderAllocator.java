@@ -0,0 +1,71 @@
+package com.musinsa.category.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.musinsa.category.repository.CategoryRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 부모별 displayOrder 자동 할당
+ * - 부모마다 메모리 카운터를 두고 원자적으로 증가시키므로 형제 목록을 읽지 않고, 동시 생성끼리 같은 값을 받지 않음
+ * - 카운터는 처음 쓸 때 DB 의 MAX(display_order) 로 초기화 (비활성 포함, 유니크 제약과 같은 범위)
+ * - 직접 지정한 순서는 reserve 로 반영하고, 일괄 생성/가져오기처럼 다른 경로로 순서가 정해지면 invalidate 로 다시 읽게 함
+ * - 할당 후 롤백되면 빈 번호가 남지만 정렬에는 영향 없음
+ */
+@Component
+public class DisplayOrderAllocator {
+
+    // 루트 카테고리 카운터 키 (카테고리 ID 는 1부터)
+    private static final long ROOT_KEY = 0L;
+
+    private final CategoryRepository categoryRepository;
+    private final Cache<Long, AtomicInteger> counters;
+
+    public DisplayOrderAllocator(CategoryRepository categoryRepository,
+                                 @Value("${category.display-order.cache.maximum-size:100000}") long maximumSize) {
+        this.categoryRepository = categoryRepository;
+        // 밀려난 카운터는 다음 할당 때 DB 에서 다시 읽음
+        this.counters = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .build();
+    }
+
+    /**
+     * 부모 하위의 다음 순서 (루트면 parentId = null)
+     */
+    public int next(Long parentId) {
+        return counters.get(key(parentId), key -> new AtomicInteger(loadMax(parentId))).incrementAndGet();
+    }
+
+    /**
+     * 직접 지정한 순서 이후부터 할당되도록 카운터를 올림
+     */
+    public void reserve(Long parentId, int displayOrder) {
+        AtomicInteger counter = counters.getIfPresent(key(parentId));
+        if (counter != null) {
+            counter.accumulateAndGet(displayOrder, Math::max);
+        }
+    }
+
+    public void invalidate(Long parentId) {
+        counters.invalidate(key(parentId));
+    }
+
+    public void invalidateAll() {
+        counters.invalidateAll();
+    }
+
+    private int loadMax(Long parentId) {
+        return (parentId == null
+                ? categoryRepository.findMaxRootDisplayOrder()
+                : categoryRepository.findMaxDisplayOrderByParentId(parentId))
+                .orElse(0);
+    }
+
+    private static long key(Long parentId) {
+        return parentId == null ? ROOT_KEY : parentId;
+    }
+}
@@ -0,0 +1,133 @@
+package com.musinsa.category.service;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.*;
+
+/**
+ * 형제 순서 변경 시 새 displayOrder 계산
+ * - 새 순서에서 기존 키가 이미 증가하는 가장 긴 부분 수열(LIS)은 그대로 두고, 나머지만 앞뒤 이웃 키 사이의 빈 번호로 옮김
+ *   (맨 위로 하나를 옮기면 그 하나만 바뀜)
+ * - 빈 번호가 모자라면 형제 전체를 ORDER_GAP 간격으로 다시 매김 (비활성 형제는 키를 피하고, 재배치 시 뒤로 보냄)
+ */
+final class SiblingOrderPlanner {
+
+    // 재배치 시 형제 사이 간격 (사이에 끼워 넣을 수 있는 횟수 ≒ log2(ORDER_GAP))
+    static final int ORDER_GAP = 1024;
+
+    private SiblingOrderPlanner() {
+    }
+
+    /**
+     * @param newOrder   활성 형제 ID 의 새 순서
+     * @param activeKeys 활성 형제의 현재 displayOrder
+     * @param pinnedKeys 비활성 형제 ID 와 displayOrder (순서 변경 대상은 아니지만 유니크 제약 범위)
+     */
+    static Plan plan(List<Long> newOrder, Map<Long, Integer> activeKeys, Map<Long, Integer> pinnedKeys) {
+        int[] keys = new int[newOrder.size()];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = activeKeys.get(newOrder.get(i));
+        }
+        boolean[] stable = longestIncreasing(keys);
+        Set<Integer> pinned = new HashSet<>(pinnedKeys.values());
+
+        Map<Long, Integer> changes = new LinkedHashMap<>();
+        int previous = CategoryService.MIN_DISPLAY_ORDER - 1;
+        int i = 0;
+        while (i < keys.length) {
+            if (stable[i]) {
+                previous = keys[i++];
+                continue;
+            }
+            int end = i;
+            while (end < keys.length && !stable[end]) {
+                end++;
+            }
+            if (!fillGap(newOrder, i, end, previous, end < keys.length ? keys[end] : null, pinned, changes)) {
+                return rebalance(newOrder, activeKeys, pinnedKeys);
+            }
+            i = end;
+        }
+        return new Plan(changes, false);
+    }
+
+    /**
+     * [from, to) 구간의 옮긴 형제에게 (lower, upper) 사이의 번호를 고르게 배정 (마지막 구간이면 upper 없이 ORDER_GAP 간격)
+     */
+    private static boolean fillGap(List<Long> newOrder, int from, int to, int lower, Integer upper,
+                                   Set<Integer> pinned, Map<Long, Integer> changes) {
+        int count = to - from;
+        long step = upper == null ? ORDER_GAP : ((long) upper - lower) / (count + 1);
+        if (step < 1) {
+            return false;
+        }
+        for (int j = 0; j < count; j++) {
+            long key = lower + step * (j + 1);
+            if (Integer.MAX_VALUE < key || pinned.contains((int) key)) {
+                return false;
+            }
+            changes.put(newOrder.get(from + j), (int) key);
+        }
+        return true;
+    }
+
+    private static Plan rebalance(List<Long> newOrder, Map<Long, Integer> activeKeys, Map<Long, Integer> pinnedKeys) {
+        List<Long> ordered = new ArrayList<>(newOrder);
+        pinnedKeys.entrySet().stream()
+                .sorted(Map.Entry.comparingByValue())
+                .forEach(entry -> ordered.add(entry.getKey()));
+
+        Map<Long, Integer> changes = new LinkedHashMap<>();
+        for (int i = 0; i < ordered.size(); i++) {
+            Long id = ordered.get(i);
+            int key = ORDER_GAP * (i + 1);
+            Integer current = activeKeys.containsKey(id) ? activeKeys.get(id) : pinnedKeys.get(id);
+            if (current != key) {
+                changes.put(id, key);
+            }
+        }
+        return new Plan(changes, true);
+    }
+
+    /**
+     * 순증가하는 가장 긴 부분 수열에 속하는 위치 (O(n log n))
+     */
+    static boolean[] longestIncreasing(int[] keys) {
+        int[] tails = new int[keys.length];
+        int[] previous = new int[keys.length];
+        int length = 0;
+        for (int i = 0; i < keys.length; i++) {
+            int low = 0;
+            int high = length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (keys[tails[mid]] < keys[i]) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            previous[i] = 0 < low ? tails[low - 1] : -1;
+            tails[low] = i;
+            if (low == length) {
+                length++;
+            }
+        }
+
+        boolean[] stable = new boolean[keys.length];
+        for (int i = 0 < length ? tails[length - 1] : -1; 0 <= i; i = previous[i]) {
+            stable[i] = true;
+        }
+        return stable;
+    }
+
+    @Getter
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    static final class Plan {
+        // 키가 바뀌는 형제만 (ID → 새 displayOrder)
+        private final Map<Long, Integer> changes;
+        private final boolean rebalanced;
+    }
+}
@@ -71,5 +71,14 @@ INSERT INTO categories (id, name, parent_id, display_order, depth, path, is_acti
 -- 비활성화된 카테고리 (논리 삭제 테스트용)
 INSERT INTO categories (id, name, parent_id, display_order, depth, path, is_active, created_by, created_at, updated_at) VALUES (9999, '단종 상품', 1, 99, 1, '/1/9999', false, 'system', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
 
+-- 클로저 테이블 초기 적재 (parent_id 로부터 모든 조상-후손 쌍 생성)
+INSERT INTO category_closure (ancestor_id, descendant_id, distance)
+WITH RECURSIVE tree (ancestor_id, descendant_id, distance) AS (
+    SELECT id, id, 0 FROM categories
+    UNION ALL
+    SELECT t.ancestor_id, c.id, t.distance + 1 FROM tree t JOIN categories c ON c.parent_id = t.descendant_id
+)
+SELECT ancestor_id, descendant_id, distance FROM tree;
+
 -- 새 카테고리 추가할 때 충돌 방지.시퀀스 리셋 쿼리 추가
 ALTER TABLE categories ALTER COLUMN id RESTART WITH 10000;
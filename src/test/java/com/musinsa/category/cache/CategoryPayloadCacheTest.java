@@ -0,0 +1,294 @@
+package com.musinsa.category.cache;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.musinsa.category.dto.CategoryFields;
+import com.musinsa.category.dto.CategoryResponse;
+import com.musinsa.category.enums.Gender;
+import com.musinsa.category.enums.ResponseFormat;
+import com.musinsa.category.event.CategorySnapshotRefreshedEvent;
+import com.musinsa.category.exception.BusinessException;
+import com.musinsa.category.exception.ErrorCode;
+import com.musinsa.category.service.CategoryService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CategoryPayloadCache 단위 테스트")
+class CategoryPayloadCacheTest {
+
+    @Mock
+    private CategoryService categoryService;
+
+    @Mock
+    private CategorySnapshotHolder snapshotHolder;
+
+    @Mock
+    private CategorySnapshot snapshot;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule())
+            .addMixIn(CategoryResponse.class, CategoryFields.FilterMixin.class)
+            .setFilterProvider(CategoryFields.ALL.filters());
+    private final ObjectMapper cborMapper = new ObjectMapper(new CBORFactory()).registerModule(new JavaTimeModule());
+    private MeterRegistry meterRegistry;
+    private CategoryPayloadCache payloadCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        payloadCache = cache(DataSize.ofMegabytes(128));
+        // 실제 스냅샷으로 바꿔 끼우는 테스트도 있으므로 lenient
+        lenient().when(snapshotHolder.current()).thenReturn(snapshot);
+        lenient().when(snapshot.getVersion()).thenReturn(1L);
+    }
+
+    @Test
+    @DisplayName("무효화 전까지는 한 번만 직렬화하고 같은 바이트를 재사용")
+    void getTree_SerializesOnce() throws Exception {
+        given(categoryService.getCategoryTree(null, Gender.A)).willReturn(tree("상의"));
+
+        CachedPayload first = payloadCache.getTree(null, Gender.A);
+        CachedPayload second = payloadCache.getTree(null, Gender.A);
+
+        assertThat(second).isSameAs(first);
+        verify(categoryService, times(1)).getCategoryTree(null, Gender.A);
+        JsonNode body = objectMapper.readTree(first.getBody());
+        assertThat(body.path("data").get(0).path("name").asText()).isEqualTo("상의");
+        assertThat(count("miss")).isEqualTo(1.0);
+        assertThat(count("hit")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("성별, 루트 ID 별로 따로 캐시")
+    void getTree_KeyedByGenderAndCategoryId() {
+        given(categoryService.getCategoryTree(null, Gender.A)).willReturn(tree("상의"));
+        given(categoryService.getCategoryTree(null, Gender.M)).willReturn(tree("남성"));
+        given(categoryService.getCategoryTree(1L, Gender.A)).willReturn(tree("하위"));
+
+        CachedPayload all = payloadCache.getTree(null, Gender.A);
+        CachedPayload male = payloadCache.getTree(null, Gender.M);
+        CachedPayload subtree = payloadCache.getTree(1L, Gender.A);
+
+        assertThat(all.getEtag()).isNotEqualTo(male.getEtag()).isNotEqualTo(subtree.getEtag());
+        assertThat(count("miss")).isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("스냅샷이 바뀌면 바뀐 경로와 겹치는 항목만 다시 직렬화")
+    void onSnapshotRefreshed_EvictsOnlyAffectedPaths() {
+        given(snapshot.find(1L)).willReturn(Optional.of(node(1L, null, "/1")));
+        given(snapshot.find(7L)).willReturn(Optional.of(node(7L, null, "/7")));
+        given(categoryService.getCategoryTree(1L, Gender.A)).willReturn(tree("상의"));
+        given(categoryService.getCategoryTree(7L, Gender.A)).willReturn(tree("신발"), tree("변경된 신발"));
+        given(categoryService.getCategoryTree(null, Gender.A)).willReturn(tree("전체"), tree("변경된 전체"));
+        given(categoryService.getRootCategories(Gender.A)).willReturn(tree("루트"));
+
+        CachedPayload tops = payloadCache.getTree(1L, Gender.A);
+        CachedPayload shoes = payloadCache.getTree(7L, Gender.A);
+        CachedPayload all = payloadCache.getTree(null, Gender.A);
+        CachedPayload roots = payloadCache.getRoots(Gender.A);
+
+        given(snapshot.getVersion()).willReturn(2L);
+        payloadCache.onSnapshotRefreshed(new CategorySnapshotRefreshedEvent(snapshot, Set.of("/7/701")));
+
+        assertThat(payloadCache.getTree(1L, Gender.A)).isSameAs(tops);
+        assertThat(payloadCache.getRoots(Gender.A)).isSameAs(roots);
+        assertThat(payloadCache.getTree(7L, Gender.A).getEtag()).isNotEqualTo(shoes.getEtag());
+        assertThat(payloadCache.getTree(null, Gender.A).getEtag()).isNotEqualTo(all.getEtag());
+        verify(categoryService, times(1)).getCategoryTree(1L, Gender.A);
+        verify(categoryService, times(1)).getRootCategories(Gender.A);
+    }
+
+    @Test
+    @DisplayName("루트 카테고리가 바뀌면 루트 목록은 비우고, 경로 구분자 단위로 비교해 다른 하위 트리는 유지")
+    void onSnapshotRefreshed_RootChangeEvictsRoots() {
+        given(snapshot.find(1L)).willReturn(Optional.of(node(1L, null, "/1")));
+        given(categoryService.getCategoryTree(1L, Gender.A)).willReturn(tree("상의"));
+        given(categoryService.getRootCategories(Gender.A)).willReturn(tree("루트"));
+
+        CachedPayload tops = payloadCache.getTree(1L, Gender.A);
+        payloadCache.getRoots(Gender.A);
+
+        payloadCache.onSnapshotRefreshed(new CategorySnapshotRefreshedEvent(snapshot, Set.of("/10")));
+
+        assertThat(payloadCache.getTree(1L, Gender.A)).isSameAs(tops);
+        payloadCache.getRoots(Gender.A);
+        verify(categoryService, times(2)).getRootCategories(Gender.A);
+    }
+
+    @Test
+    @DisplayName("이전 스냅샷과 비교해 이동한 카테고리의 이전/새 경로 모두 무효화")
+    void onSnapshotRefreshed_UsesSnapshotDiff() {
+        CategorySnapshot before = CategorySnapshot.of(1L, List.of(
+                node(1L, null, "/1"), node(2L, null, "/2"), node(3L, null, "/3"), node(101L, 1L, "/1/101")));
+        CategorySnapshot after = CategorySnapshot.of(2L, List.of(
+                node(1L, null, "/1"), node(2L, null, "/2"), node(3L, null, "/3"), node(101L, 2L, "/2/101")));
+        given(snapshotHolder.current()).willReturn(before);
+        given(categoryService.getCategoryTree(anyLong(), eq(Gender.A))).willReturn(tree("하위"));
+
+        payloadCache.getTree(1L, Gender.A);
+        payloadCache.getTree(2L, Gender.A);
+        payloadCache.getTree(3L, Gender.A);
+
+        assertThat(after.changedPaths(before)).containsExactlyInAnyOrder("/1/101", "/2/101");
+        given(snapshotHolder.current()).willReturn(after);
+        payloadCache.onSnapshotRefreshed(new CategorySnapshotRefreshedEvent(after, after.changedPaths(before)));
+        payloadCache.getTree(1L, Gender.A);
+        payloadCache.getTree(2L, Gender.A);
+        payloadCache.getTree(3L, Gender.A);
+
+        verify(categoryService, times(2)).getCategoryTree(1L, Gender.A);
+        verify(categoryService, times(2)).getCategoryTree(2L, Gender.A);
+        verify(categoryService, times(1)).getCategoryTree(3L, Gender.A);
+    }
+
+    @Test
+    @DisplayName("바뀐 경로를 모르면 전체 무효화")
+    void onSnapshotRefreshed_ClearsAllWithoutPaths() {
+        given(categoryService.getRootCategories(Gender.A)).willReturn(tree("루트"));
+
+        payloadCache.getRoots(Gender.A);
+        payloadCache.onSnapshotRefreshed(new CategorySnapshotRefreshedEvent(snapshot, null));
+        payloadCache.getRoots(Gender.A);
+
+        verify(categoryService, times(2)).getRootCategories(Gender.A);
+    }
+
+    @Test
+    @DisplayName("직렬화 중 스냅샷이 바뀌면 응답은 내려주되 캐시하지 않음")
+    void getTree_DoesNotCacheWhenSnapshotChangesDuringSerialization() {
+        given(categoryService.getCategoryTree(null, Gender.A)).willAnswer(invocation -> {
+            given(snapshot.getVersion()).willReturn(2L);
+            return tree("상의");
+        });
+
+        assertThat(payloadCache.getTree(null, Gender.A)).isNotNull();
+        payloadCache.getTree(null, Gender.A);
+
+        verify(categoryService, times(2)).getCategoryTree(null, Gender.A);
+    }
+
+    @Test
+    @DisplayName("루트/전체 목록도 한 번만 직렬화, gzip 압축본 포함")
+    void getRootsAndAll_CachedWithGzip() throws Exception {
+        given(categoryService.getRootCategories(Gender.F)).willReturn(tree("여성"));
+        given(categoryService.getAllCategories(Gender.F)).willReturn(tree("전체"));
+
+        CachedPayload roots = payloadCache.getRoots(Gender.F);
+        CachedPayload all = payloadCache.getAll(Gender.F);
+        assertThat(payloadCache.getRoots(Gender.F)).isSameAs(roots);
+        assertThat(payloadCache.getAll(Gender.F)).isSameAs(all);
+
+        verify(categoryService, times(1)).getRootCategories(Gender.F);
+        verify(categoryService, times(1)).getAllCategories(Gender.F);
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(all.getGzipBody()))) {
+            assertThat(in.readAllBytes()).isEqualTo(all.getBody());
+        }
+        assertThat(all.getGzipEtag()).isNotEqualTo(all.getEtag());
+    }
+
+    @Test
+    @DisplayName("fields 별로 따로 캐시하고 지정한 속성만 직렬화")
+    void getTree_KeyedByFields() throws Exception {
+        given(categoryService.getCategoryTree(null, Gender.A)).willReturn(tree("상의"));
+
+        CachedPayload full = payloadCache.getTree(null, Gender.A);
+        CachedPayload sparse = payloadCache.getTree(null, Gender.A, CategoryFields.parse("name,children"), ResponseFormat.JSON);
+        CachedPayload reordered = payloadCache.getTree(null, Gender.A, CategoryFields.parse("children,name"), ResponseFormat.JSON);
+
+        assertThat(reordered).isSameAs(sparse);
+        assertThat(sparse.getBody().length).isLessThan(full.getBody().length);
+        JsonNode node = objectMapper.readTree(sparse.getBody()).path("data").get(0);
+        assertThat(node.path("name").asText()).isEqualTo("상의");
+        assertThat(node.has("id")).isFalse();
+        assertThat(node.has("children")).isTrue();
+        assertThat(count("miss")).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("응답 형식별로 따로 캐시하고 형식에 맞게 직렬화")
+    void getRoots_KeyedByFormat() throws Exception {
+        given(categoryService.getRootCategories(Gender.A)).willReturn(tree("상의"));
+
+        CachedPayload json = payloadCache.getRoots(Gender.A);
+        CachedPayload cbor = payloadCache.getRoots(Gender.A, CategoryFields.ALL, ResponseFormat.CBOR);
+
+        assertThat(cbor.getEtag()).isNotEqualTo(json.getEtag());
+        assertThat(payloadCache.getRoots(Gender.A, CategoryFields.ALL, ResponseFormat.CBOR)).isSameAs(cbor);
+        assertThat(cborMapper.readTree(cbor.getBody()).path("data").get(0).path("name").asText()).isEqualTo("상의");
+        // 등록되지 않은 형식은 설정 오류
+        assertThatThrownBy(() -> payloadCache.getRoots(Gender.A, CategoryFields.ALL, ResponseFormat.SMILE))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("보관량이 본문 바이트 한도를 넘으면 축출")
+    void get_EvictsOverMaximumWeight() {
+        given(categoryService.getCategoryTree(anyLong(), eq(Gender.A))).willAnswer(invocation ->
+                tree("카테고리" + invocation.getArgument(0) + "-" + "x".repeat(2_000)));
+        CachedPayload sample = payloadCache.getTree(0L, Gender.A);
+        long weight = sample.getBody().length + sample.getGzipBody().length;
+        // 항목 3개 분량만 허용
+        payloadCache = cache(DataSize.ofBytes(weight * 3));
+
+        for (long id = 1; id <= 20; id++) {
+            payloadCache.getTree(id, Gender.A);
+        }
+        for (long id = 1; id <= 20; id++) {
+            payloadCache.getTree(id, Gender.A);
+        }
+
+        // 샘플 1회 + 첫 조회 20회 + 두 번째 조회에서 최대 3개만 적중
+        verify(categoryService, atLeast(1 + 20 + 17)).getCategoryTree(anyLong(), eq(Gender.A));
+    }
+
+    @Test
+    @DisplayName("조회 실패는 캐시하지 않음")
+    void getTree_DoesNotCacheFailures() {
+        given(categoryService.getCategoryTree(999L, Gender.A))
+                .willThrow(new BusinessException(ErrorCode.CATEGORY_NOT_FOUND));
+
+        assertThatThrownBy(() -> payloadCache.getTree(999L, Gender.A)).isInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> payloadCache.getTree(999L, Gender.A)).isInstanceOf(BusinessException.class);
+
+        verify(categoryService, times(2)).getCategoryTree(999L, Gender.A);
+    }
+
+    private List<CategoryResponse> tree(String name) {
+        return Collections.singletonList(CategoryResponse.builder().id(1L).name(name).build());
+    }
+
+    private CategoryPayloadCache cache(DataSize maximumWeight) {
+        return new CategoryPayloadCache(categoryService, snapshotHolder, objectMapper,
+                List.of(new MappingJackson2CborHttpMessageConverter(cborMapper)), meterRegistry, maximumWeight);
+    }
+
+    private CategoryNode node(Long id, Long parentId, String path) {
+        return new CategoryNode(id, "카테고리" + id, null, Gender.A, parentId, 1, true, path,
+                parentId == null ? 0 : 1, null, null, null, null);
+    }
+
+    private double count(String result) {
+        return meterRegistry.get("category.payload.cache").tag("result", result).counter().count();
+    }
+}
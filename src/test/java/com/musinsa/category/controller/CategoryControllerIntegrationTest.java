@@ -1,12 +1,24 @@
 package com.musinsa.category.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.musinsa.category.cache.CategoryNode;
+import com.musinsa.category.cache.CategorySnapshotHolder;
+import com.musinsa.category.dto.CategoryBatchRequest;
+import com.musinsa.category.dto.CategoryOrderRequest;
 import com.musinsa.category.dto.CategoryRequest;
 import com.musinsa.category.entity.Category;
 import com.musinsa.category.enums.Gender;
+import com.musinsa.category.enums.ImportFormat;
 import com.musinsa.category.exception.ErrorCode;
+import com.musinsa.category.repository.CategoryClosureRepository;
 import com.musinsa.category.repository.CategoryRepository;
+import com.musinsa.category.repository.CategoryTreeVersionRepository;
+import com.musinsa.category.search.CategorySearchIndex;
 import com.musinsa.category.security.JwtUtil;
+import com.musinsa.category.service.CategoryChangeService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -18,10 +30,18 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.Date;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.*;
@@ -46,6 +66,21 @@ class CategoryControllerIntegrationTest {
     @Autowired
     private CategoryRepository categoryRepository;
 
+    @Autowired
+    private CategoryClosureRepository closureRepository;
+
+    @Autowired
+    private CategorySnapshotHolder snapshotHolder;
+
+    @Autowired
+    private CategorySearchIndex searchIndex;
+
+    @Autowired
+    private CategoryTreeVersionRepository versionRepository;
+
+    @Autowired
+    private CategoryChangeService changeService;
+
     @MockBean
     private JwtUtil jwtUtil;
 
@@ -57,8 +92,7 @@ class CategoryControllerIntegrationTest {
     void setUp() {
         validToken = "Bearer valid.jwt.token";
         given(jwtUtil.extractTokenFromHeader(validToken)).willReturn("valid.jwt.token");
-        given(jwtUtil.isTokenValid("valid.jwt.token")).willReturn(true);
-        given(jwtUtil.extractAdminId("valid.jwt.token")).willReturn("admin");
+        given(jwtUtil.authenticate("valid.jwt.token")).willReturn("admin");
         given(jwtUtil.getExpirationDate("valid.jwt.token")).willReturn(new Date());
 
         // 테스트 데이터 생성
@@ -101,6 +135,11 @@ class CategoryControllerIntegrationTest {
                 .updatedAt(LocalDateTime.now())
                 .build();
         childCategory = categoryRepository.save(childCategory);
+
+        // 리포지토리로 직접 넣은 데이터는 서비스를 거치지 않으므로 클로저/스냅샷/검색 색인을 직접 갱신
+        closureRepository.rebuildFromParents();
+        snapshotHolder.refresh();
+        searchIndex.rebuild();
     }
 
     @Nested
@@ -224,6 +263,72 @@ class CategoryControllerIntegrationTest {
         }
     }
 
+    @Nested
+    @DisplayName("카테고리 일괄 생성 통합테스트")
+    class BatchCreateIntegration {
+
+        @Test
+        @DisplayName("트리 일괄 생성 - path/depth/클로저까지 한 번에 생성")
+        void createCategoryTree_Success() throws Exception {
+            CategoryBatchRequest request = CategoryBatchRequest.builder()
+                    .parentId(parentCategory.getId())
+                    .categories(Arrays.asList(
+                            CategoryBatchRequest.Node.builder()
+                                    .name("니트")
+                                    .children(Arrays.asList(
+                                            CategoryBatchRequest.Node.builder().name("라운드 니트").build(),
+                                            CategoryBatchRequest.Node.builder().name("브이넥 니트").displayOrder(5).build()))
+                                    .build(),
+                            CategoryBatchRequest.Node.builder().name("셔츠").gender(Gender.M).build()))
+                    .build();
+
+            mockMvc.perform(post("/api/categories/batch")
+                            .header("Authorization", validToken)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isCreated())
+                    .andExpect(jsonPath("$.data.createdCount", is(4)))
+                    .andExpect(jsonPath("$.data.rootIds", hasSize(2)));
+
+            List<Category> created = categoryRepository.findDescendants(parentCategory.getId(), Gender.A.name());
+            Category knit = created.stream().filter(c -> "니트".equals(c.getName())).findFirst().orElseThrow();
+            Category roundKnit = created.stream().filter(c -> "라운드 니트".equals(c.getName())).findFirst().orElseThrow();
+            Category vNeckKnit = created.stream().filter(c -> "브이넥 니트".equals(c.getName())).findFirst().orElseThrow();
+
+            // 기존 형제(티셔츠, 순서 1) 다음부터 자동 할당
+            assertThat(knit.getDisplayOrder()).isEqualTo(2);
+            assertThat(knit.getDepth()).isEqualTo(parentCategory.getDepth() + 1);
+            assertThat(knit.getPath()).isEqualTo(parentCategory.getPath() + "/" + knit.getId());
+            assertThat(roundKnit.getPath()).isEqualTo(knit.getPath() + "/" + roundKnit.getId());
+            assertThat(roundKnit.getDisplayOrder()).isEqualTo(6);
+            assertThat(vNeckKnit.getDisplayOrder()).isEqualTo(5);
+            assertThat(roundKnit.getCreatedBy()).isEqualTo("admin");
+            assertThat(categoryRepository.findAncestors(roundKnit.getId()))
+                    .extracting("name").containsExactly("상의", "니트");
+        }
+
+        @Test
+        @DisplayName("트리 일괄 생성 실패 - 기존 형제와 이름 중복이면 아무것도 생성하지 않음")
+        void createCategoryTree_DuplicateName_Returns400() throws Exception {
+            long before = categoryRepository.count();
+            CategoryBatchRequest request = CategoryBatchRequest.builder()
+                    .parentId(parentCategory.getId())
+                    .categories(Arrays.asList(
+                            CategoryBatchRequest.Node.builder().name("니트").build(),
+                            CategoryBatchRequest.Node.builder().name("티셔츠").build()))
+                    .build();
+
+            mockMvc.perform(post("/api/categories/batch")
+                            .header("Authorization", validToken)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.code", is(ErrorCode.CATEGORY_NAME_DUPLICATE.getCode())));
+
+            assertThat(categoryRepository.count()).isEqualTo(before);
+        }
+    }
+
     @Nested
     @DisplayName("카테고리 수정 통합테스트")
     class UpdateCategoryIntegration {
@@ -268,6 +373,95 @@ class CategoryControllerIntegrationTest {
                     .andExpect(status().isNotFound())
                     .andExpect(jsonPath("$.code", is(ErrorCode.CATEGORY_NOT_FOUND.getCode())));
         }
+
+        @Test
+        @DisplayName("카테고리 수정 실패 - 하위 카테고리를 부모로 설정")
+        void updateCategory_DescendantAsParent_Returns400() throws Exception {
+            CategoryRequest request = CategoryRequest.builder()
+                    .parentId(childCategory.getId())
+                    .build();
+
+            mockMvc.perform(put("/api/categories/{id}", parentCategory.getId())
+                            .header("Authorization", validToken)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.code", is(ErrorCode.CATEGORY_INVALID_PARENT.getCode())));
+        }
+
+        @Test
+        @DisplayName("카테고리 이동 - 클로저 테이블이 새 부모 기준으로 갱신")
+        void updateCategory_MoveUpdatesClosure() throws Exception {
+            CategoryRequest createRequest = CategoryRequest.builder()
+                    .name("하의")
+                    .gender(Gender.A)
+                    .build();
+            mockMvc.perform(post("/api/categories")
+                            .header("Authorization", validToken)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(createRequest)))
+                    .andExpect(status().isCreated());
+            Category newParent = categoryRepository.findAll().stream()
+                    .filter(category -> "하의".equals(category.getName()))
+                    .findFirst().orElseThrow();
+
+            CategoryRequest moveRequest = CategoryRequest.builder()
+                    .parentId(newParent.getId())
+                    .build();
+            mockMvc.perform(put("/api/categories/{id}", childCategory.getId())
+                            .header("Authorization", validToken)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(moveRequest)))
+                    .andExpect(status().isOk());
+
+            assertThat(closureRepository.existsByAncestorIdAndDescendantId(newParent.getId(), childCategory.getId())).isTrue();
+            assertThat(closureRepository.existsByAncestorIdAndDescendantId(parentCategory.getId(), childCategory.getId())).isFalse();
+            assertThat(categoryRepository.findAncestors(childCategory.getId()))
+                    .extracting("name").containsExactly("하의");
+        }
+
+        @Test
+        @DisplayName("카테고리 이동 - 하위 트리 전체의 path/depth 가 새 부모 기준으로 갱신")
+        void updateCategory_MoveRewritesSubtreePath() throws Exception {
+            Category grandChild = categoryRepository.save(Category.builder()
+                    .name("반팔 티셔츠")
+                    .parent(childCategory)
+                    .gender(Gender.A)
+                    .depth(3)
+                    .displayOrder(1)
+                    .path(childCategory.getPath() + "/반팔 티셔츠")
+                    .isActive(true)
+                    .createdBy("admin")
+                    .updatedBy("admin")
+                    .build());
+            Category newParent = categoryRepository.save(Category.builder()
+                    .name("하의")
+                    .gender(Gender.A)
+                    .depth(1)
+                    .displayOrder(2)
+                    .path("/하의")
+                    .isActive(true)
+                    .createdBy("admin")
+                    .updatedBy("admin")
+                    .build());
+            closureRepository.rebuildFromParents();
+
+            CategoryRequest moveRequest = CategoryRequest.builder()
+                    .parentId(newParent.getId())
+                    .build();
+            mockMvc.perform(put("/api/categories/{id}", childCategory.getId())
+                            .header("Authorization", validToken)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(moveRequest)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.path", is("/하의/" + childCategory.getId())))
+                    .andExpect(jsonPath("$.data.depth", is(2)));
+
+            Category movedGrandChild = categoryRepository.findById(grandChild.getId()).orElseThrow();
+            assertThat(movedGrandChild.getPath()).isEqualTo("/하의/" + childCategory.getId() + "/반팔 티셔츠");
+            assertThat(movedGrandChild.getDepth()).isEqualTo(3);
+            assertThat(categoryRepository.findById(parentCategory.getId()).orElseThrow().getPath()).isEqualTo("/상의");
+        }
     }
 
     @Nested
@@ -305,6 +499,36 @@ class CategoryControllerIntegrationTest {
                     .andExpect(jsonPath("$.code", is(ErrorCode.CATEGORY_HAS_CHILDREN.getCode())))
                     .andExpect(jsonPath("$.message", is(ErrorCode.CATEGORY_HAS_CHILDREN.getMessage())));
         }
+
+        @Test
+        @DisplayName("카테고리 삭제 - cascade 로 하위 트리 전체 비활성화")
+        void deleteCategory_Cascade_DeactivatesSubtree() throws Exception {
+            mockMvc.perform(delete("/api/categories/{id}", parentCategory.getId())
+                            .param("cascade", "true")
+                            .header("Authorization", validToken))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.affectedCount", is(2)));
+
+            Category deletedChild = categoryRepository.findById(childCategory.getId()).orElseThrow();
+            assertThat(deletedChild.getIsActive()).isFalse();
+            assertThat(categoryRepository.findById(parentCategory.getId()).orElseThrow().getIsActive()).isFalse();
+            assertThat(deletedChild.getUpdatedBy()).isEqualTo("admin");
+        }
+
+        @Test
+        @DisplayName("카테고리 완전 삭제 - cascade 로 하위 트리 전체 삭제")
+        void realDeleteCategory_Cascade_RemovesSubtree() throws Exception {
+            mockMvc.perform(delete("/api/categories/{id}/real", parentCategory.getId())
+                            .param("confirm", "true")
+                            .param("cascade", "true")
+                            .header("Authorization", validToken))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.affectedCount", is(2)));
+
+            assertThat(categoryRepository.findById(parentCategory.getId())).isEmpty();
+            assertThat(categoryRepository.findById(childCategory.getId())).isEmpty();
+            assertThat(closureRepository.existsByAncestorIdAndDescendantId(parentCategory.getId(), childCategory.getId())).isFalse();
+        }
     }
 
     @Nested
@@ -359,6 +583,48 @@ class CategoryControllerIntegrationTest {
                     .andExpect(jsonPath("$.data[0].children", hasSize(greaterThanOrEqualTo(1))));
         }
 
+        @Test
+        @DisplayName("카테고리 트리 조회 - fields 로 속성 제한")
+        void getCategoryTree_WithFields_ReturnsOnlyRequestedProperties() throws Exception {
+            mockMvc.perform(get("/api/categories/tree")
+                            .param("fields", "id,name,displayOrder,children"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data[0].name", notNullValue()))
+                    .andExpect(jsonPath("$.data[0].displayOrder", notNullValue()))
+                    .andExpect(jsonPath("$.data[0].createdAt").doesNotExist())
+                    .andExpect(jsonPath("$.data[0].path").doesNotExist())
+                    .andExpect(jsonPath("$.data[0].children[0].name", notNullValue()))
+                    .andExpect(jsonPath("$.data[0].children[0].description").doesNotExist());
+
+            // fields 가 없으면 전체 속성
+            mockMvc.perform(get("/api/categories/tree"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data[0].path", notNullValue()));
+        }
+
+        @Test
+        @DisplayName("카테고리 트리 조회 - Accept 로 CBOR/Smile 응답")
+        void getCategoryTree_BinaryFormats_DecodeToSameTree() throws Exception {
+            byte[] json = mockMvc.perform(get("/api/categories/tree"))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsByteArray();
+            byte[] cbor = mockMvc.perform(get("/api/categories/tree")
+                            .accept(MediaType.APPLICATION_CBOR))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                    .andReturn().getResponse().getContentAsByteArray();
+            byte[] smile = mockMvc.perform(get("/api/categories/tree")
+                            .accept("application/x-jackson-smile"))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsByteArray();
+
+            // 숫자 노드 타입(int/long)은 형식마다 다를 수 있어 텍스트로 비교 (timestamp 는 직렬화 시각이라 제외)
+            String expected = objectMapper.readTree(json).path("data").toString();
+            assertThat(new ObjectMapper(new CBORFactory()).readTree(cbor).path("data").toString()).isEqualTo(expected);
+            assertThat(new ObjectMapper(new SmileFactory()).readTree(smile).path("data").toString()).isEqualTo(expected);
+            assertThat(cbor.length).isLessThan(json.length);
+        }
+
         @Test
         @DisplayName("하위 카테고리들 조회")
         void getDirectChildren_ExistingParent_ReturnsChildren() throws Exception {
@@ -369,6 +635,27 @@ class CategoryControllerIntegrationTest {
                     .andExpect(jsonPath("$.data[0].parentId", is(parentCategory.getId().intValue())));
         }
 
+        @Test
+        @DisplayName("전체 카테고리 키셋 페이지 - nextCursor 로 끝까지 이어짐")
+        void getAllCategories_CursorPages() throws Exception {
+            int total = snapshotHolder.current().size();
+            List<String> names = new ArrayList<>();
+            String cursor = null;
+            do {
+                MvcResult result = mockMvc.perform(get("/api/categories")
+                                .param("size", "1")
+                                .param("cursor", cursor != null ? cursor : ""))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.data.items", hasSize(1)))
+                        .andReturn();
+                JsonNode data = objectMapper.readTree(result.getResponse().getContentAsByteArray()).get("data");
+                names.add(data.get("items").get(0).get("name").asText());
+                cursor = data.get("nextCursor").isNull() ? null : data.get("nextCursor").asText();
+            } while (cursor != null);
+
+            assertThat(names).hasSize(total).containsExactly("상의", "티셔츠");
+        }
+
         @Test
         @DisplayName("카테고리 검색")
         void searchCategories_ValidKeyword_ReturnsResults() throws Exception {
@@ -379,6 +666,57 @@ class CategoryControllerIntegrationTest {
                     .andExpect(jsonPath("$.data[0].name", containsString("상의")));
         }
 
+        @Test
+        @DisplayName("카테고리 검색 - 부분 일치, limit 적용")
+        void searchCategories_PartialKeywordWithLimit() throws Exception {
+            mockMvc.perform(get("/api/categories/search")
+                            .param("keyword", "셔츠")
+                            .param("limit", "1"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data", hasSize(1)))
+                    .andExpect(jsonPath("$.data[0].name", is("티셔츠")))
+                    .andExpect(jsonPath("$.data[0].path", is("/상의/티셔츠")));
+        }
+
+        @Test
+        @DisplayName("카테고리 초성 검색")
+        void searchCategories_ChosungMode() throws Exception {
+            mockMvc.perform(get("/api/categories/search")
+                            .param("keyword", "ㅌㅅㅊ")
+                            .param("mode", "CHOSUNG"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data", hasSize(1)))
+                    .andExpect(jsonPath("$.data[0].name", is("티셔츠")));
+        }
+
+        @Test
+        @DisplayName("카테고리 자동완성 - 이름 경로 접두어, 성별 필터")
+        void autocomplete_ByPathPrefix() throws Exception {
+            mockMvc.perform(get("/api/categories/autocomplete")
+                            .param("prefix", "상의 티")
+                            .param("gender", "M"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data", hasSize(1)))
+                    .andExpect(jsonPath("$.data[0].id", is(childCategory.getId().intValue())))
+                    .andExpect(jsonPath("$.data[0].breadcrumb", is("상의 > 티셔츠")));
+
+            mockMvc.perform(get("/api/categories/autocomplete")
+                            .param("prefix", "상의 티")
+                            .param("gender", "F"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data", empty()));
+        }
+
+        @Test
+        @DisplayName("카테고리 검색 실패 - limit 범위 초과")
+        void searchCategories_LimitTooLarge_Returns400() throws Exception {
+            mockMvc.perform(get("/api/categories/search")
+                            .param("keyword", "상의")
+                            .param("limit", "1000"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.code", is(ErrorCode.INVALID_INPUT_VALUE.getCode())));
+        }
+
         @Test
         @DisplayName("카테고리 검색 실패 - 키워드 길이 부족")
         void searchCategories_ShortKeyword_Returns400() throws Exception {
@@ -389,6 +727,94 @@ class CategoryControllerIntegrationTest {
         }
     }
 
+    @Nested
+    @DisplayName("카테고리 가져오기 통합테스트")
+    class ImportIntegration {
+
+        @Test
+        @DisplayName("NDJSON 가져오기 - 청크를 넘는 부모 참조와 행 단위 오류 보고")
+        void importNdjson_ResolvesParentsAcrossChunks() throws Exception {
+            Category existing = categoryRepository.save(Category.builder()
+                    .name("신발").depth(0).displayOrder(2).path("/신발").externalKey("shoes")
+                    .createdBy("admin").updatedBy("admin").build());
+            closureRepository.rebuildFromParents();
+
+            String body = String.join("\n",
+                    "{\"externalKey\":\"bottom\",\"name\":\"하의\"}",
+                    "{\"externalKey\":\"denim\",\"parentKey\":\"bottom\",\"name\":\"데님 팬츠\",\"gender\":\"M\"}",
+                    "{\"externalKey\":\"slim\",\"parentKey\":\"denim\",\"name\":\"슬림핏\",\"displayOrder\":3}",
+                    "{\"externalKey\":\"sneakers\",\"parentKey\":\"shoes\",\"name\":\"스니커즈\"}",
+                    "",
+                    "{\"externalKey\":\"top\",\"name\":\"상의\"}",
+                    "{\"externalKey\":\"orphan\",\"parentKey\":\"missing\",\"name\":\"고아\"}",
+                    "{not json",
+                    "{\"externalKey\":\"denim\",\"name\":\"중복 키\"}");
+
+            mockMvc.perform(post("/api/categories/import")
+                            .header("Authorization", validToken)
+                            .param("chunkSize", "2")
+                            .contentType(ImportFormat.NDJSON_VALUE)
+                            .content(body))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.totalRows", is(8)))
+                    .andExpect(jsonPath("$.data.importedRows", is(4)))
+                    .andExpect(jsonPath("$.data.failedRows", is(4)))
+                    .andExpect(jsonPath("$.data.chunkCount", is(4)))
+                    .andExpect(jsonPath("$.data.errors[*].line", containsInAnyOrder(6, 7, 8, 9)))
+                    .andExpect(jsonPath("$.data.errors[?(@.line == 6)].code", contains(ErrorCode.CATEGORY_NAME_DUPLICATE.getCode())))
+                    .andExpect(jsonPath("$.data.errors[?(@.line == 7)].code", contains(ErrorCode.CATEGORY_PARENT_NOT_FOUND.getCode())))
+                    .andExpect(jsonPath("$.data.errors[?(@.line == 9)].code", contains(ErrorCode.CATEGORY_EXTERNAL_KEY_DUPLICATE.getCode())));
+
+            Category slim = categoryRepository.findByExternalKeyIn(List.of("slim")).get(0);
+            assertThat(slim.getDepth()).isEqualTo(2);
+            assertThat(slim.getDisplayOrder()).isEqualTo(3);
+            assertThat(categoryRepository.findAncestors(slim.getId()))
+                    .extracting("name").containsExactly("하의", "데님 팬츠");
+
+            Category sneakers = categoryRepository.findByExternalKeyIn(List.of("sneakers")).get(0);
+            assertThat(sneakers.getPath()).isEqualTo(existing.getPath() + "/" + sneakers.getId());
+            assertThat(snapshotHolder.current().find(sneakers.getId())).isPresent();
+        }
+
+        @Test
+        @DisplayName("CSV 가져오기 - 헤더 기준 매핑과 순서 자동 할당")
+        void importCsv_Success() throws Exception {
+            String body = String.join("\n",
+                    "externalKey,parentKey,name,description,gender,displayOrder",
+                    "acc,,액세서리,\"모자, 가방\",,",
+                    "cap,acc,모자,,F,",
+                    "bag,acc,가방,,X,");
+
+            mockMvc.perform(post("/api/categories/import")
+                            .header("Authorization", validToken)
+                            .contentType("text/csv")
+                            .content(body))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.importedRows", is(2)))
+                    .andExpect(jsonPath("$.data.errors[0].line", is(4)))
+                    .andExpect(jsonPath("$.data.errors[0].code", is(ErrorCode.INVALID_INPUT_VALUE.getCode())));
+
+            Category accessory = categoryRepository.findByExternalKeyIn(List.of("acc")).get(0);
+            Category cap = categoryRepository.findByExternalKeyIn(List.of("cap")).get(0);
+            assertThat(accessory.getDescription()).isEqualTo("모자, 가방");
+            assertThat(accessory.getDisplayOrder()).isEqualTo(parentCategory.getDisplayOrder() + 1);
+            assertThat(cap.getGender()).isEqualTo(Gender.F);
+            assertThat(cap.getDisplayOrder()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("가져오기 실패 - chunkSize 범위 초과")
+        void importCategories_InvalidChunkSize_Returns400() throws Exception {
+            mockMvc.perform(post("/api/categories/import")
+                            .header("Authorization", validToken)
+                            .param("chunkSize", "0")
+                            .contentType(ImportFormat.NDJSON_VALUE)
+                            .content("{}"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.code", is(ErrorCode.INVALID_INPUT_VALUE.getCode())));
+        }
+    }
+
     @Nested
     @DisplayName("카테고리 활성화 통합테스트")
     class ActivateCategoryIntegration {
@@ -422,6 +848,130 @@ class CategoryControllerIntegrationTest {
         }
     }
 
+    @Nested
+    @DisplayName("변경분 동기화 통합테스트")
+    class ChangesIntegration {
+
+        @Test
+        @DisplayName("since 이후 카테고리별 마지막 변경만 조회")
+        void getChanges_ReturnsLatestChangePerCategory() throws Exception {
+            long since = versionRepository.findVersion().orElse(0L);
+
+            mockMvc.perform(put("/api/categories/{id}", childCategory.getId())
+                            .header("Authorization", validToken)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(CategoryRequest.builder().name("반팔").build())))
+                    .andExpect(status().isOk());
+            mockMvc.perform(delete("/api/categories/{id}", childCategory.getId())
+                            .header("Authorization", validToken))
+                    .andExpect(status().isOk());
+            mockMvc.perform(put("/api/categories/{id}", parentCategory.getId())
+                            .header("Authorization", validToken)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(CategoryRequest.builder().description("설명 수정").gender(Gender.A).build())))
+                    .andExpect(status().isOk());
+
+            mockMvc.perform(get("/api/categories/changes").param("since", String.valueOf(since)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.version", is((int) since + 3)))
+                    .andExpect(jsonPath("$.data.resyncRequired", is(false)))
+                    .andExpect(jsonPath("$.data.changes", hasSize(2)))
+                    .andExpect(jsonPath("$.data.changes[0].categoryId", is(childCategory.getId().intValue())))
+                    .andExpect(jsonPath("$.data.changes[0].type", is("DEACTIVATED")))
+                    .andExpect(jsonPath("$.data.changes[0].category.isActive", is(false)))
+                    .andExpect(jsonPath("$.data.changes[1].type", is("UPDATED")))
+                    .andExpect(jsonPath("$.data.changes[1].category.description", is("설명 수정")));
+
+            // 최신 버전으로 다시 요청하면 빈 변경분
+            mockMvc.perform(get("/api/categories/changes").param("since", String.valueOf(since + 3)))
+                    .andExpect(jsonPath("$.data.changes", empty()));
+        }
+
+        @Test
+        @DisplayName("압축된 버전부터 요청하면 전체 재동기화 안내")
+        void getChanges_CompactedReturnsResync() throws Exception {
+            long since = versionRepository.findVersion().orElse(0L);
+            mockMvc.perform(put("/api/categories/{id}", parentCategory.getId())
+                            .header("Authorization", validToken)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(CategoryRequest.builder().description("설명 수정").gender(Gender.A).build())))
+                    .andExpect(status().isOk());
+            mockMvc.perform(put("/api/categories/{id}", parentCategory.getId())
+                            .header("Authorization", validToken)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(CategoryRequest.builder().description("다시 수정").gender(Gender.A).build())))
+                    .andExpect(status().isOk());
+
+            changeService.compact(LocalDateTime.now().plusSeconds(1));
+
+            mockMvc.perform(get("/api/categories/changes").param("since", String.valueOf(since)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.resyncRequired", is(true)))
+                    .andExpect(jsonPath("$.data.version", is((int) since + 2)))
+                    .andExpect(jsonPath("$.data.changes", empty()));
+        }
+    }
+
+    @Nested
+    @DisplayName("형제 순서 변경 통합테스트")
+    class ReorderIntegration {
+
+        @Test
+        @DisplayName("간격이 없으면 한 번 다시 매기고, 이후 이동은 옮긴 카테고리만 갱신")
+        void reorderChildren_RebalancesOnceThenTouchesMovedOnly() throws Exception {
+            CategoryBatchRequest batch = CategoryBatchRequest.builder()
+                    .parentId(parentCategory.getId())
+                    .categories(Arrays.asList(
+                            CategoryBatchRequest.Node.builder().name("셔츠").build(),
+                            CategoryBatchRequest.Node.builder().name("니트").build(),
+                            CategoryBatchRequest.Node.builder().name("후드").build()))
+                    .build();
+            mockMvc.perform(post("/api/categories/batch")
+                            .header("Authorization", validToken)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(batch)))
+                    .andExpect(status().isCreated());
+            List<Long> ids = new ArrayList<>();
+            ids.add(childCategory.getId());
+            categoryRepository.findAllByParentId(parentCategory.getId()).stream()
+                    .filter(category -> !category.getId().equals(childCategory.getId()))
+                    .sorted(Comparator.comparing(Category::getDisplayOrder))
+                    .forEach(category -> ids.add(category.getId()));
+
+            // 1,2,3,4 로 붙어 있어 맨 위에 끼울 자리가 없음
+            List<Long> hoodFirst = Arrays.asList(ids.get(3), ids.get(0), ids.get(1), ids.get(2));
+            reorder(hoodFirst)
+                    .andExpect(jsonPath("$.data.rebalanced", is(true)))
+                    .andExpect(jsonPath("$.data.updatedCount", is(4)));
+
+            List<Long> shirtLast = Arrays.asList(ids.get(3), ids.get(0), ids.get(2), ids.get(1));
+            reorder(shirtLast)
+                    .andExpect(jsonPath("$.data.rebalanced", is(false)))
+                    .andExpect(jsonPath("$.data.updatedCount", is(1)));
+
+            List<Long> ordered = categoryRepository.findNodesByIdIn(ids).stream()
+                    .sorted(Comparator.comparing(CategoryNode::getDisplayOrder))
+                    .map(CategoryNode::getId)
+                    .collect(Collectors.toList());
+            assertThat(ordered).isEqualTo(shirtLast);
+        }
+
+        @Test
+        @DisplayName("하위 카테고리를 빠짐없이 지정하지 않으면 400")
+        void reorderChildren_MissingSibling_Returns400() throws Exception {
+            reorder(Collections.singletonList(999L))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.code", is(ErrorCode.INVALID_INPUT_VALUE.getCode())));
+        }
+
+        private ResultActions reorder(List<Long> categoryIds) throws Exception {
+            return mockMvc.perform(put("/api/categories/{parentId}/order", parentCategory.getId())
+                            .header("Authorization", validToken)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(new CategoryOrderRequest(categoryIds))));
+        }
+    }
+
     @Nested
     @DisplayName("데이터 검증 통합테스트")
     class DataValidationIntegration {
@@ -1,13 +1,38 @@
 package com.musinsa.category.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.musinsa.category.cache.CachedPayload;
+import com.musinsa.category.cache.CategoryPayloadCache;
+import com.musinsa.category.common.ApiResponse;
+import com.musinsa.category.config.JacksonConfig;
+import com.musinsa.category.dto.AutocompleteResponse;
+import com.musinsa.category.dto.CategoryBatchRequest;
+import com.musinsa.category.dto.CategoryBatchResponse;
+import com.musinsa.category.dto.CategoryChangesResponse;
+import com.musinsa.category.dto.CategoryColumnarTree;
+import com.musinsa.category.dto.CategoryFields;
+import com.musinsa.category.dto.CategoryImportResponse;
+import com.musinsa.category.dto.CategoryPageResponse;
+import com.musinsa.category.dto.CategoryOrderRequest;
+import com.musinsa.category.dto.CategoryOrderResponse;
 import com.musinsa.category.dto.CategoryRequest;
 import com.musinsa.category.dto.CategoryResponse;
+import com.musinsa.category.enums.ChangeType;
 import com.musinsa.category.enums.Gender;
+import com.musinsa.category.enums.ImportFormat;
+import com.musinsa.category.enums.ResponseFormat;
+import com.musinsa.category.enums.SearchMode;
 import com.musinsa.category.exception.BusinessException;
 import com.musinsa.category.exception.ErrorCode;
 import com.musinsa.category.security.JwtUtil;
+import com.musinsa.category.service.CategoryChangeService;
+import com.musinsa.category.service.CategoryEventService;
+import com.musinsa.category.service.CategoryExportService;
+import com.musinsa.category.service.CategoryImportService;
 import com.musinsa.category.service.CategoryService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -19,15 +44,22 @@ import org.mockito.ArgumentMatchers;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.*;
@@ -36,6 +68,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(CategoryController.class)
+@Import({JacksonConfig.class, SimpleMeterRegistry.class})
 @DisplayName("CategoryController 단위 테스트")
 class CategoryControllerTest {
 
@@ -48,6 +81,21 @@ class CategoryControllerTest {
     @MockBean
     private CategoryService categoryService;
 
+    @MockBean
+    private CategoryImportService importService;
+
+    @MockBean
+    private CategoryExportService exportService;
+
+    @MockBean
+    private CategoryPayloadCache payloadCache;
+
+    @MockBean
+    private CategoryChangeService changeService;
+
+    @MockBean
+    private CategoryEventService eventService;
+
     @MockBean
     private JwtUtil jwtUtil;
 
@@ -61,9 +109,7 @@ class CategoryControllerTest {
         adminId = "admin123";
 
         given(jwtUtil.extractTokenFromHeader("Bearer " + validToken)).willReturn(validToken);
-        given(jwtUtil.isTokenValid(validToken)).willReturn(true);
-        given(jwtUtil.extractAdminId(validToken))
-                .willReturn(adminId);
+        given(jwtUtil.authenticate(validToken)).willReturn(adminId);
 
         sampleResponse = createSampleResponse(1L, "상의", "상의 카테고리", null, 0, Gender.A, 1);
     }
@@ -216,6 +262,67 @@ class CategoryControllerTest {
 
             verify(categoryService, never()).createCategory(any(), any());
         }
+
+        @Test
+        @DisplayName("성공 - 트리 일괄 생성")
+        void createCategoryTree_Success() throws Exception {
+            CategoryBatchRequest request = CategoryBatchRequest.builder()
+                    .categories(Collections.singletonList(CategoryBatchRequest.Node.builder()
+                            .name("브랜드관")
+                            .children(Collections.singletonList(CategoryBatchRequest.Node.builder().name("상의").build()))
+                            .build()))
+                    .build();
+            given(categoryService.createCategoryTree(ArgumentMatchers.any(CategoryBatchRequest.class), eq(adminId)))
+                    .willReturn(CategoryBatchResponse.of(2, Collections.singletonList(10L)));
+
+            mockMvc.perform(post("/api/categories/batch")
+                            .header("Authorization", "Bearer " + validToken)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isCreated())
+                    .andExpect(jsonPath("$.data.createdCount").value(2))
+                    .andExpect(jsonPath("$.data.rootIds[0]").value(10));
+        }
+
+        @Test
+        @DisplayName("실패 - 트리 일괄 생성 시 카테고리 목록 누락")
+        void createCategoryTree_WithoutCategories_Return400() throws Exception {
+            mockMvc.perform(post("/api/categories/batch")
+                            .header("Authorization", "Bearer " + validToken)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"parentId\": 1}"))
+                    .andExpect(status().isBadRequest());
+
+            verify(categoryService, never()).createCategoryTree(any(), any());
+        }
+
+        @Test
+        @DisplayName("성공 - CSV 가져오기는 Content-Type 으로 형식 결정")
+        void importCategories_Csv_Success() throws Exception {
+            given(importService.importCategories(any(), eq(ImportFormat.CSV), eq(500), eq(adminId)))
+                    .willReturn(CategoryImportResponse.builder().totalRows(1).importedRows(1)
+                            .errors(Collections.emptyList()).build());
+
+            mockMvc.perform(post("/api/categories/import")
+                            .header("Authorization", "Bearer " + validToken)
+                            .param("chunkSize", "500")
+                            .contentType("text/csv;charset=UTF-8")
+                            .content("externalKey,name\nk1,상의"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.importedRows").value(1));
+        }
+
+        @Test
+        @DisplayName("실패 - 가져오기는 NDJSON/CSV 만 허용")
+        void importCategories_Json_Return415() throws Exception {
+            mockMvc.perform(post("/api/categories/import")
+                            .header("Authorization", "Bearer " + validToken)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("[]"))
+                    .andExpect(status().isUnsupportedMediaType());
+
+            verify(importService, never()).importCategories(any(), any(), anyInt(), any());
+        }
     }
 
     @Nested
@@ -287,6 +394,54 @@ class CategoryControllerTest {
 
             verify(categoryService, never()).updateCategory(any(), any(), any());
         }
+
+        @Test
+        @DisplayName("성공 - 하위 카테고리 순서 일괄 변경")
+        void reorderChildren_Success() throws Exception {
+            CategoryOrderRequest request = CategoryOrderRequest.builder()
+                    .categoryIds(Arrays.asList(3L, 2L))
+                    .build();
+            given(categoryService.reorderChildren(1L, Arrays.asList(3L, 2L), adminId))
+                    .willReturn(CategoryOrderResponse.of(1L, 1, false));
+
+            mockMvc.perform(put("/api/categories/{parentId}/order", 1L)
+                            .header("Authorization", "Bearer " + validToken)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.parentId").value(1))
+                    .andExpect(jsonPath("$.data.updatedCount").value(1))
+                    .andExpect(jsonPath("$.data.rebalanced").value(false));
+        }
+
+        @Test
+        @DisplayName("성공 - 루트 카테고리 순서 변경은 parentId 없이")
+        void reorderRoots_Success() throws Exception {
+            CategoryOrderRequest request = CategoryOrderRequest.builder()
+                    .categoryIds(Arrays.asList(2L, 1L))
+                    .build();
+            given(categoryService.reorderChildren(null, Arrays.asList(2L, 1L), adminId))
+                    .willReturn(CategoryOrderResponse.of(null, 2, true));
+
+            mockMvc.perform(put("/api/categories/roots/order")
+                            .header("Authorization", "Bearer " + validToken)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.rebalanced").value(true));
+        }
+
+        @Test
+        @DisplayName("실패 - 순서를 정할 카테고리가 비어 있음")
+        void reorderChildren_EmptyIds_Return400() throws Exception {
+            mockMvc.perform(put("/api/categories/{parentId}/order", 1L)
+                            .header("Authorization", "Bearer " + validToken)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(new CategoryOrderRequest(Collections.emptyList()))))
+                    .andExpect(status().isBadRequest());
+
+            verify(categoryService, never()).reorderChildren(any(), any(), any());
+        }
     }
 
     @Nested
@@ -297,7 +452,7 @@ class CategoryControllerTest {
         @DisplayName("성공 - 논리적 삭제")
         void deleteCategory_Success() throws Exception {
             Long categoryId = 1L;
-            doNothing().when(categoryService).deleteCategory(eq(categoryId), eq(adminId));
+            given(categoryService.deleteCategory(eq(categoryId), eq(adminId), eq(false))).willReturn(1);
 
             mockMvc.perform(delete("/api/categories/{id}", categoryId)
                             .header("Authorization", "Bearer " + validToken))
@@ -305,14 +460,14 @@ class CategoryControllerTest {
                     .andExpect(jsonPath("$.success").value(true))
                     .andExpect(jsonPath("$.message").value("카테고리가 성공적으로 삭제되었습니다"));
 
-            verify(categoryService).deleteCategory(eq(categoryId), eq(adminId));
+            verify(categoryService).deleteCategory(eq(categoryId), eq(adminId), eq(false));
         }
 
         @Test
         @DisplayName("성공 - 물리적 삭제")
         void realDeleteCategory_Success() throws Exception {
             Long categoryId = 1L;
-            doNothing().when(categoryService).realDeleteCategory(eq(categoryId), eq(adminId));
+            given(categoryService.realDeleteCategory(eq(categoryId), eq(adminId), eq(false))).willReturn(1);
             
             mockMvc.perform(delete("/api/categories/{id}/real", categoryId)
                             .param("confirm", "true")
@@ -321,7 +476,22 @@ class CategoryControllerTest {
                     .andExpect(jsonPath("$.success").value(true))
                     .andExpect(jsonPath("$.message").value("카테고리가 완전히 삭제되었습니다"));
 
-            verify(categoryService).realDeleteCategory(eq(categoryId), eq(adminId));
+            verify(categoryService).realDeleteCategory(eq(categoryId), eq(adminId), eq(false));
+        }
+
+        @Test
+        @DisplayName("성공 - 하위 트리 일괄 삭제 시 영향받은 수 반환")
+        void deleteCategory_Cascade_ReturnsAffectedCount() throws Exception {
+            Long categoryId = 1L;
+            given(categoryService.deleteCategory(eq(categoryId), eq(adminId), eq(true))).willReturn(12);
+
+            mockMvc.perform(delete("/api/categories/{id}", categoryId)
+                            .param("cascade", "true")
+                            .header("Authorization", "Bearer " + validToken))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.id").value(1))
+                    .andExpect(jsonPath("$.data.cascade").value(true))
+                    .andExpect(jsonPath("$.data.affectedCount").value(12));
         }
 
         @ParameterizedTest
@@ -334,7 +504,7 @@ class CategoryControllerTest {
                     .andExpect(status().isBadRequest())
                     .andExpect(jsonPath("$.code").value(ErrorCode.INVALID_INPUT_VALUE.getCode()));
 
-            verify(categoryService, never()).realDeleteCategory(any(), any());
+            verify(categoryService, never()).realDeleteCategory(any(), any(), anyBoolean());
         }
 
         @Test
@@ -344,7 +514,7 @@ class CategoryControllerTest {
                             .header("Authorization", "Bearer " + validToken))
                     .andExpect(status().isBadRequest());
 
-            verify(categoryService, never()).realDeleteCategory(any(), any());
+            verify(categoryService, never()).realDeleteCategory(any(), any(), anyBoolean());
         }
     }
 
@@ -360,8 +530,8 @@ class CategoryControllerTest {
                     sampleResponse,
                     createSampleResponse(2L, "하의", "하의 카테고리", null, 0, Gender.A, 2)
             );
-            given(categoryService.getRootCategories(Gender.A))
-                    .willReturn(categories);
+            given(payloadCache.getRoots(Gender.A, CategoryFields.ALL, ResponseFormat.JSON))
+                    .willReturn(toPayload(categories));
 
             mockMvc.perform(get("/api/categories/roots")
                             .param("gender", "A"))
@@ -371,6 +541,72 @@ class CategoryControllerTest {
                     .andExpect(jsonPath("$.data[1].name").value("하의"));
         }
 
+        @Test
+        @DisplayName("성공 - NDJSON 내보내기는 비동기 스트리밍으로 응답")
+        void exportCategories_StreamsNdjson() throws Exception {
+            willAnswer(invocation -> {
+                OutputStream output = invocation.getArgument(0);
+                output.write("{\"id\":1}\n{\"id\":2}\n".getBytes(StandardCharsets.UTF_8));
+                return 2L;
+            }).given(exportService).exportCategories(any(), eq(true), eq(Gender.M));
+
+            MvcResult started = mockMvc.perform(get("/api/categories/export")
+                            .header("Authorization", "Bearer " + validToken)
+                            .param("includeInactive", "true")
+                            .param("gender", "M"))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            mockMvc.perform(asyncDispatch(started))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith(ImportFormat.NDJSON_VALUE))
+                    .andExpect(content().string("{\"id\":1}\n{\"id\":2}\n"));
+        }
+
+        @Test
+        @DisplayName("실패 - 내보내기는 관리자 토큰 없이 호출 불가 (스트리밍 시작 전에 거부)")
+        void exportCategories_RequiresAdmin() throws Exception {
+            mockMvc.perform(get("/api/categories/export")
+                            .param("includeInactive", "true"))
+                    .andExpect(request().asyncNotStarted())
+                    .andExpect(status().isUnauthorized())
+                    .andExpect(jsonPath("$.code").value("A002"));
+
+            verify(exportService, never()).exportCategories(any(), anyBoolean(), any());
+        }
+
+        @Test
+        @DisplayName("성공 - cursor/size 를 주면 키셋 페이지로 조회")
+        void getAllCategories_Page() throws Exception {
+            given(categoryService.getAllCategoriesPage(Gender.A, "abc", 2))
+                    .willReturn(CategoryPageResponse.of(Collections.singletonList(sampleResponse), "next"));
+
+            mockMvc.perform(get("/api/categories")
+                            .param("cursor", "abc")
+                            .param("size", "2"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.items", hasSize(1)))
+                    .andExpect(jsonPath("$.data.nextCursor").value("next"))
+                    .andExpect(jsonPath("$.data.hasNext").value(true));
+
+            verify(payloadCache, never()).getAll(any());
+        }
+
+        @Test
+        @DisplayName("성공 - 하위 카테고리는 size 만 주면 첫 페이지")
+        void getDirectChildren_FirstPage() throws Exception {
+            given(categoryService.getDirectChildrenPage(1L, null, 10))
+                    .willReturn(CategoryPageResponse.of(Collections.singletonList(sampleResponse), null));
+
+            mockMvc.perform(get("/api/categories/{id}/children", 1L)
+                            .param("size", "10"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.items[0].name").value("상의"))
+                    .andExpect(jsonPath("$.data.hasNext").value(false));
+
+            verify(categoryService, never()).getDirectChildren(any());
+        }
+
         @Test
         @DisplayName("성공 - 그냥 전체 조회")
         void getAllCategories_Success() throws Exception {
@@ -379,8 +615,8 @@ class CategoryControllerTest {
                     sampleResponse,
                     createSampleResponse(2L, "하의", "하의 카테고리", null, 0, Gender.A, 2)
             );
-            given(categoryService.getAllCategories(Gender.A))
-                    .willReturn(categories);
+            given(payloadCache.getAll(Gender.A, CategoryFields.ALL, ResponseFormat.JSON))
+                    .willReturn(toPayload(categories));
 
             mockMvc.perform(get("/api/categories")
                             .param("gender", "A"))
@@ -401,6 +637,117 @@ class CategoryControllerTest {
                     .andExpect(jsonPath("$.data.name").value("상의"));
         }
 
+        @Test
+        @DisplayName("성공 - fields 로 응답 속성 제한")
+        void getCategory_WithFields() throws Exception {
+            given(categoryService.getCategoryById(1L))
+                    .willReturn(sampleResponse);
+
+            mockMvc.perform(get("/api/categories/1")
+                            .param("fields", "id,name"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.success").value(true))
+                    .andExpect(jsonPath("$.data.name").value("상의"))
+                    .andExpect(jsonPath("$.data.description").doesNotExist())
+                    .andExpect(jsonPath("$.data.createdAt").doesNotExist())
+                    .andExpect(jsonPath("$.data.children").doesNotExist());
+        }
+
+        @Test
+        @DisplayName("성공 - 트리 조회 시 정규화된 fields 로 캐시 조회")
+        void getCategoryTree_WithFields() throws Exception {
+            CategoryFields fields = CategoryFields.parse("children,id,name");
+            given(payloadCache.getTree(null, Gender.A, fields, ResponseFormat.JSON))
+                    .willReturn(toPayload(Arrays.asList(sampleResponse)));
+
+            mockMvc.perform(get("/api/categories/tree")
+                            .param("fields", "name, id,children"))
+                    .andExpect(status().isOk());
+
+            verify(payloadCache).getTree(null, Gender.A, fields, ResponseFormat.JSON);
+        }
+
+        @ParameterizedTest
+        @EnumSource(value = ResponseFormat.class, names = {"CBOR", "SMILE"})
+        @DisplayName("성공 - Accept 가 바이너리 형식이면 해당 형식으로 캐시된 트리 반환")
+        void getCategoryTree_BinaryFormat(ResponseFormat format) throws Exception {
+            CachedPayload payload = new CachedPayload(new byte[]{1, 2, 3});
+            given(payloadCache.getTree(null, Gender.A, CategoryFields.ALL, format)).willReturn(payload);
+
+            mockMvc.perform(get("/api/categories/tree")
+                            .accept(format.getMediaType(), MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType(format.getMediaType()))
+                    .andExpect(content().bytes(payload.getBody()));
+        }
+
+        @Test
+        @DisplayName("성공 - ApiResponse 조회도 Accept 로 CBOR 응답")
+        void getCategory_Cbor() throws Exception {
+            given(categoryService.getCategoryById(1L))
+                    .willReturn(sampleResponse);
+
+            byte[] body = mockMvc.perform(get("/api/categories/1")
+                            .accept(MediaType.APPLICATION_CBOR))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                    .andReturn().getResponse().getContentAsByteArray();
+
+            JsonNode data = new ObjectMapper(new CBORFactory()).readTree(body).path("data");
+            assertThat(data.path("name").asText()).isEqualTo("상의");
+        }
+
+        @Test
+        @DisplayName("성공 - Accept 가 열 단위 미디어 타입이면 병렬 배열 트리 반환")
+        void getCategoryTree_Columnar() throws Exception {
+            CategoryResponse parentCategory = createSampleResponse(1L, "상의", null, null, 0, Gender.A, 1);
+            parentCategory.getChildren().add(createSampleResponse(2L, "티셔츠", null, 1L, 1, Gender.M, 2));
+            CachedPayload payload = new CachedPayload(objectMapper.writeValueAsBytes(
+                    ApiResponse.success(CategoryColumnarTree.from(Arrays.asList(parentCategory)))));
+            given(payloadCache.getColumnarTree(null, Gender.A)).willReturn(payload);
+
+            mockMvc.perform(get("/api/categories/tree")
+                            .accept(CategoryColumnarTree.MEDIA_TYPE_VALUE))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith(CategoryColumnarTree.MEDIA_TYPE_VALUE))
+                    .andExpect(header().string(HttpHeaders.VARY, containsString(HttpHeaders.ACCEPT)))
+                    .andExpect(header().string(HttpHeaders.ETAG, payload.getEtag()))
+                    .andExpect(jsonPath("$.data.ids", contains(1, 2)))
+                    .andExpect(jsonPath("$.data.parentIndex", contains(-1, 0)))
+                    .andExpect(jsonPath("$.data.names", contains("상의", "티셔츠")))
+                    .andExpect(jsonPath("$.data.displayOrder", contains(1, 2)))
+                    .andExpect(jsonPath("$.data.genders", contains(3, 1)));
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {"*/*", "application/json", "application/json, */*;q=0.5"})
+        @DisplayName("성공 - 열 단위 미디어 타입을 요청하지 않으면 중첩 트리 반환")
+        void getCategoryTree_DefaultsToNested(String accept) throws Exception {
+            given(payloadCache.getTree(null, Gender.A, CategoryFields.ALL, ResponseFormat.JSON))
+                    .willReturn(toPayload(Arrays.asList(sampleResponse)));
+
+            mockMvc.perform(get("/api/categories/tree")
+                            .header(HttpHeaders.ACCEPT, accept))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                    .andExpect(jsonPath("$.data[0].name").value("상의"));
+
+            verify(payloadCache, never()).getColumnarTree(any(), any());
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {"/api/categories/tree", "/api/categories/1"})
+        @DisplayName("실패 - 알 수 없는 fields 항목")
+        void getCategory_UnknownField(String url) throws Exception {
+            given(categoryService.getCategoryById(1L))
+                    .willReturn(sampleResponse);
+
+            mockMvc.perform(get(url)
+                            .param("fields", "id,password"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.code").value(ErrorCode.INVALID_INPUT_VALUE.getCode()));
+        }
+
         @Test
         @DisplayName("성공 - 하위 카테고리 조회")
         void getDirectChildren_Success() throws Exception {
@@ -427,8 +774,8 @@ class CategoryControllerTest {
             CategoryResponse childCategory = createSampleResponse(2L, "티셔츠", null, 1L, 1, Gender.A, 1);
             parentCategory.getChildren().add(childCategory);
 
-            given(categoryService.getCategoryTree(null, Gender.A))
-                    .willReturn(Arrays.asList(parentCategory));
+            given(payloadCache.getTree(null, Gender.A, CategoryFields.ALL, ResponseFormat.JSON))
+                    .willReturn(toPayload(Arrays.asList(parentCategory)));
             
             mockMvc.perform(get("/api/categories/tree")
                             .param("gender", "A"))
@@ -437,11 +784,95 @@ class CategoryControllerTest {
                     .andExpect(jsonPath("$.data[0].children[0].name").value("티셔츠"));
         }
 
+        @Test
+        @DisplayName("성공 - 트리 조회 시 ETag 헤더 포함")
+        void getCategoryTree_WithETag() throws Exception {
+            CachedPayload payload = toPayload(Arrays.asList(sampleResponse));
+            given(payloadCache.getTree(1L, Gender.M, CategoryFields.ALL, ResponseFormat.JSON)).willReturn(payload);
+
+            mockMvc.perform(get("/api/categories/tree")
+                            .param("categoryId", "1")
+                            .param("gender", "M"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, payload.getEtag()))
+                    .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                    .andExpect(jsonPath("$.data[0].name").value("상의"));
+        }
+
+        @Test
+        @DisplayName("성공 - If-None-Match 가 ETag 와 같으면 304, 본문 없음")
+        void getCategoryTree_NotModified() throws Exception {
+            CachedPayload payload = toPayload(Arrays.asList(sampleResponse));
+            given(payloadCache.getTree(null, Gender.A, CategoryFields.ALL, ResponseFormat.JSON)).willReturn(payload);
+
+            mockMvc.perform(get("/api/categories/tree")
+                            .header(HttpHeaders.IF_NONE_MATCH, payload.getEtag()))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string(HttpHeaders.ETAG, payload.getEtag()))
+                    .andExpect(content().string(""));
+        }
+
+        @Test
+        @DisplayName("성공 - If-None-Match 가 다르면 200")
+        void getCategoryTree_ETagMismatch() throws Exception {
+            given(payloadCache.getTree(null, Gender.A, CategoryFields.ALL, ResponseFormat.JSON)).willReturn(toPayload(Arrays.asList(sampleResponse)));
+
+            mockMvc.perform(get("/api/categories/tree")
+                            .header(HttpHeaders.IF_NONE_MATCH, "\"stale\""))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data", hasSize(1)));
+        }
+
+        @Test
+        @DisplayName("성공 - gzip 허용 시 미리 압축된 본문 반환")
+        void getCategoryTree_Gzip() throws Exception {
+            CachedPayload payload = toPayload(Arrays.asList(sampleResponse));
+            given(payloadCache.getTree(null, Gender.A, CategoryFields.ALL, ResponseFormat.JSON)).willReturn(payload);
+
+            byte[] body = mockMvc.perform(get("/api/categories/tree")
+                            .header(HttpHeaders.ACCEPT_ENCODING, "br, gzip;q=0.8"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                    .andExpect(header().string(HttpHeaders.VARY, containsString(HttpHeaders.ACCEPT_ENCODING)))
+                    .andExpect(header().string(HttpHeaders.ETAG, payload.getGzipEtag()))
+                    .andReturn().getResponse().getContentAsByteArray();
+
+            assertThat(gunzip(body)).isEqualTo(payload.getBody());
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {"gzip;q=0", "identity", "*;q=0, br"})
+        @DisplayName("성공 - gzip 을 허용하지 않으면 원본 반환")
+        void getAllCategories_Identity(String acceptEncoding) throws Exception {
+            CachedPayload payload = toPayload(Arrays.asList(sampleResponse));
+            given(payloadCache.getAll(Gender.A, CategoryFields.ALL, ResponseFormat.JSON)).willReturn(payload);
+
+            mockMvc.perform(get("/api/categories")
+                            .header(HttpHeaders.ACCEPT_ENCODING, acceptEncoding))
+                    .andExpect(status().isOk())
+                    .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                    .andExpect(header().string(HttpHeaders.ETAG, payload.getEtag()))
+                    .andExpect(content().bytes(payload.getBody()));
+        }
+
+        @Test
+        @DisplayName("성공 - gzip 본문도 If-None-Match 일치 시 304")
+        void getRootCategories_GzipNotModified() throws Exception {
+            CachedPayload payload = toPayload(Arrays.asList(sampleResponse));
+            given(payloadCache.getRoots(Gender.A, CategoryFields.ALL, ResponseFormat.JSON)).willReturn(payload);
+
+            mockMvc.perform(get("/api/categories/roots")
+                            .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                            .header(HttpHeaders.IF_NONE_MATCH, payload.getGzipEtag()))
+                    .andExpect(status().isNotModified())
+                    .andExpect(content().string(""));
+        }
+
         @ParameterizedTest
         @ValueSource(strings = {"상", "상의", "티셔", "셔츠"})
         @DisplayName("성공 - 키워드로 검색")
         void searchCategories_VariousKeywords(String keyword) throws Exception {
-            given(categoryService.searchCategories(keyword))
+            given(categoryService.searchCategories(keyword, SearchMode.NAME, 0, 20))
                     .willReturn(Arrays.asList(sampleResponse));
 
             mockMvc.perform(get("/api/categories/search")
@@ -449,13 +880,123 @@ class CategoryControllerTest {
                     .andExpect(status().isOk())
                     .andExpect(jsonPath("$.data", hasSize(1)));
 
-            verify(categoryService).searchCategories(keyword);
+            verify(categoryService).searchCategories(keyword, SearchMode.NAME, 0, 20);
+        }
+
+        @Test
+        @DisplayName("성공 - limit/offset 전달")
+        void searchCategories_WithPaging() throws Exception {
+            given(categoryService.searchCategories("셔츠", SearchMode.NAME, 10, 5))
+                    .willReturn(Arrays.asList(sampleResponse));
+
+            mockMvc.perform(get("/api/categories/search")
+                            .param("keyword", "셔츠")
+                            .param("offset", "10")
+                            .param("limit", "5"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data", hasSize(1)));
+
+            verify(categoryService).searchCategories("셔츠", SearchMode.NAME, 10, 5);
+        }
+
+        @Test
+        @DisplayName("성공 - 초성 검색 모드 전달")
+        void searchCategories_ChosungMode() throws Exception {
+            given(categoryService.searchCategories("ㅂㅍㅌ", SearchMode.CHOSUNG, 0, 20))
+                    .willReturn(Arrays.asList(sampleResponse));
+
+            mockMvc.perform(get("/api/categories/search")
+                            .param("keyword", "ㅂㅍㅌ")
+                            .param("mode", "CHOSUNG"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data", hasSize(1)));
+        }
+
+        @Test
+        @DisplayName("실패 - 지원하지 않는 검색 방식")
+        void searchCategories_FailWithUnknownMode() throws Exception {
+            mockMvc.perform(get("/api/categories/search")
+                            .param("keyword", "상의")
+                            .param("mode", "FUZZY"))
+                    .andExpect(status().isBadRequest());
+
+            verify(categoryService, never()).searchCategories(any(), any(), anyInt(), anyInt());
+        }
+
+        @Test
+        @DisplayName("성공 - 자동완성")
+        void autocomplete_Success() throws Exception {
+            AutocompleteResponse suggestion = AutocompleteResponse.builder()
+                    .id(101L)
+                    .name("반팔 티셔츠")
+                    .breadcrumb("상의 > 반팔 티셔츠")
+                    .path("/1/101")
+                    .depth(1)
+                    .gender(Gender.A)
+                    .build();
+            given(categoryService.autocomplete("반팔", Gender.M, 10))
+                    .willReturn(Arrays.asList(suggestion));
+
+            mockMvc.perform(get("/api/categories/autocomplete")
+                            .param("prefix", "반팔")
+                            .param("gender", "M"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data", hasSize(1)))
+                    .andExpect(jsonPath("$.data[0].breadcrumb").value("상의 > 반팔 티셔츠"));
+        }
+
+        @Test
+        @DisplayName("성공 - 변경분 조회 (fields 적용)")
+        void getChanges_Success() throws Exception {
+            CategoryChangesResponse changes = CategoryChangesResponse.builder()
+                    .version(12L)
+                    .resyncRequired(false)
+                    .changes(Arrays.asList(CategoryChangesResponse.Change.builder()
+                            .version(12L)
+                            .categoryId(1L)
+                            .type(ChangeType.UPDATED)
+                            .category(sampleResponse)
+                            .build()))
+                    .build();
+            given(changeService.getChanges(10L)).willReturn(changes);
+
+            mockMvc.perform(get("/api/categories/changes")
+                            .param("since", "10")
+                            .param("fields", "id,name"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.version").value(12))
+                    .andExpect(jsonPath("$.data.resyncRequired").value(false))
+                    .andExpect(jsonPath("$.data.changes[0].type").value("UPDATED"))
+                    .andExpect(jsonPath("$.data.changes[0].category.name").value("상의"))
+                    .andExpect(jsonPath("$.data.changes[0].category.path").doesNotExist());
+        }
+
+        @Test
+        @DisplayName("실패 - since 누락")
+        void getChanges_FailWithoutSince() throws Exception {
+            mockMvc.perform(get("/api/categories/changes"))
+                    .andExpect(status().isBadRequest());
+
+            verify(changeService, never()).getChanges(anyLong());
+        }
+
+        @Test
+        @DisplayName("성공 - 변경 이벤트 구독 (Last-Event-ID 전달)")
+        void streamEvents_PassesLastEventId() throws Exception {
+            given(eventService.subscribe(42L)).willReturn(new SseEmitter());
+
+            mockMvc.perform(get("/api/categories/events")
+                            .accept(MediaType.TEXT_EVENT_STREAM)
+                            .header("Last-Event-ID", "42"))
+                    .andExpect(request().asyncStarted());
+
+            verify(eventService).subscribe(42L);
         }
 
         @Test
         @DisplayName("성공 - 빈 문자 검색")
         void searchCategories_EmptyResult() throws Exception {
-            given(categoryService.searchCategories("존재하지않음"))
+            given(categoryService.searchCategories("존재하지않음", SearchMode.NAME, 0, 20))
                     .willReturn(Collections.emptyList());
             
             mockMvc.perform(get("/api/categories/search")
@@ -470,7 +1011,7 @@ class CategoryControllerTest {
             mockMvc.perform(get("/api/categories/search"))
                     .andExpect(status().isBadRequest());
 
-            verify(categoryService, never()).searchCategories(any());
+            verify(categoryService, never()).searchCategories(any(), any(), anyInt(), anyInt());
         }
     }
 
@@ -537,8 +1078,8 @@ class CategoryControllerTest {
             String expiredToken = "expired-token";
             given(jwtUtil.extractTokenFromHeader("Bearer " + expiredToken))
                     .willReturn(expiredToken);
-            given(jwtUtil.isTokenValid(expiredToken))
-                    .willReturn(false);
+            given(jwtUtil.authenticate(expiredToken))
+                    .willThrow(new BusinessException(ErrorCode.INVALID_TOKEN));
             CategoryRequest request = CategoryRequest.builder()
                     .name("아무거나")
                     .build();
@@ -560,7 +1101,7 @@ class CategoryControllerTest {
         @DisplayName("실패 - 서버 내부 오류")
         void handleInternalServerError() throws Exception {
             
-            given(categoryService.getAllCategories(any()))
+            given(payloadCache.getAll(any(), any(), any()))
                     .willThrow(new RuntimeException("Database connection failed"));
 
             
@@ -595,6 +1136,16 @@ class CategoryControllerTest {
         }
     }
 
+    private byte[] gunzip(byte[] compressed) throws Exception {
+        try (java.util.zip.GZIPInputStream in = new java.util.zip.GZIPInputStream(new java.io.ByteArrayInputStream(compressed))) {
+            return in.readAllBytes();
+        }
+    }
+
+    private CachedPayload toPayload(List<CategoryResponse> data) throws Exception {
+        return new CachedPayload(objectMapper.writeValueAsBytes(ApiResponse.success(data)));
+    }
+
     private CategoryResponse createSampleResponse(Long id, String name, String description,
                                                   Long parentId, int depth, Gender gender, int displayOrder) {
         return CategoryResponse.builder()
@@ -0,0 +1,76 @@
+package com.musinsa.category.controller;
+
+import com.musinsa.category.cache.CategorySnapshotHolder;
+import com.musinsa.category.entity.Category;
+import com.musinsa.category.enums.Gender;
+import com.musinsa.category.repository.CategoryRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.metrics.AutoConfigureMetrics;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * /actuator/prometheus 노출 확인 (테스트에서는 메트릭 내보내기가 기본으로 꺼져 있어 @AutoConfigureMetrics 필요)
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureMetrics
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("메트릭 엔드포인트 통합 테스트")
+class MetricsEndpointIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private CategorySnapshotHolder snapshotHolder;
+
+    @Test
+    @DisplayName("서비스/트리 조립/직렬화 타이머, 노드 수 게이지, 에러 코드 카운터를 Prometheus 형식으로 노출")
+    void prometheus() throws Exception {
+        categoryRepository.save(Category.builder()
+                .name("상의")
+                .gender(Gender.F)
+                .displayOrder(1)
+                .depth(0)
+                .path("/상의")
+                .isActive(true)
+                .createdBy("admin")
+                .updatedBy("admin")
+                .build());
+        snapshotHolder.refresh();
+
+        mockMvc.perform(get("/api/categories/tree").param("gender", "F"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/categories/{id}", 999999L))
+                .andExpect(status().isNotFound());
+
+        String body = mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(body)
+                .contains("category_service_seconds_bucket{class=\"com.musinsa.category.service.CategoryService\",exception=\"none\",method=\"getCategoryTree\"")
+                .contains("category_service_seconds_count{class=\"com.musinsa.category.service.CategoryService\",exception=\"BusinessException\",method=\"getCategoryById\"")
+                .contains("category_tree_build_seconds_bucket")
+                .contains("category_payload_serialize_seconds_bucket{format=\"json\"")
+                .contains("category_nodes_depth{depth=\"0\"")
+                .contains("category_nodes_gender{gender=\"F\",} 1.0")
+                .contains("category_errors_total{code=\"C001\",error=\"CATEGORY_NOT_FOUND\",}")
+                .contains("category_errors_total{code=\"A003\",error=\"INVALID_TOKEN\",} 0.0")
+                .contains("jwt_verification_seconds_bucket");
+    }
+}
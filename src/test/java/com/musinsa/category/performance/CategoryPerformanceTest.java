@@ -1,11 +1,18 @@
 package com.musinsa.category.performance;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.musinsa.category.cache.CategorySnapshotHolder;
+import com.musinsa.category.dto.CategoryBatchRequest;
+import com.musinsa.category.dto.CategoryColumnarTree;
+import com.musinsa.category.dto.CategoryImportResponse;
 import com.musinsa.category.dto.CategoryRequest;
 import com.musinsa.category.entity.Category;
 import com.musinsa.category.enums.Gender;
+import com.musinsa.category.enums.ImportFormat;
+import com.musinsa.category.repository.CategoryClosureRepository;
 import com.musinsa.category.repository.CategoryRepository;
 import com.musinsa.category.security.JwtUtil;
+import com.musinsa.category.service.CategoryImportService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -18,9 +25,15 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.Enumeration;
+import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
@@ -32,6 +45,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.given;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
@@ -48,6 +62,15 @@ public class CategoryPerformanceTest {
     @Autowired
     private CategoryRepository categoryRepository;
 
+    @Autowired
+    private CategoryClosureRepository closureRepository;
+
+    @Autowired
+    private CategorySnapshotHolder snapshotHolder;
+
+    @Autowired
+    private CategoryImportService importService;
+
     @MockBean
     private JwtUtil jwtUtil;
 
@@ -58,8 +81,7 @@ public class CategoryPerformanceTest {
         // JWT 토큰 모킹
         validToken = "Bearer valid.jwt.token";
         given(jwtUtil.extractTokenFromHeader(validToken)).willReturn("valid.jwt.token");
-        given(jwtUtil.isTokenValid("valid.jwt.token")).willReturn(true);
-        given(jwtUtil.extractAdminId("valid.jwt.token")).willReturn("admin");
+        given(jwtUtil.authenticate("valid.jwt.token")).willReturn("admin");
         given(jwtUtil.getExpirationDate("valid.jwt.token")).willReturn(new Date());
 
         // 테스트 데이터 정리
@@ -88,6 +110,49 @@ public class CategoryPerformanceTest {
         System.out.println("대량 데이터 조회 응답 시간: " + responseTime + "ms");
     }
 
+    @Test
+    @DisplayName("성능 테스트 - 카테고리 트리 일괄 생성 (약 10,000개)")
+    @Transactional
+    void performanceTest_BatchCreate() throws Exception {
+        long categoryCountBefore = categoryRepository.count();
+        long closureCountBefore = closureRepository.count();
+
+        // 루트 10개 x 자식 33개 x 손자 29개 = 9,910개 (응답 시간은 CategoryBatchCreateBenchmark 로 측정)
+        createTreeInBatch("일괄", 10, 33, 29);
+
+        assertThat(categoryRepository.count() - categoryCountBefore).isEqualTo(9_910L);
+        // 자기 자신 행 + 조상 행: 루트 1개, 자식 2개, 손자 3개씩
+        assertThat(closureRepository.count() - closureCountBefore).isEqualTo(10L + 330L * 2 + 9_570L * 3);
+
+        Category root = categoryRepository.searchByName("일괄루트10").get(0);
+        Category child = categoryRepository.searchByName("일괄자식10-33").get(0);
+        Category leaf = categoryRepository.searchByName("일괄손자10-33-29").get(0);
+        assertThat(leaf.getDepth()).isEqualTo(2);
+        assertThat(leaf.getPath()).isEqualTo("/" + root.getId() + "/" + child.getId() + "/" + leaf.getId());
+    }
+
+    @Test
+    @DisplayName("성능 테스트 - NDJSON 스트리밍 가져오기 (10,000행)")
+    @Transactional
+    void performanceTest_StreamingImport() {
+        // 예열
+        importService.importCategories(ndjsonRows("warm", 2, 10), ImportFormat.NDJSON, 1000, "admin");
+
+        long startTime = System.currentTimeMillis();
+
+        // 루트 100개 x 자식 99개 = 10,000행, 파일 전체를 메모리에 만들지 않고 한 줄씩 생성
+        CategoryImportResponse response = importService.importCategories(
+                ndjsonRows("import", 100, 99), ImportFormat.NDJSON, 1000, "admin");
+
+        long responseTime = System.currentTimeMillis() - startTime;
+
+        assertThat(response.getImportedRows()).isEqualTo(10_000);
+        assertThat(response.getFailedRows()).isZero();
+        assertThat(response.getChunkCount()).isEqualTo(10);
+        assertThat(responseTime).isLessThan(6000L);
+        System.out.println("스트리밍 가져오기 응답 시간: " + responseTime + "ms");
+    }
+
     @Test
     @DisplayName("성능 테스트 - 트리 구조 조회")
     @Transactional
@@ -110,9 +175,43 @@ public class CategoryPerformanceTest {
     }
 
     @Test
-    @DisplayName("동시성 테스트 - 카테고리 생성")
+    @DisplayName("성능 테스트 - 트리 열 단위 응답 크기 (약 10,000개)")
+    @Transactional
+    void performanceTest_ColumnarTreeSize() throws Exception {
+        // 루트 10개 x 자식 33개 x 손자 29개 = 9,910개
+        createTreeInBatch("열", 10, 33, 29);
+        snapshotHolder.refresh();
+
+        byte[] nested = mockMvc.perform(get("/api/categories/tree"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+        byte[] columnar = mockMvc.perform(get("/api/categories/tree")
+                        .accept(CategoryColumnarTree.MEDIA_TYPE_VALUE))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.ids.length()").value(9_910))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // 반복되는 속성 이름과 날짜/경로 등이 빠지므로 중첩 JSON 보다 수 배 작아야 함
+        assertThat(columnar.length * 3L).isLessThan(nested.length);
+        System.out.println("트리 응답 크기 - 중첩: " + nested.length + " bytes, 열 단위: " + columnar.length + " bytes");
+    }
+
+    @Test
+    @DisplayName("동시성 테스트 - 같은 부모 아래 카테고리 생성 (displayOrder 자동 할당)")
     void concurrencyTest_CategoryCreation() throws Exception {
         int threadCount = 10;
+        CategoryRequest parentRequest = CategoryRequest.builder()
+                .name("동시생성부모")
+                .gender(Gender.A)
+                .build();
+        String parentResponse = mockMvc.perform(post("/api/categories")
+                        .header("Authorization", validToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(parentRequest)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        long parentId = objectMapper.readTree(parentResponse).path("data").path("id").asLong();
+
         ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
         CountDownLatch latch = new CountDownLatch(threadCount);
 
@@ -129,8 +228,8 @@ public class CategoryPerformanceTest {
                     CategoryRequest request = CategoryRequest.builder()
                             .name("동시생성테스트" + index)
                             .description("동시성 테스트용 카테고리")
+                            .parentId(parentId)
                             .gender(Gender.A)
-                            .displayOrder(index + 1)
                             .build();
 
                     mockMvc.perform(post("/api/categories")
@@ -158,12 +257,13 @@ public class CategoryPerformanceTest {
         // 결과 검증
         System.out.println("성공: " + successCount.get() + ", 실패: " + failureCount.get());
 
-        // 대부분의 요청이 성공해야 함 (최소 70% 이상)
-        assertThat(successCount.get()).isGreaterThanOrEqualTo(threadCount * 7 / 10);
+        // displayOrder 를 원자적으로 발급하므로 모두 성공해야 함
+        assertThat(successCount.get()).isEqualTo(threadCount);
 
-        // 실제 데이터베이스에 저장된 개수 확인
-        List<Category> createdCategories = categoryRepository.findAll();
-        assertThat(createdCategories.size()).isGreaterThanOrEqualTo(successCount.get());
+        // 실제 데이터베이스에 저장된 개수와 순서 중복 여부 확인
+        List<Category> createdCategories = categoryRepository.findAllByParentId(parentId);
+        assertThat(createdCategories).hasSize(threadCount);
+        assertThat(createdCategories).extracting(Category::getDisplayOrder).doesNotHaveDuplicates();
 
         executorService.shutdown();
     }
@@ -234,6 +334,32 @@ public class CategoryPerformanceTest {
         }
 
         categoryRepository.saveAll(categories);
+        snapshotHolder.refresh();
+    }
+
+    // 루트 x 자식 x 손자 트리를 일괄 생성 API 로 생성
+    private void createTreeInBatch(String prefix, int rootCount, int childCount, int grandChildCount) throws Exception {
+        List<CategoryBatchRequest.Node> roots = new ArrayList<>();
+        for (int i = 1; i <= rootCount; i++) {
+            List<CategoryBatchRequest.Node> children = new ArrayList<>();
+            for (int j = 1; j <= childCount; j++) {
+                List<CategoryBatchRequest.Node> grandChildren = new ArrayList<>();
+                for (int k = 1; k <= grandChildCount; k++) {
+                    grandChildren.add(CategoryBatchRequest.Node.builder().name(prefix + "손자" + i + "-" + j + "-" + k).build());
+                }
+                children.add(CategoryBatchRequest.Node.builder().name(prefix + "자식" + i + "-" + j).children(grandChildren).build());
+            }
+            roots.add(CategoryBatchRequest.Node.builder().name(prefix + "루트" + i).children(children).build());
+        }
+        CategoryBatchRequest request = CategoryBatchRequest.builder().categories(roots).build();
+        int expected = rootCount + rootCount * childCount + rootCount * childCount * grandChildCount;
+
+        mockMvc.perform(post("/api/categories/batch")
+                        .header("Authorization", validToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.data.createdCount").value(expected));
     }
 
     // 트리 테스트 데이터 생성
@@ -274,5 +400,45 @@ public class CategoryPerformanceTest {
                 categoryRepository.save(child);
             }
         }
+        snapshotHolder.refresh();
+    }
+
+    /**
+     * 루트마다 자식이 바로 뒤따르는 NDJSON 을 요청 시점에 한 줄씩 만들어 내는 스트림
+     */
+    private InputStream ndjsonRows(String prefix, int rootCount, int childCount) {
+        Iterator<InputStream> lines = new Iterator<>() {
+            private int root;
+            private int child = -1;
+
+            @Override
+            public boolean hasNext() {
+                return root < rootCount;
+            }
+
+            @Override
+            public InputStream next() {
+                String line = child < 0
+                        ? String.format("{\"externalKey\":\"%s-%d\",\"name\":\"%s 루트 %d\"}%n", prefix, root, prefix, root)
+                        : String.format("{\"externalKey\":\"%s-%d-%d\",\"parentKey\":\"%s-%d\",\"name\":\"자식 %d\"}%n",
+                                prefix, root, child, prefix, root, child);
+                if (++child == childCount) {
+                    child = -1;
+                    root++;
+                }
+                return new ByteArrayInputStream(line.getBytes(StandardCharsets.UTF_8));
+            }
+        };
+        return new SequenceInputStream(new Enumeration<>() {
+            @Override
+            public boolean hasMoreElements() {
+                return lines.hasNext();
+            }
+
+            @Override
+            public InputStream nextElement() {
+                return lines.next();
+            }
+        });
     }
 }
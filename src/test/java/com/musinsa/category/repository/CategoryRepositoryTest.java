@@ -1,5 +1,7 @@
 package com.musinsa.category.repository;
 
+import com.musinsa.category.cache.CategoryNode;
+import com.musinsa.category.config.HibernateCacheConfig;
 import com.musinsa.category.entity.Category;
 import com.musinsa.category.enums.Gender;
 import org.junit.jupiter.api.BeforeEach;
@@ -8,15 +10,19 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
 @DataJpaTest
+@Import(HibernateCacheConfig.class)
 @ActiveProfiles("test")
 @DisplayName("CategoryRepositoryTest 단위 테스트")
 class CategoryRepositoryTest {
@@ -27,6 +33,9 @@ class CategoryRepositoryTest {
     @Autowired
     private CategoryRepository categoryRepository;
 
+    @Autowired
+    private CategoryClosureRepository closureRepository;
+
     private Category rootCategory;
     private Category childCategory;
     private Category inactiveCategory;
@@ -49,6 +58,30 @@ class CategoryRepositoryTest {
 
         femaleCategory = createCategory("여성카테고리", null, 4, Gender.F, true, "/5", 0);
         entityManager.persistAndFlush(femaleCategory);
+
+        closureRepository.rebuildFromParents();
+    }
+
+    @Test
+    @DisplayName("내보내기 커서 - 성별/비활성 조건과 id 순 정렬")
+    void streamNodes_FiltersAndOrdersById() {
+        List<CategoryNode> active;
+        try (Stream<CategoryNode> nodes = categoryRepository.streamNodes(false, Gender.M.name())) {
+            active = nodes.collect(Collectors.toList());
+        }
+        List<CategoryNode> all;
+        try (Stream<CategoryNode> nodes = categoryRepository.streamNodes(true, Gender.A.name())) {
+            all = nodes.collect(Collectors.toList());
+        }
+
+        assertThat(active).extracting(CategoryNode::getName)
+                .contains("루트카테고리", "자식카테고리", "남성카테고리")
+                .doesNotContain("비활성카테고리", "여성카테고리");
+        assertThat(all).extracting(CategoryNode::getName)
+                .contains("비활성카테고리", "여성카테고리");
+        assertThat(all).extracting(CategoryNode::getId).isSorted();
+        assertThat(all).filteredOn(node -> node.getId().equals(childCategory.getId()))
+                .extracting(CategoryNode::getParentId).containsExactly(rootCategory.getId());
     }
 
     @Test
@@ -160,11 +193,35 @@ class CategoryRepositoryTest {
     @Test
     @DisplayName("하위 카테고리들 조회")
     void findDescendants() {
-        String parentPath = "/1";
-        List<Category> result = categoryRepository.findDescendants(parentPath, Gender.A.name());
+        List<Category> result = categoryRepository.findDescendants(rootCategory.getId(), Gender.A.name());
         assertThat(result).hasSize(1);
         assertThat(result.get(0).getName()).isEqualTo("자식카테고리");
-        assertThat(result.get(0).getPath()).startsWith(parentPath + "/");
+    }
+
+    @Test
+    @DisplayName("조상 카테고리들 조회 - 루트부터 순서대로")
+    void findAncestors() {
+        Category grandChild = createCategory("손자카테고리", childCategory, 1, Gender.A, true, "/1/2/6", 2);
+        entityManager.persistAndFlush(grandChild);
+        closureRepository.insertNode(grandChild.getId(), childCategory.getId());
+
+        List<Category> result = categoryRepository.findAncestors(grandChild.getId());
+        assertThat(result).extracting("name").containsExactly("루트카테고리", "자식카테고리");
+    }
+
+    @Test
+    @DisplayName("하위 트리 이동 - 클로저 행이 새 부모 기준으로 바뀜")
+    void moveSubtree() {
+        Category grandChild = createCategory("손자카테고리", childCategory, 1, Gender.A, true, "/1/2/6", 2);
+        entityManager.persistAndFlush(grandChild);
+        closureRepository.insertNode(grandChild.getId(), childCategory.getId());
+
+        closureRepository.moveSubtree(childCategory.getId(), maleCategory.getId());
+
+        assertThat(closureRepository.existsByAncestorIdAndDescendantId(rootCategory.getId(), grandChild.getId())).isFalse();
+        assertThat(closureRepository.existsByAncestorIdAndDescendantId(maleCategory.getId(), grandChild.getId())).isTrue();
+        assertThat(closureRepository.existsByAncestorIdAndDescendantId(childCategory.getId(), grandChild.getId())).isTrue();
+        assertThat(categoryRepository.findDescendants(rootCategory.getId(), Gender.A.name())).isEmpty();
     }
 
     @Test
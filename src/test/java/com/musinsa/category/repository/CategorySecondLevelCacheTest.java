@@ -0,0 +1,152 @@
+package com.musinsa.category.repository;
+
+import com.musinsa.category.entity.Category;
+import com.musinsa.category.enums.Gender;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 2차 캐시 / 쿼리 캐시 적중과 무효화 (트랜잭션마다 커밋되어야 하므로 @Transactional 없이 실행)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Category 2차 캐시 테스트")
+class CategorySecondLevelCacheTest {
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private CategoryClosureRepository closureRepository;
+
+    @Autowired
+    private CategoryBatchRepository batchRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Statistics statistics;
+    private Category parent;
+    private Category first;
+    private Category second;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        transactionTemplate.executeWithoutResult(status -> {
+            parent = categoryRepository.save(category("상의", null, 1, 0));
+            first = categoryRepository.save(category("반팔", parent, 1, 1));
+            second = categoryRepository.save(category("긴팔", parent, 2, 1));
+        });
+        entityManagerFactory.getCache().evictAll();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> {
+            closureRepository.deleteAllInBatch();
+            categoryRepository.deleteAllById(Arrays.asList(first.getId(), second.getId(), parent.getId()));
+        });
+    }
+
+    @Test
+    @DisplayName("같은 카테고리를 다시 조회하면 DB 를 거치지 않고 쿼리/엔티티 캐시에서 반환")
+    void findActiveById_HitsCache() {
+        transactionTemplate.execute(status -> categoryRepository.findActiveById(first.getId()));
+        long queries = statistics.getPrepareStatementCount();
+
+        Category cached = transactionTemplate.execute(status -> categoryRepository.findActiveById(first.getId()).orElseThrow());
+
+        assertThat(cached.getName()).isEqualTo("반팔");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(queries);
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+        assertThat(statistics.getDomainDataRegionStatistics(Category.class.getName()).getHitCount()).isPositive();
+    }
+
+    @Test
+    @DisplayName("엔티티를 수정하면 캐시된 조회 결과도 바로 새 값")
+    void entityUpdate_InvalidatesCache() {
+        transactionTemplate.execute(status -> categoryRepository.findActiveById(first.getId()));
+
+        transactionTemplate.executeWithoutResult(status ->
+                categoryRepository.findById(first.getId()).orElseThrow().updateInfo("반소매", null, null, null));
+
+        Category updated = transactionTemplate.execute(status -> categoryRepository.findActiveById(first.getId()).orElseThrow());
+        assertThat(updated.getName()).isEqualTo("반소매");
+    }
+
+    @Test
+    @DisplayName("JDBC 로 순서를 바꿔도 캐시된 자식 목록과 엔티티가 새 순서")
+    void jdbcUpdate_InvalidatesCache() {
+        transactionTemplate.execute(status -> categoryRepository.findChildrenByParentId(parent.getId()));
+
+        transactionTemplate.executeWithoutResult(status -> batchRepository.updateDisplayOrders(
+                Map.of(first.getId(), 3), "admin", LocalDateTime.now()));
+
+        List<Category> children = transactionTemplate.execute(status -> categoryRepository.findChildrenByParentId(parent.getId()));
+        assertThat(children).extracting(Category::getName).containsExactly("긴팔", "반팔");
+        assertThat(children).extracting(Category::getDisplayOrder).containsExactly(2, 3);
+    }
+
+    @Test
+    @DisplayName("클로저 테이블만 바꾸는 네이티브 쿼리는 Category 캐시를 비우지 않음")
+    void closureWrite_KeepsCategoryCache() {
+        transactionTemplate.execute(status -> categoryRepository.findActiveById(first.getId()));
+
+        transactionTemplate.executeWithoutResult(status -> closureRepository.rebuildFromParents());
+
+        assertThat(entityManagerFactory.getCache().contains(Category.class, first.getId())).isTrue();
+    }
+
+    @Test
+    @DisplayName("영역별 적중률 메트릭 노출")
+    void hitRatioGauge() {
+        transactionTemplate.execute(status -> categoryRepository.findActiveById(first.getId()));
+        transactionTemplate.execute(status -> categoryRepository.findActiveById(first.getId()));
+
+        Gauge query = meterRegistry.find("hibernate.cache.hit.ratio").tag("region", "default-query-results-region").gauge();
+        Gauge entity = meterRegistry.find("hibernate.cache.hit.ratio").tag("region", Category.class.getName()).gauge();
+        assertThat(query).isNotNull();
+        assertThat(entity).isNotNull();
+        assertThat(query.value()).isEqualTo(0.5);
+    }
+
+    private Category category(String name, Category parent, int displayOrder, int depth) {
+        return Category.builder()
+                .name(name)
+                .parent(parent)
+                .gender(Gender.A)
+                .displayOrder(displayOrder)
+                .depth(depth)
+                .path("/" + name)
+                .isActive(true)
+                .createdBy("admin")
+                .updatedBy("admin")
+                .build();
+    }
+}
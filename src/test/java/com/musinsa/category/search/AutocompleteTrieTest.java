@@ -0,0 +1,92 @@
+package com.musinsa.category.search;
+
+import com.musinsa.category.cache.CategoryNode;
+import com.musinsa.category.cache.CategorySnapshot;
+import com.musinsa.category.enums.Gender;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("AutocompleteTrie 단위 테스트")
+class AutocompleteTrieTest {
+
+    private AutocompleteTrie trie;
+
+    @BeforeEach
+    void setUp() {
+        trie = AutocompleteTrie.build(CategorySnapshot.of(1L, Arrays.asList(
+                node(1L, "상의", null, "/1", 0, 1, Gender.A),
+                node(2L, "하의", null, "/2", 0, 2, Gender.A),
+                node(101L, "반팔 티셔츠", 1L, "/1/101", 1, 1, Gender.A),
+                node(102L, "반팔 셔츠", 1L, "/1/102", 1, 2, Gender.M),
+                node(103L, "반바지", 2L, "/2/103", 1, 1, Gender.F),
+                node(104L, "상의 세트", 2L, "/2/104", 1, 2, Gender.A))));
+    }
+
+    @Test
+    @DisplayName("이름 접두어 - 짧은 이름, displayOrder 순으로 이름 경로와 함께 반환")
+    void suggest_ByNamePrefix() {
+        List<Suggestion> suggestions = trie.suggest("반", Gender.A, 10);
+
+        assertThat(breadcrumbs(suggestions)).containsExactly("하의 > 반바지", "상의 > 반팔 셔츠", "상의 > 반팔 티셔츠");
+    }
+
+    @Test
+    @DisplayName("이름 경로 접두어 - 띄어쓰기/구분자 무시, 이름 일치가 경로 일치보다 우선")
+    void suggest_ByPathPrefix() {
+        assertThat(breadcrumbs(trie.suggest("상의 > 반팔 티", Gender.A, 10))).containsExactly("상의 > 반팔 티셔츠");
+        assertThat(breadcrumbs(trie.suggest("상의", Gender.A, 10)))
+                .containsExactly("상의", "하의 > 상의 세트", "상의 > 반팔 셔츠", "상의 > 반팔 티셔츠");
+    }
+
+    @Test
+    @DisplayName("성별 필터 - 요청 성별 또는 공용(A) 카테고리만")
+    void suggest_FilteredByGender() {
+        assertThat(names(trie.suggest("반팔", Gender.M, 10))).containsExactly("반팔 셔츠", "반팔 티셔츠");
+        assertThat(names(trie.suggest("반팔", Gender.F, 10))).containsExactly("반팔 티셔츠");
+        assertThat(names(trie.suggest("반", Gender.F, 10))).containsExactly("반바지", "반팔 티셔츠");
+    }
+
+    @Test
+    @DisplayName("limit 적용, 일치하는 접두어가 없으면 빈 목록")
+    void suggest_LimitAndNoMatch() {
+        assertThat(trie.suggest("반", Gender.A, 1)).hasSize(1);
+        assertThat(trie.suggest("반팔 티셔츠 긴팔", Gender.A, 10)).isEmpty();
+        assertThat(trie.suggest("아우터", Gender.A, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("노드별 상위 후보는 최대 개수까지만 유지")
+    void suggest_KeepsTopSuggestionsOnly() {
+        List<CategoryNode> nodes = new ArrayList<>();
+        for (long id = 1; id <= 30; id++) {
+            nodes.add(node(id, "티셔츠" + id, null, "/" + id, 0, (int) id, Gender.A));
+        }
+        AutocompleteTrie large = AutocompleteTrie.build(CategorySnapshot.of(1L, nodes));
+
+        List<Suggestion> suggestions = large.suggest("티셔", Gender.A, 100);
+
+        assertThat(suggestions).hasSize(AutocompleteTrie.MAX_SUGGESTIONS);
+        assertThat(names(suggestions).get(0)).isEqualTo("티셔츠1");
+    }
+
+    private static CategoryNode node(Long id, String name, Long parentId, String path, int depth, int displayOrder, Gender gender) {
+        return new CategoryNode(id, name, null, gender, parentId, displayOrder, true, path, depth,
+                null, null, null, null);
+    }
+
+    private static List<String> breadcrumbs(List<Suggestion> suggestions) {
+        return suggestions.stream().map(Suggestion::getBreadcrumb).collect(Collectors.toList());
+    }
+
+    private static List<String> names(List<Suggestion> suggestions) {
+        return suggestions.stream().map(suggestion -> suggestion.getNode().getName()).collect(Collectors.toList());
+    }
+}
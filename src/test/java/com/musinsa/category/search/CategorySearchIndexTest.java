@@ -0,0 +1,190 @@
+package com.musinsa.category.search;
+
+import com.musinsa.category.cache.CategoryNode;
+import com.musinsa.category.cache.CategorySnapshot;
+import com.musinsa.category.cache.CategorySnapshotHolder;
+import com.musinsa.category.enums.Gender;
+import com.musinsa.category.event.CategoryChangedEvent;
+import com.musinsa.category.repository.CategoryRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CategorySearchIndex 단위 테스트")
+class CategorySearchIndexTest {
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @Mock
+    private CategorySnapshotHolder snapshotHolder;
+
+    @InjectMocks
+    private CategorySearchIndex searchIndex;
+
+    @Test
+    @DisplayName("정확히 일치 > 앞부분 일치 > 단어 앞부분 일치 > 부분 일치 순으로 정렬")
+    void search_RankedByMatchQuality() {
+        CategorySnapshot snapshot = givenSnapshot(
+                node(1L, "롱티셔츠", true),
+                node(2L, "반팔 티셔츠", true),
+                node(3L, "티셔츠 세트", true),
+                node(4L, "티셔츠", true),
+                node(5L, "바지", true));
+
+        List<CategoryNode> results = searchIndex.search("티셔츠", snapshot, 0, 20);
+
+        assertThat(names(results)).containsExactly("티셔츠", "티셔츠 세트", "반팔 티셔츠", "롱티셔츠");
+    }
+
+    @Test
+    @DisplayName("자모가 분리된(NFD) 검색어와 띄어쓰기 차이도 같은 음절로 매칭")
+    void search_NormalizesHangulAndWhitespace() {
+        CategorySnapshot snapshot = givenSnapshot(node(1L, "반팔 티셔츠", true), node(2L, "Denim 팬츠", true));
+
+        assertThat(names(searchIndex.search(Normalizer.normalize("티셔츠", Normalizer.Form.NFD), snapshot, 0, 20)))
+                .containsExactly("반팔 티셔츠");
+        assertThat(names(searchIndex.search("반팔티", snapshot, 0, 20))).containsExactly("반팔 티셔츠");
+        assertThat(names(searchIndex.search("DENIM", snapshot, 0, 20))).containsExactly("Denim 팬츠");
+    }
+
+    @Test
+    @DisplayName("gram 이 모두 있어도 연속으로 포함되지 않으면 제외")
+    void search_VerifiesContiguousMatch() {
+        CategorySnapshot snapshot = givenSnapshot(node(1L, "셔츠티셔", true));
+
+        assertThat(searchIndex.search("티셔츠", snapshot, 0, 20)).isEmpty();
+        assertThat(searchIndex.search("츠티", snapshot, 0, 20)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("offset/limit 적용")
+    void search_WithOffsetAndLimit() {
+        CategorySnapshot snapshot = givenSnapshot(
+                node(1L, "셔츠", true),
+                node(2L, "셔츠A", true),
+                node(3L, "셔츠AB", true),
+                node(4L, "셔츠ABC", true));
+
+        assertThat(names(searchIndex.search("셔츠", snapshot, 1, 2))).containsExactly("셔츠A", "셔츠AB");
+        assertThat(names(searchIndex.search("셔츠", snapshot, 3, 2))).containsExactly("셔츠ABC");
+        assertThat(searchIndex.search("셔츠", snapshot, 4, 2)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("초성 검색 - 이름/단어 앞부분부터 일치, 초성 전체 일치 우선")
+    void searchChosung_MatchesNameAndWordStarts() {
+        CategorySnapshot snapshot = givenSnapshot(
+                node(1L, "반팔 티셔츠", true),
+                node(2L, "티셔츠", true),
+                node(3L, "롱티셔츠", true),
+                node(4L, "바지", true));
+
+        assertThat(names(searchIndex.searchChosung("ㅂㅍㅌ", snapshot, 0, 20))).containsExactly("반팔 티셔츠");
+        assertThat(names(searchIndex.searchChosung("ㅌㅅㅊ", snapshot, 0, 20))).containsExactly("티셔츠", "반팔 티셔츠");
+        assertThat(names(searchIndex.searchChosung("ㅂㅈ", snapshot, 0, 20))).containsExactly("바지");
+    }
+
+    @Test
+    @DisplayName("초성 검색 - 완성형 음절이 섞이거나 띄어 쓴 검색어도 초성으로 비교")
+    void searchChosung_MixedSyllablesAndSpaces() {
+        CategorySnapshot snapshot = givenSnapshot(node(1L, "반팔 티셔츠", true), node(2L, "나시 티셔츠", true));
+
+        assertThat(names(searchIndex.searchChosung("반ㅍ", snapshot, 0, 20))).containsExactly("반팔 티셔츠");
+        assertThat(names(searchIndex.searchChosung("ㅂㅍ ㅌ", snapshot, 0, 20))).containsExactly("반팔 티셔츠");
+    }
+
+    @Test
+    @DisplayName("초성 검색 - 이름 변경/비활성화가 초성 색인에도 반영")
+    void searchChosung_FollowsIncrementalUpdates() {
+        CategorySnapshot snapshot = givenSnapshot(node(1L, "반팔 티셔츠", true), node(2L, "반팔 셔츠", true));
+        searchIndex.rebuild();
+        given(categoryRepository.findNodeById(1L)).willReturn(Optional.of(node(1L, "긴팔 티셔츠", true)));
+        given(categoryRepository.findNodeById(2L)).willReturn(Optional.of(node(2L, "반팔 셔츠", false)));
+
+        searchIndex.onCategoryChanged(new CategoryChangedEvent(1L));
+        searchIndex.onCategoryChanged(new CategoryChangedEvent(2L));
+
+        assertThat(searchIndex.searchChosung("ㅂㅍ", snapshot, 0, 20)).isEmpty();
+        assertThat(searchIndex.searchChosung("ㄱㅍ", snapshot, 0, 20)).extracting(CategoryNode::getId).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("이름 변경 이벤트 - 해당 카테고리만 다시 색인")
+    void onCategoryChanged_Renamed() {
+        CategorySnapshot snapshot = givenSnapshot(node(1L, "반팔 티셔츠", true), node(2L, "청바지", true));
+        searchIndex.rebuild();
+        given(categoryRepository.findNodeById(1L)).willReturn(Optional.of(node(1L, "긴팔 셔츠", true)));
+
+        searchIndex.onCategoryChanged(new CategoryChangedEvent(1L));
+
+        assertThat(searchIndex.search("티셔츠", snapshot, 0, 20)).isEmpty();
+        assertThat(searchIndex.search("긴팔", snapshot, 0, 20)).extracting(CategoryNode::getId).containsExactly(1L);
+        assertThat(searchIndex.search("청바지", snapshot, 0, 20)).extracting(CategoryNode::getId).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("비활성화/삭제 이벤트 - 색인에서 제거")
+    void onCategoryChanged_DeactivatedOrDeleted() {
+        CategorySnapshot snapshot = givenSnapshot(node(1L, "반팔 티셔츠", true), node(2L, "긴팔 티셔츠", true));
+        searchIndex.rebuild();
+        given(categoryRepository.findNodeById(1L)).willReturn(Optional.of(node(1L, "반팔 티셔츠", false)));
+        given(categoryRepository.findNodeById(2L)).willReturn(Optional.empty());
+
+        searchIndex.onCategoryChanged(new CategoryChangedEvent(1L));
+        searchIndex.onCategoryChanged(new CategoryChangedEvent(2L));
+
+        assertThat(searchIndex.search("티셔츠", snapshot, 0, 20)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("하위 트리 일괄 삭제 이벤트 - DB 조회 없이 목록의 카테고리를 모두 제거")
+    void onCategoryChanged_SubtreeRemoved() {
+        CategorySnapshot snapshot = givenSnapshot(
+                node(1L, "반팔 티셔츠", true), node(2L, "긴팔 티셔츠", true), node(3L, "티셔츠 세트", true));
+        searchIndex.rebuild();
+
+        searchIndex.onCategoryChanged(CategoryChangedEvent.subtreeRemoved(1L, Arrays.asList(1L, 2L)));
+
+        assertThat(searchIndex.search("티셔츠", snapshot, 0, 20)).extracting(CategoryNode::getId).containsExactly(3L);
+        verify(categoryRepository, never()).findNodeById(any());
+    }
+
+    @Test
+    @DisplayName("색인에 있어도 현재 스냅샷에 없는 카테고리는 제외")
+    void search_SkipsNodesMissingFromSnapshot() {
+        givenSnapshot(node(1L, "반팔 티셔츠", true), node(2L, "긴팔 티셔츠", true));
+        searchIndex.rebuild();
+        CategorySnapshot newer = CategorySnapshot.of(2L, Arrays.asList(node(2L, "긴팔 티셔츠", true)));
+
+        assertThat(searchIndex.search("티셔츠", newer, 0, 20)).extracting(CategoryNode::getId).containsExactly(2L);
+    }
+
+    private CategorySnapshot givenSnapshot(CategoryNode... nodes) {
+        CategorySnapshot snapshot = CategorySnapshot.of(1L, Arrays.asList(nodes));
+        given(snapshotHolder.current()).willReturn(snapshot);
+        return snapshot;
+    }
+
+    private static CategoryNode node(Long id, String name, boolean active) {
+        return new CategoryNode(id, name, null, Gender.A, null, id.intValue(), active, "/" + id, 0,
+                null, null, null, null);
+    }
+
+    private static List<String> names(List<CategoryNode> nodes) {
+        return nodes.stream().map(CategoryNode::getName).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,89 @@
+package com.musinsa.category.security;
+
+import com.musinsa.category.exception.BusinessException;
+import com.musinsa.category.exception.ErrorCode;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("JwtUtil 단위 테스트")
+class JwtUtilTest {
+
+    private static final String SECRET = "musinsa-category-admin-secret-key-for-test-only";
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final JwtUtil jwtUtil = new JwtUtil(SECRET, 3600000, 100, meterRegistry);
+
+    @Test
+    @DisplayName("유효한 토큰 인증 - 관리자 ID 반환, 재요청 시 같은 결과 (서명 검증은 한 번만 기록)")
+    void authenticate_ValidToken() {
+        String token = jwtUtil.generateToken("admin");
+
+        assertThat(jwtUtil.authenticate(token)).isEqualTo("admin");
+        assertThat(jwtUtil.authenticate(token)).isEqualTo("admin");
+        assertThat(meterRegistry.get("jwt.verification").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("서명이 변조된 토큰 - INVALID_TOKEN")
+    void authenticate_TamperedToken() {
+        String token = jwtUtil.generateToken("admin");
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        assertThatThrownBy(() -> jwtUtil.authenticate(tampered))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.INVALID_TOKEN);
+    }
+
+    @Test
+    @DisplayName("다른 키로 서명된 토큰은 캐시된 토큰과 무관하게 거부")
+    void authenticate_ForeignToken() {
+        JwtUtil other = new JwtUtil(SECRET + "-other", 3600000, 100, new SimpleMeterRegistry());
+        jwtUtil.authenticate(jwtUtil.generateToken("admin"));
+
+        assertThatThrownBy(() -> jwtUtil.authenticate(other.generateToken("admin")))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.INVALID_TOKEN);
+    }
+
+    @Test
+    @DisplayName("만료된 토큰 - INVALID_TOKEN")
+    void authenticate_ExpiredToken() {
+        JwtUtil shortLived = new JwtUtil(SECRET, -1000, 100, new SimpleMeterRegistry());
+        String token = shortLived.generateToken("admin");
+
+        assertThatThrownBy(() -> shortLived.authenticate(token))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.INVALID_TOKEN);
+    }
+
+    @Test
+    @DisplayName("캐시된 토큰도 만료 시각이 지나면 다시 검증해 거부")
+    void authenticate_CachedTokenExpires() throws InterruptedException {
+        JwtUtil shortLived = new JwtUtil(SECRET, 1500, 100, new SimpleMeterRegistry());
+        String token = shortLived.generateToken("admin");
+        assertThat(shortLived.authenticate(token)).isEqualTo("admin");
+
+        Thread.sleep(1600);
+
+        assertThatThrownBy(() -> shortLived.authenticate(token))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.INVALID_TOKEN);
+    }
+
+    @Test
+    @DisplayName("토큰 없음 - MISSING_TOKEN")
+    void authenticate_NullToken() {
+        assertThatThrownBy(() -> jwtUtil.authenticate(null))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.MISSING_TOKEN);
+    }
+}
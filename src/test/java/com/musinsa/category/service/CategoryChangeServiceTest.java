@@ -0,0 +1,194 @@
+package com.musinsa.category.service;
+
+import com.musinsa.category.cache.CategoryNode;
+import com.musinsa.category.dto.CategoryChangesResponse;
+import com.musinsa.category.entity.Category;
+import com.musinsa.category.entity.CategoryChange;
+import com.musinsa.category.entity.CategoryTreeVersion;
+import com.musinsa.category.enums.ChangeType;
+import com.musinsa.category.event.CategoryChangeRecordedEvent;
+import com.musinsa.category.exception.BusinessException;
+import com.musinsa.category.exception.ErrorCode;
+import com.musinsa.category.repository.CategoryBatchRepository;
+import com.musinsa.category.repository.CategoryChangeRepository;
+import com.musinsa.category.repository.CategoryRepository;
+import com.musinsa.category.repository.CategoryTreeVersionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CategoryChangeService 단위 테스트")
+class CategoryChangeServiceTest {
+
+    @Mock
+    private CategoryTreeVersionRepository versionRepository;
+
+    @Mock
+    private CategoryChangeRepository changeRepository;
+
+    @Mock
+    private CategoryBatchRepository batchRepository;
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private CategoryChangeService changeService;
+
+    @BeforeEach
+    void setUp() {
+        changeService = new CategoryChangeService(versionRepository, changeRepository, batchRepository,
+                categoryRepository, eventPublisher, Duration.ofDays(7));
+    }
+
+    @Test
+    @DisplayName("기록 - 버전을 올리고 같은 버전으로 변경 로그 추가")
+    void record_IncrementsVersion() {
+        given(versionRepository.increment()).willReturn(1);
+        given(versionRepository.findVersion()).willReturn(Optional.of(8L));
+
+        long version = changeService.record(ChangeType.DEACTIVATED, Arrays.asList(1L, 2L));
+
+        assertThat(version).isEqualTo(8L);
+        verify(batchRepository).insertChanges(eq(8L), eq(ChangeType.DEACTIVATED), eq(Arrays.asList(1L, 2L)),
+                any(LocalDateTime.class));
+        verify(eventPublisher).publishEvent(argThat((Object event) -> event instanceof CategoryChangeRecordedEvent
+                && ((CategoryChangeRecordedEvent) event).getVersion() == 8L));
+    }
+
+    @Test
+    @DisplayName("기록 - 버전 행이 없으면 1 로 생성")
+    void record_CreatesVersionRow() {
+        given(versionRepository.increment()).willReturn(0);
+
+        assertThat(changeService.record(ChangeType.CREATED, 1L)).isEqualTo(1L);
+        verify(versionRepository).saveAndFlush(any(CategoryTreeVersion.class));
+    }
+
+    @Test
+    @DisplayName("조회 - 카테고리별 마지막 변경만 버전 순으로, 삭제된 카테고리는 정보 없이")
+    void getChanges_LatestPerCategory() {
+        given(versionRepository.findCurrent()).willReturn(Optional.of(new CategoryTreeVersion(1, 5L, 0L)));
+        given(changeRepository.countChanges(2L, 5L)).willReturn(4L);
+        given(changeRepository.findChanges(2L, 5L)).willReturn(Arrays.asList(
+                change(3L, 1L, ChangeType.CREATED),
+                change(4L, 2L, ChangeType.UPDATED),
+                change(5L, 1L, ChangeType.MOVED),
+                change(5L, 9L, ChangeType.DEACTIVATED)));
+        given(categoryRepository.findNodesByIdIn(anyCollection()))
+                .willReturn(Arrays.asList(node(1L, "상의"), node(2L, "하의")));
+
+        CategoryChangesResponse response = changeService.getChanges(2L);
+
+        assertThat(response.getVersion()).isEqualTo(5L);
+        assertThat(response.isResyncRequired()).isFalse();
+        List<CategoryChangesResponse.Change> changes = response.getChanges();
+        assertThat(changes).extracting(CategoryChangesResponse.Change::getCategoryId).containsExactly(2L, 1L, 9L);
+        assertThat(changes.get(1).getType()).isEqualTo(ChangeType.MOVED);
+        assertThat(changes.get(1).getCategory().getName()).isEqualTo("상의");
+        // 이후 물리 삭제되어 더 이상 없는 카테고리
+        assertThat(changes.get(2).getType()).isEqualTo(ChangeType.DELETED);
+        assertThat(changes.get(2).getCategory()).isNull();
+    }
+
+    @Test
+    @DisplayName("조회 - 최신 버전이면 빈 변경분")
+    void getChanges_UpToDate() {
+        given(versionRepository.findCurrent()).willReturn(Optional.of(new CategoryTreeVersion(1, 5L, 0L)));
+        given(changeRepository.countChanges(5L, 5L)).willReturn(0L);
+        given(changeRepository.findChanges(5L, 5L)).willReturn(Collections.emptyList());
+
+        CategoryChangesResponse response = changeService.getChanges(5L);
+
+        assertThat(response.isResyncRequired()).isFalse();
+        assertThat(response.getChanges()).isEmpty();
+        verify(categoryRepository, never()).findNodesByIdIn(any());
+    }
+
+    @Test
+    @DisplayName("조회 - 압축된 버전 이전이면 전체 재동기화")
+    void getChanges_ResyncWhenCompacted() {
+        given(versionRepository.findCurrent()).willReturn(Optional.of(new CategoryTreeVersion(1, 50L, 20L)));
+
+        CategoryChangesResponse response = changeService.getChanges(10L);
+
+        assertThat(response.isResyncRequired()).isTrue();
+        assertThat(response.getVersion()).isEqualTo(50L);
+        verify(changeRepository, never()).findChanges(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("조회 - 서버보다 앞선 버전이거나 변경분이 너무 많으면 전체 재동기화")
+    void getChanges_ResyncWhenAheadOrTooMany() {
+        given(versionRepository.findCurrent()).willReturn(Optional.of(new CategoryTreeVersion(1, 50L, 0L)));
+        given(changeRepository.countChanges(1L, 50L)).willReturn((long) CategoryChangeService.MAX_CHANGES + 1);
+
+        assertThat(changeService.getChanges(60L).isResyncRequired()).isTrue();
+        assertThat(changeService.getChanges(1L).isResyncRequired()).isTrue();
+    }
+
+    @Test
+    @DisplayName("조회 실패 - 음수 버전")
+    void getChanges_FailNegativeSince() {
+        assertThatThrownBy(() -> changeService.getChanges(-1L))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_INPUT_VALUE);
+    }
+
+    @Test
+    @DisplayName("압축 - 기준 시각 이전의 마지막 버전까지 삭제하고 압축 버전 갱신")
+    void compact_DeletesUpToVersion() {
+        LocalDateTime before = LocalDateTime.of(2024, 1, 1, 0, 0);
+        given(changeRepository.findMaxVersionChangedBefore(before)).willReturn(Optional.of(30L));
+        given(changeRepository.deleteUpTo(30L)).willReturn(120);
+
+        assertThat(changeService.compact(before)).isEqualTo(120);
+        verify(versionRepository).updateCompactedVersion(30L);
+    }
+
+    @Test
+    @DisplayName("압축 - 대상이 없으면 아무것도 하지 않음")
+    void compact_NothingExpired() {
+        given(changeRepository.findMaxVersionChangedBefore(any())).willReturn(Optional.empty());
+
+        assertThat(changeService.compact(LocalDateTime.now())).isZero();
+        verify(changeRepository, never()).deleteUpTo(anyLong());
+        verify(versionRepository, never()).updateCompactedVersion(anyLong());
+    }
+
+    private CategoryChange change(Long version, Long categoryId, ChangeType type) {
+        return CategoryChange.builder()
+                .version(version)
+                .categoryId(categoryId)
+                .changeType(type)
+                .changedAt(LocalDateTime.now())
+                .build();
+    }
+
+    private CategoryNode node(Long id, String name) {
+        return CategoryNode.from(Category.builder()
+                .id(id)
+                .name(name)
+                .path("/" + id)
+                .build());
+    }
+}
@@ -0,0 +1,208 @@
+package com.musinsa.category.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.musinsa.category.enums.ChangeType;
+import com.musinsa.category.event.CategoryChangeRecordedEvent;
+import com.musinsa.category.exception.BusinessException;
+import com.musinsa.category.exception.ErrorCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("CategoryEventService 단위 테스트")
+class CategoryEventServiceTest {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private ExecutorService pool;
+
+    @AfterEach
+    void tearDown() {
+        if (pool != null) {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("구독 중이면 커밋된 변경을 이벤트 ID(트리 버전)와 함께 전송")
+    void onChangeRecorded_SendsToSubscriber() {
+        CategoryEventService eventService = directService(16, 16);
+        RecordingEmitter emitter = new RecordingEmitter();
+        eventService.register(emitter, null);
+
+        eventService.onChangeRecorded(event(7L, ChangeType.MOVED, 1L, 2L));
+
+        assertThat(emitter.text()).contains("event:change", "id:7", "\"type\":\"MOVED\"", "\"categoryIds\":[1,2]");
+    }
+
+    @Test
+    @DisplayName("Last-Event-ID 이후 이벤트를 버퍼에서 이어서 전송")
+    void register_ReplaysAfterLastEventId() {
+        CategoryEventService eventService = directService(16, 16);
+        for (long version = 1; version <= 3; version++) {
+            eventService.onChangeRecorded(event(version, ChangeType.UPDATED, version));
+        }
+        RecordingEmitter emitter = new RecordingEmitter();
+
+        eventService.register(emitter, 1L);
+
+        assertThat(emitter.text()).contains("id:2", "id:3").doesNotContain("id:1", "event:resync");
+    }
+
+    @Test
+    @DisplayName("커밋 순서가 뒤바뀌어 도착해도 버퍼는 버전 순으로 재전송")
+    void register_ReplaysInVersionOrder() {
+        CategoryEventService eventService = directService(16, 16);
+        eventService.onChangeRecorded(event(1L, ChangeType.CREATED, 1L));
+        eventService.onChangeRecorded(event(3L, ChangeType.UPDATED, 1L));
+        eventService.onChangeRecorded(event(2L, ChangeType.UPDATED, 2L));
+        RecordingEmitter emitter = new RecordingEmitter();
+
+        eventService.register(emitter, 1L);
+
+        String text = emitter.text();
+        assertThat(text.indexOf("id:2")).isLessThan(text.indexOf("id:3"));
+    }
+
+    @Test
+    @DisplayName("버퍼에서 밀려난 구간이면 resync 이벤트")
+    void register_ResyncWhenEvicted() {
+        CategoryEventService eventService = directService(2, 16);
+        for (long version = 1; version <= 4; version++) {
+            eventService.onChangeRecorded(event(version, ChangeType.UPDATED, version));
+        }
+        RecordingEmitter emitter = new RecordingEmitter();
+
+        eventService.register(emitter, 1L);
+
+        assertThat(emitter.text()).contains("event:resync", "data:1").doesNotContain("event:change");
+    }
+
+    @Test
+    @DisplayName("버퍼가 비어 있으면(재시작 등) resync 이벤트")
+    void register_ResyncWhenBufferEmpty() {
+        CategoryEventService eventService = directService(16, 16);
+        RecordingEmitter emitter = new RecordingEmitter();
+
+        eventService.register(emitter, 10L);
+
+        assertThat(emitter.text()).contains("event:resync");
+    }
+
+    @Test
+    @DisplayName("구독자 수 제한 초과 시 실패")
+    void register_FailTooManySubscribers() {
+        CategoryEventService eventService = new CategoryEventService(objectMapper, Runnable::run, 16, 16, 1, Duration.ofMinutes(1));
+        eventService.register(new RecordingEmitter(), null);
+
+        assertThatThrownBy(() -> eventService.register(new RecordingEmitter(), null))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.TOO_MANY_SUBSCRIBERS);
+    }
+
+    @Test
+    @DisplayName("느린 구독자는 쓰기 작업과 다른 구독자를 막지 않고 큐가 차면 연결이 끊김")
+    void onChangeRecorded_SlowSubscriberDoesNotBlock() throws Exception {
+        pool = Executors.newCachedThreadPool();
+        CategoryEventService eventService = new CategoryEventService(objectMapper, pool, 64, 2, 10, Duration.ofMinutes(1));
+        CountDownLatch release = new CountDownLatch(1);
+        BlockingEmitter slow = new BlockingEmitter(release);
+        RecordingEmitter fast = new RecordingEmitter();
+        eventService.register(slow, null);
+        eventService.register(fast, null);
+
+        try {
+            for (long version = 1; version <= 6; version++) {
+                long startedAt = System.nanoTime();
+                eventService.onChangeRecorded(event(version, ChangeType.UPDATED, version));
+                assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt)).isLessThan(1000);
+
+                String id = "id:" + version + "\n";
+                awaitTrue(() -> fast.text().contains(id));
+            }
+            // 전송 중 1개 + 큐 2개를 넘는 순간 느린 구독자만 끊김
+            assertThat(eventService.subscriberCount()).isEqualTo(1);
+            assertThat(slow.completed).isTrue();
+        } finally {
+            release.countDown();
+        }
+    }
+
+    private CategoryEventService directService(int bufferSize, int queueSize) {
+        return new CategoryEventService(objectMapper, Runnable::run, bufferSize, queueSize, 10, Duration.ofMinutes(1));
+    }
+
+    private CategoryChangeRecordedEvent event(long version, ChangeType type, Long... categoryIds) {
+        return new CategoryChangeRecordedEvent(version, type, Arrays.asList(categoryIds), LocalDateTime.now());
+    }
+
+    private void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("5초 안에 조건 충족").isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    /**
+     * 보낸 이벤트를 SSE 텍스트로 모아 두는 emitter
+     */
+    private static class RecordingEmitter extends SseEmitter {
+        private final StringBuffer sent = new StringBuffer();
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            builder.build().forEach(data -> sent.append(data.getData()));
+        }
+
+        String text() {
+            return sent.toString();
+        }
+    }
+
+    /**
+     * 첫 전송에서 멈추는 emitter (응답을 읽지 않는 클라이언트)
+     */
+    private static class BlockingEmitter extends SseEmitter {
+        private final CountDownLatch release;
+        private volatile boolean completed;
+
+        BlockingEmitter(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+        }
+
+        @Override
+        public synchronized void complete() {
+            completed = true;
+            super.complete();
+        }
+    }
+}
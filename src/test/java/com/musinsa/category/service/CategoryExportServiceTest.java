@@ -0,0 +1,89 @@
+package com.musinsa.category.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.musinsa.category.cache.CategoryNode;
+import com.musinsa.category.entity.Category;
+import com.musinsa.category.enums.Gender;
+import com.musinsa.category.repository.CategoryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CategoryExportService 단위 테스트")
+class CategoryExportServiceTest {
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    // 스프링 부트 기본 설정과 같이 날짜를 ISO 문자열로 직렬화
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private CategoryExportService exportService;
+
+    @BeforeEach
+    void setUp() {
+        exportService = new CategoryExportService(categoryRepository, objectMapper);
+    }
+
+    @Test
+    @DisplayName("커서의 각 행을 한 줄씩 NDJSON 으로 쓰고 커서를 닫음")
+    void exportCategories_WritesOneLinePerRow() throws Exception {
+        AtomicBoolean closed = new AtomicBoolean();
+        Stream<CategoryNode> nodes = Stream.of(node(1L, "상의", null), node(2L, "반팔 티셔츠", 1L))
+                .onClose(() -> closed.set(true));
+        given(categoryRepository.streamNodes(false, Gender.A.name())).willReturn(nodes);
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        long count = exportService.exportCategories(output, false, Gender.A);
+
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(count).isEqualTo(2);
+        assertThat(lines).hasSize(2);
+        JsonNode second = objectMapper.readTree(lines[1]);
+        assertThat(second.get("id").asLong()).isEqualTo(2L);
+        assertThat(second.get("name").asText()).isEqualTo("반팔 티셔츠");
+        assertThat(second.get("parentId").asLong()).isEqualTo(1L);
+        assertThat(second.get("createdAt").asText()).isEqualTo("2024-01-01T09:30:15");
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    @DisplayName("행이 없으면 빈 본문")
+    void exportCategories_Empty() throws Exception {
+        given(categoryRepository.streamNodes(true, Gender.F.name())).willReturn(Stream.empty());
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        assertThat(exportService.exportCategories(output, true, Gender.F)).isZero();
+        assertThat(output.size()).isZero();
+    }
+
+    private CategoryNode node(Long id, String name, Long parentId) {
+        Category parent = parentId != null ? Category.builder().id(parentId).build() : null;
+        return CategoryNode.from(Category.builder()
+                .id(id)
+                .name(name)
+                .parent(parent)
+                .path(parent != null ? "/" + parentId + "/" + id : "/" + id)
+                .createdAt(LocalDateTime.of(2024, 1, 1, 9, 30, 15))
+                .build());
+    }
+}
@@ -1,12 +1,30 @@
 package com.musinsa.category.service;
 
+import com.musinsa.category.cache.CategoryNode;
+import com.musinsa.category.cache.CategorySnapshot;
+import com.musinsa.category.cache.CategorySnapshotHolder;
+import com.musinsa.category.dto.AutocompleteResponse;
+import com.musinsa.category.dto.CategoryBatchRequest;
+import com.musinsa.category.dto.CategoryBatchResponse;
+import com.musinsa.category.dto.CategoryOrderResponse;
+import com.musinsa.category.dto.CategoryPageResponse;
 import com.musinsa.category.dto.CategoryRequest;
 import com.musinsa.category.dto.CategoryResponse;
 import com.musinsa.category.entity.Category;
+import com.musinsa.category.enums.ChangeType;
 import com.musinsa.category.enums.Gender;
+import com.musinsa.category.enums.SearchMode;
+import com.musinsa.category.event.CategoryChangedEvent;
 import com.musinsa.category.exception.BusinessException;
 import com.musinsa.category.exception.ErrorCode;
+import com.musinsa.category.repository.CategoryBatchRepository;
+import com.musinsa.category.repository.CategoryClosureRepository;
 import com.musinsa.category.repository.CategoryRepository;
+import com.musinsa.category.search.CategoryAutocompleteIndex;
+import com.musinsa.category.search.CategorySearchIndex;
+import com.musinsa.category.search.Suggestion;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -14,13 +32,20 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -33,6 +58,36 @@ class CategoryServiceTest {
     @Mock
     private CategoryRepository categoryRepository;
 
+    @Mock
+    private CategoryClosureRepository closureRepository;
+
+    @Mock
+    private CategoryBatchRepository batchRepository;
+
+    @Mock
+    private CategorySnapshotHolder snapshotHolder;
+
+    @Mock
+    private CategorySearchIndex searchIndex;
+
+    @Mock
+    private CategoryAutocompleteIndex autocompleteIndex;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private CategoryChangeService changeService;
+
+    @Mock
+    private DisplayOrderAllocator displayOrderAllocator;
+
+    @Spy
+    private TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @InjectMocks
     private CategoryService categoryService;
 
@@ -105,6 +160,71 @@ class CategoryServiceTest {
             verify(categoryRepository).save(any(Category.class));
         }
 
+        @Test
+        @DisplayName("성공 - displayOrder 미지정 시 형제를 읽지 않고 할당기에서 발급")
+        void createCategory_AllocatesDisplayOrder() {
+            CategoryRequest request = CategoryRequest.builder()
+                    .name("티셔츠")
+                    .parentId(1L)
+                    .gender(Gender.A)
+                    .build();
+
+            given(categoryRepository.existsByNameAndParent("티셔츠", 1L)).willReturn(false);
+            given(categoryRepository.findActiveById(1L)).willReturn(Optional.of(parentCategory));
+            given(displayOrderAllocator.next(1L)).willReturn(7);
+            given(categoryRepository.save(any(Category.class)))
+                    .willAnswer(invocation -> createCategoryWithId(invocation.getArgument(0), 2L));
+
+            CategoryResponse response = categoryService.createCategory(request, "admin");
+
+            assertThat(response.getDisplayOrder()).isEqualTo(7);
+            verify(categoryRepository, never()).findChildrenByParentId(anyLong());
+        }
+
+        @Test
+        @DisplayName("성공 - 자동 할당한 displayOrder 가 유니크 제약에 걸리면 카운터를 다시 읽고 재시도")
+        void createCategory_RetriesOnDisplayOrderConflict() {
+            CategoryRequest request = CategoryRequest.builder()
+                    .name("티셔츠")
+                    .parentId(1L)
+                    .gender(Gender.A)
+                    .build();
+
+            given(categoryRepository.existsByNameAndParent("티셔츠", 1L)).willReturn(false);
+            given(categoryRepository.findActiveById(1L)).willReturn(Optional.of(parentCategory));
+            given(displayOrderAllocator.next(1L)).willReturn(3, 4);
+            given(categoryRepository.save(any(Category.class)))
+                    .willThrow(displayOrderConflict())
+                    .willAnswer(invocation -> createCategoryWithId(invocation.getArgument(0), 2L));
+
+            CategoryResponse response = categoryService.createCategory(request, "admin");
+
+            assertThat(response.getDisplayOrder()).isEqualTo(4);
+            verify(displayOrderAllocator).invalidate(1L);
+            verify(categoryRepository, times(2)).save(any(Category.class));
+        }
+
+        @Test
+        @DisplayName("실패 - 지정한 displayOrder 가 동시에 선점되면 재시도 없이 중복 오류")
+        void createCategory_FailExplicitDisplayOrderConflict() {
+            CategoryRequest request = CategoryRequest.builder()
+                    .name("티셔츠")
+                    .parentId(1L)
+                    .gender(Gender.A)
+                    .displayOrder(1)
+                    .build();
+
+            given(categoryRepository.existsByNameAndParent("티셔츠", 1L)).willReturn(false);
+            given(categoryRepository.findActiveById(1L)).willReturn(Optional.of(parentCategory));
+            given(categoryRepository.findByParentIdAndDisplayOrder(1L, 1)).willReturn(Optional.empty());
+            given(categoryRepository.save(any(Category.class))).willThrow(displayOrderConflict());
+
+            assertThatThrownBy(() -> categoryService.createCategory(request, "admin"))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.DISPLAY_ORDER_DUPLICATE);
+            verify(categoryRepository, times(1)).save(any(Category.class));
+        }
+
         @Test
         @DisplayName("실패 - 카테고리명 필수")
         void createCategory_FailWithEmptyName() {
@@ -185,6 +305,135 @@ class CategoryServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("형제 순서 변경")
+    class ReorderChildren {
+
+        @Test
+        @DisplayName("성공 - 옮긴 형제만 갱신하고 변경 기록")
+        void reorderChildren_UpdatesMovedOnly() {
+            Category first = createCategory(3L, "반팔", parentCategory, 1, "/1/3");
+            Category second = createCategory(4L, "긴팔", parentCategory, 1, "/1/4");
+            setField(first, "displayOrder", 1024);
+            setField(second, "displayOrder", 2048);
+            given(categoryRepository.findActiveById(1L)).willReturn(Optional.of(parentCategory));
+            given(categoryRepository.findNodesByParentIdIn(Collections.singletonList(1L)))
+                    .willReturn(Arrays.asList(CategoryNode.from(first), CategoryNode.from(second)));
+
+            CategoryOrderResponse response = categoryService.reorderChildren(1L, Arrays.asList(4L, 3L), "admin");
+
+            assertThat(response.getUpdatedCount()).isEqualTo(1);
+            assertThat(response.isRebalanced()).isFalse();
+            verify(batchRepository).updateDisplayOrders(argThat(changes -> changes.size() == 1), eq("admin"), any());
+            verify(changeService).record(eq(ChangeType.UPDATED), anyCollection());
+            verify(displayOrderAllocator).invalidate(1L);
+        }
+
+        @Test
+        @DisplayName("실패 - 활성 하위 카테고리를 빠짐없이 지정하지 않음")
+        void reorderChildren_FailMissingSibling() {
+            Category first = createCategory(3L, "반팔", parentCategory, 1, "/1/3");
+            Category second = createCategory(4L, "긴팔", parentCategory, 1, "/1/4");
+            given(categoryRepository.findActiveById(1L)).willReturn(Optional.of(parentCategory));
+            given(categoryRepository.findNodesByParentIdIn(Collections.singletonList(1L)))
+                    .willReturn(Arrays.asList(CategoryNode.from(first), CategoryNode.from(second)));
+
+            assertThatThrownBy(() -> categoryService.reorderChildren(1L, Collections.singletonList(3L), "admin"))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_INPUT_VALUE);
+            verify(batchRepository, never()).updateDisplayOrders(any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("실패 - 중복된 카테고리 ID")
+        void reorderChildren_FailDuplicatedId() {
+            given(categoryRepository.findActiveById(1L)).willReturn(Optional.of(parentCategory));
+            given(categoryRepository.findNodesByParentIdIn(Collections.singletonList(1L)))
+                    .willReturn(Collections.singletonList(CategoryNode.from(childCategory)));
+
+            assertThatThrownBy(() -> categoryService.reorderChildren(1L, Arrays.asList(2L, 2L), "admin"))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_INPUT_VALUE);
+        }
+    }
+
+    @Nested
+    @DisplayName("카테고리 트리 일괄 생성")
+    class CreateCategoryTree {
+
+        @Test
+        @DisplayName("성공 - depth 별로 배치 INSERT 후 path/클로저 일괄 반영")
+        void createCategoryTree_Success() {
+            CategoryBatchRequest request = CategoryBatchRequest.builder()
+                    .categories(Arrays.asList(
+                            node("상의", node("반팔"), node("긴팔")),
+                            node("하의")))
+                    .build();
+
+            CategoryBatchResponse response = categoryService.createCategoryTree(request, "admin");
+
+            assertThat(response.getCreatedCount()).isEqualTo(4);
+            verify(batchRepository, times(2)).insertLevel(anyList(), eq("admin"), any(LocalDateTime.class));
+            verify(batchRepository).updatePaths(argThat(rows -> rows.size() == 4));
+            verify(batchRepository).insertClosures(argThat(rows -> rows.size() == 4), eq(Collections.emptyMap()));
+            verify(categoryRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("실패 - 요청 안의 형제 이름 중복이면 INSERT 없이 거절")
+        void createCategoryTree_FailDuplicateSiblingName() {
+            CategoryBatchRequest request = CategoryBatchRequest.builder()
+                    .categories(Collections.singletonList(node("상의", node("반팔"), node("반팔 "))))
+                    .build();
+
+            assertThatThrownBy(() -> categoryService.createCategoryTree(request, "admin"))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.CATEGORY_NAME_DUPLICATE);
+            verifyNoInteractions(batchRepository);
+        }
+
+        @Test
+        @DisplayName("실패 - 최대 깊이 초과")
+        void createCategoryTree_FailDepthExceeded() {
+            CategoryBatchRequest request = CategoryBatchRequest.builder()
+                    .categories(Collections.singletonList(
+                            node("1", node("2", node("3", node("4", node("5", node("6"))))))))
+                    .build();
+
+            assertThatThrownBy(() -> categoryService.createCategoryTree(request, "admin"))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.CATEGORY_DEPTH_EXCEEDED);
+            verifyNoInteractions(batchRepository);
+        }
+
+        @Test
+        @DisplayName("실패 - 기존 형제가 쓰는 순서 지정")
+        void createCategoryTree_FailDisplayOrderTaken() {
+            given(categoryRepository.findActiveById(1L))
+                    .willReturn(Optional.of(parentCategory));
+            given(categoryRepository.findAllByParentId(1L))
+                    .willReturn(Collections.singletonList(childCategory));
+            CategoryBatchRequest.Node node = node("니트");
+            node.setDisplayOrder(1);
+            CategoryBatchRequest request = CategoryBatchRequest.builder()
+                    .parentId(1L)
+                    .categories(Collections.singletonList(node))
+                    .build();
+
+            assertThatThrownBy(() -> categoryService.createCategoryTree(request, "admin"))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.DISPLAY_ORDER_DUPLICATE);
+            verifyNoInteractions(batchRepository);
+        }
+
+        private CategoryBatchRequest.Node node(String name, CategoryBatchRequest.Node... children) {
+            return CategoryBatchRequest.Node.builder()
+                    .name(name)
+                    .children(new ArrayList<>(Arrays.asList(children)))
+                    .build();
+        }
+    }
+
     @Nested
     @DisplayName("카테고리 수정")
     class UpdateCategory {
@@ -210,6 +459,7 @@ class CategoryServiceTest {
 
             assertThat(response.getName()).isEqualTo("수정된이름");
             verify(categoryRepository).findActiveById(1L);
+            verify(changeService).record(ChangeType.UPDATED, 1L);
             verify(categoryRepository).existsByNameAndParent("수정된이름", null);
             verify(categoryRepository).findByParentIdAndDisplayOrder(null, 2);
         }
@@ -239,6 +489,49 @@ class CategoryServiceTest {
                     .isInstanceOf(BusinessException.class)
                     .hasFieldOrPropertyWithValue("errorCode", ErrorCode.CATEGORY_SELF_PARENT);
         }
+
+        @Test
+        @DisplayName("성공 - 부모 변경 시 하위 트리 path/depth 일괄 갱신")
+        void updateCategory_MoveSubtree() {
+            Category newParent = createCategory(3L, "하의", null, 0, "/3");
+            CategoryRequest request = CategoryRequest.builder()
+                    .parentId(3L)
+                    .build();
+
+            given(categoryRepository.findActiveById(2L))
+                    .willReturn(Optional.of(childCategory));
+            given(categoryRepository.findActiveById(3L))
+                    .willReturn(Optional.of(newParent));
+            given(closureRepository.findSubtreeIds(2L))
+                    .willReturn(Arrays.asList(2L, 4L));
+
+            categoryService.updateCategory(2L, request, "admin");
+
+            verify(closureRepository).moveSubtree(2L, 3L);
+            verify(categoryRepository).moveSubtreePath("/1/2", 4, "/3/2", 0);
+            // 하위 카테고리도 이동으로 기록
+            verify(changeService).record(ChangeType.MOVED, Arrays.asList(2L, 4L));
+        }
+
+        @Test
+        @DisplayName("실패 - 하위 카테고리를 부모로 설정")
+        void updateCategory_FailDescendantParent() {
+            CategoryRequest request = CategoryRequest.builder()
+                    .parentId(2L)
+                    .build();
+
+            given(categoryRepository.findActiveById(1L))
+                    .willReturn(Optional.of(parentCategory));
+            given(categoryRepository.findActiveById(2L))
+                    .willReturn(Optional.of(childCategory));
+            given(closureRepository.existsByAncestorIdAndDescendantId(1L, 2L))
+                    .willReturn(true);
+
+            assertThatThrownBy(() -> categoryService.updateCategory(1L, request, "admin"))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.CATEGORY_INVALID_PARENT);
+            verify(closureRepository, never()).moveSubtree(any(), any());
+        }
     }
 
     @Nested
@@ -253,7 +546,7 @@ class CategoryServiceTest {
             given(categoryRepository.findChildrenByParentId(1L))
                     .willReturn(Collections.emptyList());  // 하위 카테고리 없음
 
-            assertThatCode(() -> categoryService.deleteCategory(1L, "admin"))
+            assertThatCode(() -> categoryService.deleteCategory(1L, "admin", false))
                     .doesNotThrowAnyException();
 
             // Repository 호출 검증
@@ -269,10 +562,45 @@ class CategoryServiceTest {
             given(categoryRepository.findChildrenByParentId(1L))
                     .willReturn(Arrays.asList(childCategory));
 
-            assertThatThrownBy(() -> categoryService.deleteCategory(1L, "admin"))
+            assertThatThrownBy(() -> categoryService.deleteCategory(1L, "admin", false))
                     .isInstanceOf(BusinessException.class)
                     .hasFieldOrPropertyWithValue("errorCode", ErrorCode.CATEGORY_HAS_CHILDREN);
         }
+
+        @Test
+        @DisplayName("성공 - 하위 트리 일괄 비활성화")
+        void deleteCategory_Cascade() {
+            given(categoryRepository.findActiveById(1L))
+                    .willReturn(Optional.of(parentCategory));
+            given(closureRepository.findSubtreeIds(1L))
+                    .willReturn(Arrays.asList(1L, 2L));
+            given(categoryRepository.deactivateSubtree(eq(1L), eq("admin"), any(LocalDateTime.class)))
+                    .willReturn(2);
+
+            int affected = categoryService.deleteCategory(1L, "admin", true);
+
+            assertThat(affected).isEqualTo(2);
+            verify(categoryRepository, never()).findChildrenByParentId(any());
+            verify(eventPublisher).publishEvent(argThat((Object event) -> event instanceof CategoryChangedEvent
+                    && ((CategoryChangedEvent) event).getRemovedIds().containsAll(Arrays.asList(1L, 2L))));
+            verify(changeService).record(ChangeType.DEACTIVATED, Arrays.asList(1L, 2L));
+        }
+
+        @Test
+        @DisplayName("성공 - 하위 트리 일괄 물리 삭제")
+        void realDeleteCategory_Cascade() {
+            given(categoryRepository.findActiveById(1L))
+                    .willReturn(Optional.of(parentCategory));
+            given(categoryRepository.deleteSubtree(1L))
+                    .willReturn(3);
+
+            int affected = categoryService.realDeleteCategory(1L, "admin", true);
+
+            assertThat(affected).isEqualTo(3);
+            verify(categoryRepository).detachSubtreeParents(1L);
+            verify(closureRepository).deleteSubtree(1L);
+            verify(categoryRepository, never()).delete(any());
+        }
     }
 
     @Nested
@@ -282,22 +610,29 @@ class CategoryServiceTest {
         @Test
         @DisplayName("성공 - 단일 카테고리 조회")
         void getCategoryById_Success() {
-            given(categoryRepository.findActiveById(1L))
-                    .willReturn(Optional.of(parentCategory));
+            givenSnapshot(parentCategory, childCategory);
 
             CategoryResponse response = categoryService.getCategoryById(1L);
 
             assertThat(response.getId()).isEqualTo(1L);
             assertThat(response.getName()).isEqualTo("상의");
+            verifyNoInteractions(categoryRepository);
+        }
+
+        @Test
+        @DisplayName("실패 - 스냅샷에 없는 카테고리 조회")
+        void getCategoryById_FailNotFound() {
+            givenSnapshot(parentCategory);
+
+            assertThatThrownBy(() -> categoryService.getCategoryById(999L))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.CATEGORY_NOT_FOUND);
         }
 
         @Test
         @DisplayName("성공 - 하위 카테고리들 조회")
         void getDirectChildren_Success() {
-            given(categoryRepository.findActiveById(1L))
-                    .willReturn(Optional.of(parentCategory));
-            given(categoryRepository.findChildrenByParentId(1L))
-                    .willReturn(Arrays.asList(childCategory));
+            givenSnapshot(parentCategory, childCategory);
 
             List<CategoryResponse> children = categoryService.getDirectChildren(1L);
 
@@ -305,11 +640,20 @@ class CategoryServiceTest {
             assertThat(children.get(0).getName()).isEqualTo("티셔츠");
         }
 
+        @Test
+        @DisplayName("실패 - 하위 카테고리 조회 시 부모 없음")
+        void getDirectChildren_FailParentNotFound() {
+            givenSnapshot(parentCategory, childCategory);
+
+            assertThatThrownBy(() -> categoryService.getDirectChildren(999L))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.CATEGORY_PARENT_NOT_FOUND);
+        }
+
         @Test
         @DisplayName("성공 - 루트 카테고리들 조회")
         void getRootCategories_Success() {
-            given(categoryRepository.findRootCategories(Gender.A.name()))
-                    .willReturn(Arrays.asList(parentCategory));
+            givenSnapshot(parentCategory, childCategory);
 
             List<CategoryResponse> roots = categoryService.getRootCategories(Gender.A);
 
@@ -320,8 +664,7 @@ class CategoryServiceTest {
         @Test
         @DisplayName("성공 - 카테고리 트리 조회")
         void getCategoryTree_Success() {
-            given(categoryRepository.findAllActiveWithParent(Gender.A.name()))
-                    .willReturn(Arrays.asList(parentCategory, childCategory));
+            givenSnapshot(parentCategory, childCategory);
 
             List<CategoryResponse> tree = categoryService.getCategoryTree(null, Gender.A);
 
@@ -329,6 +672,113 @@ class CategoryServiceTest {
             assertThat(tree.get(0).getName()).isEqualTo("상의");
             assertThat(tree.get(0).getChildren()).hasSize(1);
             assertThat(tree.get(0).getChildren().get(0).getName()).isEqualTo("티셔츠");
+            verifyNoInteractions(categoryRepository);
+        }
+
+        @Test
+        @DisplayName("성공 - 트리 조회 시 displayOrder 순 정렬 및 성별 필터링")
+        void getCategoryTree_SortedAndFilteredByGender() {
+            Category second = createCategory(3L, "셔츠", parentCategory, 1, "/1/3");
+            Category female = createCategory(4L, "블라우스", parentCategory, 1, "/1/4");
+            setField(childCategory, "displayOrder", 2);
+            setField(female, "gender", Gender.F);
+            givenSnapshot(parentCategory, childCategory, second, female);
+
+            List<CategoryResponse> tree = categoryService.getCategoryTree(1L, Gender.M);
+
+            assertThat(tree).hasSize(1);
+            assertThat(tree.get(0).getChildren()).extracting("name")
+                    .containsExactly("셔츠", "티셔츠");
+        }
+
+        @Test
+        @DisplayName("성공 - 전체 카테고리 조회 (depth, displayOrder 순)")
+        void getAllCategories_Success() {
+            givenSnapshot(childCategory, parentCategory);
+
+            List<CategoryResponse> all = categoryService.getAllCategories(Gender.A);
+
+            assertThat(all).extracting("name").containsExactly("상의", "티셔츠");
+        }
+
+        @Test
+        @DisplayName("성공 - 전체 카테고리 키셋 페이지를 이어 붙이면 전체 목록과 같음")
+        void getAllCategoriesPage_WalksAllPages() {
+            List<Category> categories = createChildren(5);
+            givenSnapshot(categories.toArray(new Category[0]));
+
+            List<String> paged = new ArrayList<>();
+            String cursor = null;
+            int pages = 0;
+            do {
+                CategoryPageResponse page = categoryService.getAllCategoriesPage(Gender.A, cursor, 2);
+                page.getItems().forEach(item -> paged.add(item.getName()));
+                cursor = page.getNextCursor();
+                assertThat(page.isHasNext()).isEqualTo(cursor != null);
+                pages++;
+            } while (cursor != null);
+
+            assertThat(paged).containsExactlyElementsOf(
+                    categoryService.getAllCategories(Gender.A).stream().map(CategoryResponse::getName).collect(Collectors.toList()));
+            assertThat(pages).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("성공 - 커서 위치의 카테고리가 사라져도 다음 카테고리부터 이어짐")
+        void getAllCategoriesPage_CursorNodeRemoved() {
+            List<Category> categories = createChildren(4);
+            givenSnapshot(categories.toArray(new Category[0]));
+            CategoryPageResponse first = categoryService.getAllCategoriesPage(Gender.A, null, 2);
+            assertThat(first.getItems()).extracting("name").containsExactly("상의", "자식1");
+
+            // 첫 페이지 마지막 카테고리(자식1) 삭제 후 다음 페이지
+            categories.remove(1);
+            givenSnapshot(categories.toArray(new Category[0]));
+            CategoryPageResponse second = categoryService.getAllCategoriesPage(Gender.A, first.getNextCursor(), 2);
+
+            assertThat(second.getItems()).extracting("name").containsExactly("자식2", "자식3");
+        }
+
+        @Test
+        @DisplayName("성공 - 성별 필터는 페이지 크기를 채울 때까지 건너뜀")
+        void getAllCategoriesPage_FilteredByGender() {
+            List<Category> categories = createChildren(4);
+            setField(categories.get(1), "gender", Gender.F);
+            setField(categories.get(2), "gender", Gender.F);
+            givenSnapshot(categories.toArray(new Category[0]));
+
+            CategoryPageResponse page = categoryService.getAllCategoriesPage(Gender.M, null, 2);
+
+            assertThat(page.getItems()).extracting("name").containsExactly("상의", "자식3");
+            assertThat(page.isHasNext()).isTrue();
+        }
+
+        @Test
+        @DisplayName("성공 - 하위 카테고리 키셋 페이지")
+        void getDirectChildrenPage_Success() {
+            List<Category> categories = createChildren(3);
+            givenSnapshot(categories.toArray(new Category[0]));
+
+            CategoryPageResponse first = categoryService.getDirectChildrenPage(1L, null, 2);
+            CategoryPageResponse last = categoryService.getDirectChildrenPage(1L, first.getNextCursor(), 2);
+
+            assertThat(first.getItems()).extracting("name").containsExactly("자식1", "자식2");
+            assertThat(last.getItems()).extracting("name").containsExactly("자식3");
+            assertThat(last.getNextCursor()).isNull();
+        }
+
+        @Test
+        @DisplayName("실패 - 잘못된 cursor 나 size")
+        void getAllCategoriesPage_FailInvalidCursorOrSize() {
+            assertThatThrownBy(() -> categoryService.getAllCategoriesPage(Gender.A, "not-a-cursor", 10))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_INPUT_VALUE);
+            assertThatThrownBy(() -> categoryService.getAllCategoriesPage(Gender.A, null, 0))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_INPUT_VALUE);
+            assertThatThrownBy(() -> categoryService.getDirectChildrenPage(1L, null, 1001))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_INPUT_VALUE);
         }
 
         @Test
@@ -336,21 +786,96 @@ class CategoryServiceTest {
         void searchCategories_Success() {
             
             String keyword = "상의";
-            given(categoryRepository.searchByName(keyword))
-                    .willReturn(Arrays.asList(parentCategory));
+            givenSnapshot(parentCategory);
+            CategorySnapshot snapshot = snapshotHolder.current();
+            given(searchIndex.search(keyword, snapshot, 0, 20))
+                    .willReturn(Arrays.asList(CategoryNode.from(parentCategory)));
 
-            List<CategoryResponse> results = categoryService.searchCategories(keyword);
+            List<CategoryResponse> results = categoryService.searchCategories(keyword, SearchMode.NAME, 0, 20);
 
             assertThat(results).hasSize(1);
             assertThat(results.get(0).getName()).isEqualTo("상의");
         }
 
+        @Test
+        @DisplayName("성공 - 초성 검색은 초성 색인 사용")
+        void searchCategories_ChosungMode() {
+            givenSnapshot(childCategory);
+            CategorySnapshot snapshot = snapshotHolder.current();
+            given(searchIndex.searchChosung("ㅌㅅㅊ", snapshot, 0, 20))
+                    .willReturn(Arrays.asList(CategoryNode.from(childCategory)));
+
+            List<CategoryResponse> results = categoryService.searchCategories("ㅌㅅㅊ", SearchMode.CHOSUNG, 0, 20);
+
+            assertThat(results).extracting(CategoryResponse::getName).containsExactly("티셔츠");
+            verify(searchIndex, never()).search(any(), any(), anyInt(), anyInt());
+        }
+
         @Test
         @DisplayName("실패 - 검색 키워드 길이 부족")
         void searchCategories_FailKeywordTooShort() {
-            assertThatThrownBy(() -> categoryService.searchCategories("a"))
+            assertThatThrownBy(() -> categoryService.searchCategories("a", SearchMode.NAME, 0, 20))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_INPUT_VALUE);
+        }
+
+        @Test
+        @DisplayName("실패 - limit/offset 범위 초과")
+        void searchCategories_FailInvalidPaging() {
+            assertThatThrownBy(() -> categoryService.searchCategories("상의", SearchMode.NAME, 0, 0))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_INPUT_VALUE);
+            assertThatThrownBy(() -> categoryService.searchCategories("상의", SearchMode.NAME, 0, 101))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_INPUT_VALUE);
+            assertThatThrownBy(() -> categoryService.searchCategories("상의", SearchMode.NAME, -1, 20))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_INPUT_VALUE);
+            verify(searchIndex, never()).search(any(), any(), anyInt(), anyInt());
+        }
+
+        @Test
+        @DisplayName("실패 - offset + limit 이 검색 범위 상한 초과 (int 범위 끝의 offset 포함)")
+        void searchCategories_FailOffsetTooLarge() {
+            assertThatThrownBy(() -> categoryService.searchCategories("상의", SearchMode.NAME, 9_981, 20))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_INPUT_VALUE);
+            assertThatThrownBy(() -> categoryService.searchCategories("상의", SearchMode.CHOSUNG, Integer.MAX_VALUE, 20))
                     .isInstanceOf(BusinessException.class)
                     .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_INPUT_VALUE);
+            verify(searchIndex, never()).search(any(), any(), anyInt(), anyInt());
+            verify(searchIndex, never()).searchChosung(any(), any(), anyInt(), anyInt());
+        }
+    }
+
+    @Nested
+    @DisplayName("자동완성 테스트")
+    class AutocompleteTests {
+
+        @Test
+        @DisplayName("성공 - 트라이 추천 결과를 이름 경로와 함께 반환")
+        void autocomplete_Success() {
+            given(autocompleteIndex.suggest("반팔", Gender.M, 5))
+                    .willReturn(Arrays.asList(new Suggestion(CategoryNode.from(childCategory), "상의 > 티셔츠")));
+
+            List<AutocompleteResponse> results = categoryService.autocomplete("반팔", Gender.M, 5);
+
+            assertThat(results).hasSize(1);
+            assertThat(results.get(0).getId()).isEqualTo(2L);
+            assertThat(results.get(0).getBreadcrumb()).isEqualTo("상의 > 티셔츠");
+            verifyNoInteractions(categoryRepository);
+        }
+
+        @Test
+        @DisplayName("실패 - 빈 접두어 또는 limit 범위 초과")
+        void autocomplete_FailInvalidInput() {
+            assertThatThrownBy(() -> categoryService.autocomplete(" ", Gender.A, 10))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_INPUT_VALUE);
+            assertThatThrownBy(() -> categoryService.autocomplete("반팔", Gender.A, 11))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_INPUT_VALUE);
+            verify(autocompleteIndex, never()).suggest(any(), any(), anyInt());
         }
     }
 
@@ -377,6 +902,41 @@ class CategoryServiceTest {
         return category;
     }
 
+    /**
+     * 상의(1) 아래 자식1..n (id 2.., displayOrder 1..n)
+     */
+    private List<Category> createChildren(int count) {
+        List<Category> categories = new ArrayList<>();
+        categories.add(parentCategory);
+        for (int i = 1; i <= count; i++) {
+            Category child = createCategory(i + 1L, "자식" + i, parentCategory, 1, "/1/" + (i + 1));
+            setField(child, "displayOrder", i);
+            categories.add(child);
+        }
+        return categories;
+    }
+
+    private void givenSnapshot(Category... categories) {
+        List<CategoryNode> nodes = Arrays.stream(categories)
+                .map(CategoryNode::from)
+                .collect(Collectors.toList());
+        given(snapshotHolder.current()).willReturn(CategorySnapshot.of(1L, nodes));
+    }
+
+    private void setField(Category category, String fieldName, Object value) {
+        try {
+            java.lang.reflect.Field field = Category.class.getDeclaredField(fieldName);
+            field.setAccessible(true);
+            field.set(category, value);
+        } catch (Exception e) {
+        }
+    }
+
+    private DataIntegrityViolationException displayOrderConflict() {
+        return new DataIntegrityViolationException("could not execute statement",
+                new RuntimeException("Unique index or primary key violation: \"UK_CATEGORY_PARENT_DISPLAY_ORDER\""));
+    }
+
     private CategoryRequest createValidRequest() {
         return CategoryRequest.builder()
                 .name("테스트카테고리")
@@ -0,0 +1,104 @@
+package com.musinsa.category.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SiblingOrderPlanner 단위 테스트")
+class SiblingOrderPlannerTest {
+
+    private static final int GAP = SiblingOrderPlanner.ORDER_GAP;
+
+    @Test
+    @DisplayName("간격이 있으면 맨 위로 옮긴 하나만 앞 빈 번호로 이동")
+    void plan_MoveToTopTouchesOneRow() {
+        Map<Long, Integer> keys = gapped(300);
+        List<Long> order = new ArrayList<>(keys.keySet());
+        Collections.rotate(order, 1);
+
+        SiblingOrderPlanner.Plan plan = SiblingOrderPlanner.plan(order, keys, Collections.emptyMap());
+
+        assertThat(plan.isRebalanced()).isFalse();
+        assertThat(plan.getChanges()).containsOnlyKeys(300L);
+        assertThat(plan.getChanges().get(300L)).isBetween(1, GAP - 1);
+    }
+
+    @Test
+    @DisplayName("두 형제 사이로 여러 개를 옮기면 최소 개수만 그 사이에 순서대로 배정")
+    void plan_MoveRunBetweenNeighbors() {
+        Map<Long, Integer> keys = gapped(5);
+        List<Long> order = Arrays.asList(1L, 4L, 5L, 2L, 3L);
+
+        Map<Long, Integer> changes = SiblingOrderPlanner.plan(order, keys, Collections.emptyMap()).getChanges();
+
+        assertThat(changes).hasSize(2);
+        assertThat(sorted(keys, changes)).isEqualTo(order);
+    }
+
+    @Test
+    @DisplayName("빈 번호가 없으면 전체를 간격을 두고 다시 매기고, 비활성 형제는 뒤로")
+    void plan_RebalanceWhenNoGap() {
+        Map<Long, Integer> keys = new LinkedHashMap<>();
+        keys.put(1L, 1);
+        keys.put(2L, 2);
+        keys.put(3L, 3);
+        Map<Long, Integer> pinned = Collections.singletonMap(9L, 4);
+
+        SiblingOrderPlanner.Plan plan = SiblingOrderPlanner.plan(Arrays.asList(3L, 1L, 2L), keys, pinned);
+
+        assertThat(plan.isRebalanced()).isTrue();
+        assertThat(plan.getChanges()).containsEntry(3L, GAP).containsEntry(1L, GAP * 2)
+                .containsEntry(2L, GAP * 3).containsEntry(9L, GAP * 4);
+    }
+
+    @Test
+    @DisplayName("계산한 번호가 비활성 형제의 번호면 다시 매김")
+    void plan_AvoidsPinnedKeys() {
+        Map<Long, Integer> keys = new LinkedHashMap<>();
+        keys.put(1L, 2);
+        keys.put(2L, 4);
+        Map<Long, Integer> pinned = Collections.singletonMap(9L, 1);
+
+        SiblingOrderPlanner.Plan plan = SiblingOrderPlanner.plan(Arrays.asList(2L, 1L), keys, pinned);
+
+        assertThat(new HashSet<>(plan.getChanges().values())).doesNotContain(1);
+    }
+
+    @Test
+    @DisplayName("순서가 같으면 바뀌는 형제 없음")
+    void plan_Unchanged() {
+        Map<Long, Integer> keys = gapped(3);
+
+        SiblingOrderPlanner.Plan plan = SiblingOrderPlanner.plan(new ArrayList<>(keys.keySet()), keys, Collections.emptyMap());
+
+        assertThat(plan.getChanges()).isEmpty();
+        assertThat(plan.isRebalanced()).isFalse();
+    }
+
+    @Test
+    @DisplayName("LIS - 순증가하는 가장 긴 부분 수열 위치")
+    void longestIncreasing() {
+        boolean[] stable = SiblingOrderPlanner.longestIncreasing(new int[]{5, 1, 2, 8, 3, 4});
+
+        assertThat(stable).containsExactly(false, true, true, false, true, true);
+    }
+
+    private List<Long> sorted(Map<Long, Integer> keys, Map<Long, Integer> changes) {
+        Map<Long, Integer> applied = new HashMap<>(keys);
+        applied.putAll(changes);
+        List<Long> ids = new ArrayList<>(applied.keySet());
+        ids.sort(Comparator.comparing(applied::get));
+        return ids;
+    }
+
+    private Map<Long, Integer> gapped(int count) {
+        Map<Long, Integer> keys = new LinkedHashMap<>();
+        for (int i = 1; i <= count; i++) {
+            keys.put((long) i, GAP * i);
+        }
+        return keys;
+    }
+}